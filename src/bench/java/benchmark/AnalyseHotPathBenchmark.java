@@ -0,0 +1,126 @@
+package benchmark;
+
+import burp.AnalyseInfo;
+import burp.BurpExtender;
+import model.HttpMsgInfo;
+import model.LocationTextCache;
+import org.openjdk.jmh.annotations.*;
+import utilbox.TextUtils;
+import utils.AnalyseInfoUtils;
+import utils.CastUtils;
+import utils.JsLiteralLexer;
+import utils.RespWebpackJsParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 响应分析热点路径的耗时 使用 corpus 目录中的 HTML、JSON 和压缩JS样本
+ * mvn -P benchmarks compile exec:exec -Dbenchmark=AnalyseHotPathBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalyseHotPathBenchmark {
+
+    @Param({"index.html", "api.json", "app.js", "vendor.js"})
+    public String corpus;
+
+    private HttpMsgInfo msgInfo;
+    private String reqUrl;
+    private String respBody;
+    private List<String> findUrlList;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkSupport.init();
+        msgInfo = BenchmarkSupport.loadMsgInfo(corpus);
+        reqUrl = msgInfo.getUrlInfo().getRawUrlUsual();
+        respBody = BenchmarkSupport.readCorpus(corpus);
+
+        //URL过滤的输入 与分析流程一致, 由提取的URL和PATH拼接的URL组成
+        Set<String> findUriSet = AnalyseInfo.findUriInfoByRegular(msgInfo);
+        findUriSet = AnalyseInfoUtils.keepAsciiPrintableChars(AnalyseInfoUtils.decodeHtml(findUriSet));
+        Map<String, List> urlOrPathMap = AnalyseInfo.SeparateUrlOrPath(findUriSet);
+        findUrlList = CastUtils.listAddList(urlOrPathMap.get(AnalyseInfo.URL_KEY), AnalyseInfoUtils.concatUrlAddPath(reqUrl, urlOrPathMap.get(AnalyseInfo.PATH_KEY)));
+    }
+
+    /**
+     * 敏感信息提取 每次都重新生成位置文本, 包含响应体的解码
+     */
+    @Benchmark
+    public Object findSensitiveInfoByRules() {
+        return AnalyseInfo.findSensitiveInfoByRules(BurpExtender.FINGER_RULES_COMPILE, new LocationTextCache(msgInfo));
+    }
+
+    @Benchmark
+    public Object findUriInfoByRegular() {
+        return AnalyseInfo.findUriInfoByRegular(msgInfo, new LocationTextCache(msgInfo));
+    }
+
+    @Benchmark
+    public Object filterFindUrls() {
+        return AnalyseInfo.filterFindUrls(reqUrl, findUrlList, false);
+    }
+
+    @Benchmark
+    public Object decodeAll() {
+        return TextUtils.decodeAll(respBody);
+    }
+
+    /**
+     * 完整的单个消息分析流程
+     */
+    @Benchmark
+    public Object analyseMsgInfo() {
+        return AnalyseInfo.analyseMsgInfo(msgInfo);
+    }
+
+    /**
+     * Webpack 分块解析 只对JS样本有意义
+     */
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Fork(1)
+    public static class WebpackParse {
+        @Param({"app.js", "vendor.js"})
+        public String corpus;
+
+        private String respBody;
+        private String scriptUrl;
+        private int[] segments;
+
+        @Setup
+        public void setup() throws IOException {
+            BenchmarkSupport.init();
+            respBody = BenchmarkSupport.readCorpus(corpus);
+            scriptUrl = "https://www.example.com/static/js/" + corpus;
+            segments = JsLiteralLexer.lexJs(respBody);
+        }
+
+        /**
+         * 包含词法分析的完整解析
+         */
+        @Benchmark
+        public Object parseChunkUrls() {
+            return RespWebpackJsParser.parseChunkUrls(respBody, JsLiteralLexer.lexJs(respBody), scriptUrl);
+        }
+
+        /**
+         * 复用词法分析结果 只统计分块地址的解析
+         */
+        @Benchmark
+        public Object parseChunkUrlsLexed() {
+            return RespWebpackJsParser.parseChunkUrls(respBody, segments, scriptUrl);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package benchmark;
+
+import burp.*;
+import com.alibaba.fastjson2.JSON;
+import model.FingerPrintRulesWrapper;
+import model.HttpMsgInfo;
+import org.apache.commons.io.IOUtils;
+import utils.BurpPrintUtils;
+import utils.ConfigUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 基准测试的公共环境 不依赖Burp运行
+ * 使用代理对象模拟 IExtensionHelpers, 加载内置的 finger-important.json 规则, 从 corpus 目录读取响应样本
+ */
+public class BenchmarkSupport {
+    //样本文件对应的请求URL 按后缀区分响应类型
+    private static final String CORPUS_URL_PREFIX = "https://www.target.com/static/";
+
+    private static boolean initialized = false;
+
+    /**
+     * 初始化日志、Burp辅助对象和规则 只执行一次
+     */
+    public static synchronized void init() throws IOException {
+        if (initialized) return;
+
+        //丢弃日志输出
+        PrintWriter nullWriter = new PrintWriter(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+        });
+        new BurpPrintUtils(nullWriter, nullWriter);
+        BurpExtender.SHOW_MSG_LEVEL = BurpPrintUtils.LOG_ERROR;
+
+        //必须在 HttpMsgInfo 和 HttpRespInfo 加载前设置
+        installHelpers();
+
+        //加载默认规则并编译
+        FingerPrintRulesWrapper rulesWrapper = JSON.parseObject(readResource("/conf/" + BurpExtender.configName), FingerPrintRulesWrapper.class);
+        BurpExtender.fingerprintRules = rulesWrapper.getFingerprint();
+        ConfigUtils.reloadConfigArrayListFromRules(BurpExtender.fingerprintRules);
+
+        IProxyScanner.maxPatterChunkSize = BurpExtender.maxPatterChunkSizeDefault;
+        IProxyScanner.maxPatterChunkOverlap = BurpExtender.maxPatterChunkOverlapDefault;
+        IProxyScanner.regexMatchTimeout = BurpExtender.regexMatchTimeoutDefault;
+        IProxyScanner.regexMatchMaxSteps = BurpExtender.regexMatchMaxStepsDefault;
+        IProxyScanner.regexMaxStrikes = BurpExtender.regexMaxStrikesDefault;
+        IProxyScanner.regexLiteralPrefilter = true;
+        //并行匹配和结果缓存会掩盖单次分析的耗时 默认关闭
+        IProxyScanner.parallelAnalyseThreshold = 0;
+        IProxyScanner.analyseCacheSize = 0;
+
+        initialized = true;
+    }
+
+    /**
+     * 根据样本文件生成消息 响应头按样本后缀设置响应类型
+     */
+    public static HttpMsgInfo loadMsgInfo(String corpus) throws IOException {
+        String body = readCorpus(corpus);
+        String mimeType = getMimeType(corpus);
+        String contentType = mimeType.equals("JSON") ? "application/json;charset=UTF-8"
+                : mimeType.equals("HTML") ? "text/html; charset=utf-8" : "application/javascript";
+        byte[] bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+        String headers = "HTTP/1.1 200 OK\r\nServer: nginx\r\nContent-Type: " + contentType + "\r\nContent-Length: " + bodyBytes.length + "\r\n\r\n";
+
+        byte[] headerBytes = headers.getBytes(StandardCharsets.UTF_8);
+        byte[] respBytes = new byte[headerBytes.length + bodyBytes.length];
+        System.arraycopy(headerBytes, 0, respBytes, 0, headerBytes.length);
+        System.arraycopy(bodyBytes, 0, respBytes, headerBytes.length, bodyBytes.length);
+
+        String reqUrl = getCorpusUrl(corpus);
+        byte[] reqBytes = ("GET " + reqUrl.substring(reqUrl.indexOf('/', 8)) + " HTTP/1.1\r\nHost: www.target.com\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+        return new HttpMsgInfo(reqUrl, reqBytes, respBytes, corpus);
+    }
+
+    public static String getCorpusUrl(String corpus) {
+        return CORPUS_URL_PREFIX + corpus;
+    }
+
+    public static String readCorpus(String corpus) throws IOException {
+        return readResource("/corpus/" + corpus);
+    }
+
+    public static String readResource(String path) throws IOException {
+        try (InputStream inputStream = BenchmarkSupport.class.getResourceAsStream(path)) {
+            if (inputStream == null) throw new IOException("resource not found: " + path);
+            return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String getMimeType(String corpus) {
+        if (corpus.endsWith(".json")) return "JSON";
+        if (corpus.endsWith(".html")) return "HTML";
+        return "script";
+    }
+
+    /**
+     * 使用代理对象模拟 Burp 的请求和响应解析 只实现分析流程用到的方法
+     */
+    private static void installHelpers() {
+        IExtensionHelpers helpers = (IExtensionHelpers) Proxy.newProxyInstance(BenchmarkSupport.class.getClassLoader(), new Class[]{IExtensionHelpers.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "analyzeRequest":
+                    return Proxy.newProxyInstance(BenchmarkSupport.class.getClassLoader(), new Class[]{IRequestInfo.class},
+                            (p, m, a) -> m.getName().equals("getMethod") ? "GET" : null);
+                case "analyzeResponse":
+                    return analyzeResponse((byte[]) args[0]);
+                default:
+                    return null;
+            }
+        });
+
+        try {
+            Field helpersField = BurpExtender.class.getDeclaredField("helpers");
+            helpersField.setAccessible(true);
+            helpersField.set(null, helpers);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static IResponseInfo analyzeResponse(byte[] respBytes) {
+        int bodyOffset = respBytes.length;
+        for (int i = 0; i + 3 < respBytes.length; i++) {
+            if (respBytes[i] == '\r' && respBytes[i + 1] == '\n' && respBytes[i + 2] == '\r' && respBytes[i + 3] == '\n') {
+                bodyOffset = i + 4;
+                break;
+            }
+        }
+
+        String headers = new String(respBytes, 0, bodyOffset, StandardCharsets.ISO_8859_1);
+        short statusCode = Short.parseShort(headers.split(" ", 3)[1]);
+        String mimeType = headers.contains("json") ? "JSON" : headers.contains("html") ? "HTML" : "script";
+        int finalBodyOffset = bodyOffset;
+        return (IResponseInfo) Proxy.newProxyInstance(BenchmarkSupport.class.getClassLoader(), new Class[]{IResponseInfo.class}, (p, m, a) -> {
+            switch (m.getName()) {
+                case "getStatusCode":
+                    return statusCode;
+                case "getBodyOffset":
+                    return finalBodyOffset;
+                case "getInferredMimeType":
+                case "getStatedMimeType":
+                    return mimeType;
+                default:
+                    return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package benchmark;
+
+import burp.AnalyseInfo;
+import burp.BurpExtender;
+import burp.IProxyScanner;
+import model.CompiledRuleSet;
+import model.FingerPrintRule;
+import model.LocationTextCache;
+import org.openjdk.jmh.annotations.*;
+import utils.RuleCompileUtils;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比多正则合并扫描和逐条执行正则 规则数量增加时的匹配耗时
+ * 在内置规则之外生成指定数量的随机正则规则, 随机规则几乎不会命中样本
+ * mvn -P benchmarks compile exec:exec -Dbenchmark=CombinedRegexScanBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CombinedRegexScanBenchmark {
+
+    @Param({"index.html", "vendor.js"})
+    public String corpus;
+
+    @Param({"0", "100", "1000"})
+    public int extraRules;
+
+    @Param({"true", "false"})
+    public boolean combined;
+
+    private CompiledRuleSet ruleSet;
+    private LocationTextCache locationTexts;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkSupport.init();
+        IProxyScanner.combinedRegexScan = combined;
+        //关闭预过滤 只比较合并扫描的效果
+        IProxyScanner.regexLiteralPrefilter = false;
+
+        List<FingerPrintRule> rules = new ArrayList<>(BurpExtender.fingerprintRules);
+        Random random = new Random(extraRules);
+        for (int i = 0; i < extraRules; i++) {
+            String word = Integer.toString(random.nextInt(1 << 30), 36);
+            rules.add(new FingerPrintRule("bench", "bench-" + i, false, "any_regular", "body",
+                    Collections.singletonList(word + "_(?:key|token)\\s*[:=]\\s*[\"']([a-z0-9]{16,})"), true, "lower"));
+        }
+        ruleSet = RuleCompileUtils.compileFingerRules(rules);
+        locationTexts = new LocationTextCache(BenchmarkSupport.loadMsgInfo(corpus));
+    }
+
+    @Benchmark
+    public Object findSensitiveInfoByRules() {
+        return AnalyseInfo.findSensitiveInfoByRules(ruleSet, locationTexts);
+    }
+}
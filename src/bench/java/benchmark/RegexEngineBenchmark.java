@@ -0,0 +1,48 @@
+package benchmark;
+
+import burp.AnalyseInfo;
+import burp.BurpExtender;
+import burp.IProxyScanner;
+import model.HttpMsgInfo;
+import model.LocationTextCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比线性正则引擎和JDK正则引擎 规则匹配的耗时
+ * mvn -P benchmarks compile exec:exec -Dbenchmark=RegexEngineBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegexEngineBenchmark {
+
+    @Param({"index.html", "api.json", "app.js", "vendor.js"})
+    public String corpus;
+
+    @Param({"true", "false"})
+    public boolean linear;
+
+    private LocationTextCache locationTexts;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkSupport.init();
+        IProxyScanner.linearRegexEngine = linear;
+        //关闭预过滤 让每条正则都实际执行
+        IProxyScanner.regexLiteralPrefilter = false;
+
+        HttpMsgInfo msgInfo = BenchmarkSupport.loadMsgInfo(corpus);
+        locationTexts = new LocationTextCache(msgInfo);
+    }
+
+    @Benchmark
+    public Object findSensitiveInfoByRules() {
+        return AnalyseInfo.findSensitiveInfoByRules(BurpExtender.FINGER_RULES_COMPILE, locationTexts);
+    }
+}
@@ -0,0 +1,54 @@
+package benchmark;
+
+import EnumType.LocationType;
+import burp.AnalyseInfo;
+import burp.BurpExtender;
+import burp.IProxyScanner;
+import model.LocationTextCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比开启|关闭正则必需字面量预过滤时 规则匹配JS文件的耗时
+ * mvn -P benchmarks compile exec:exec -Dbenchmark=RulePrefilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RulePrefilterBenchmark {
+
+    @Param({"app.js", "vendor.js"})
+    public String corpus;
+
+    @Param({"true", "false"})
+    public boolean prefilter;
+
+    private LocationTextCache locationTexts;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkSupport.init();
+        IProxyScanner.regexLiteralPrefilter = prefilter;
+
+        String body = BenchmarkSupport.readCorpus(corpus);
+        String headers = "HTTP/1.1 200 OK\r\nContent-Type: application/javascript\r\n\r\n";
+        Map<LocationType, String> locationTextMap = new EnumMap<>(LocationType.class);
+        locationTextMap.put(LocationType.PATH, "/static/js/" + corpus);
+        locationTextMap.put(LocationType.BODY, body);
+        locationTextMap.put(LocationType.HEADER, headers);
+        locationTextMap.put(LocationType.RESPONSE, headers + body);
+        locationTexts = new LocationTextCache(locationTextMap);
+    }
+
+    @Benchmark
+    public Object findSensitiveInfoByRules() {
+        return AnalyseInfo.findSensitiveInfoByRules(BurpExtender.FINGER_RULES_COMPILE, locationTexts);
+    }
+}
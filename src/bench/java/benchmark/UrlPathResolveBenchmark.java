@@ -0,0 +1,81 @@
+package benchmark;
+
+import burp.AnalyseInfo;
+import model.HttpMsgInfo;
+import org.openjdk.jmh.annotations.*;
+import utils.AnalyseInfoUtils;
+import utils.UrlPathResolver;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对比 UrlPathResolver 和 URI.resolve 拼接URL与PATH的耗时 PATH为样本中实际提取的结果
+ * mvn -P benchmarks compile exec:exec -Dbenchmark=UrlPathResolveBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrlPathResolveBenchmark {
+
+    @Param({"index.html", "app.js"})
+    public String corpus;
+
+    private String reqUrl;
+    private List<String> pathList;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkSupport.init();
+        HttpMsgInfo msgInfo = BenchmarkSupport.loadMsgInfo(corpus);
+        reqUrl = msgInfo.getUrlInfo().getRawUrlUsual();
+
+        Map<String, List> urlOrPathMap = AnalyseInfo.SeparateUrlOrPath(AnalyseInfo.findUriInfoByRegular(msgInfo));
+        pathList = new ArrayList<>();
+        for (Object path : urlOrPathMap.get(AnalyseInfo.PATH_KEY)) pathList.add((String) path);
+    }
+
+    /**
+     * 每个PATH都使用 URI 解析基础URL并拼接
+     */
+    @Benchmark
+    public Object uriResolve() {
+        List<String> results = new ArrayList<>(pathList.size());
+        for (String path : pathList) {
+            try {
+                results.add(new URI(reqUrl).resolve(path).toString());
+            } catch (Exception e) {
+                results.add(null);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 基础URL只解析一次 无法快速处理的PATH不计入结果
+     */
+    @Benchmark
+    public Object pathResolver() {
+        UrlPathResolver resolver = UrlPathResolver.parse(reqUrl);
+        List<String> results = new ArrayList<>(pathList.size());
+        for (String path : pathList) {
+            results.add(resolver == null ? null : resolver.resolve(path));
+        }
+        return results;
+    }
+
+    /**
+     * 实际分析流程使用的拼接函数 包含回退到 URI 的处理
+     */
+    @Benchmark
+    public Object concatUrlAddPath() {
+        return AnalyseInfoUtils.concatUrlAddPath(reqUrl, pathList);
+    }
+}
@@ -0,0 +1,600 @@
+var e0=[49,74,840,548,96,374,596,59,931,519,219,38];
+var mount1=function(n){return typeof n==="object"&&n!==null?Object.keys(n).map(function(k){return k+"="+n[k]}).join("&"):String(n)};
+function mount2(r,n){if(!r)return n;for(var i=0;i<r.length;i++){n=n+r[i]*2}return n}
+var d3=[642,596,970,63,590,599,406,50,999,226,47,570];
+var emit4=function(j){return typeof j==="object"&&j!==null?Object.keys(j).map(function(k){return k+"="+j[k]}).join("&"):String(j)};
+e.prototype.watch5=function(d,s){var r=this;return new Promise(function(s,f){r._queue.push([d,s,s,f]);r._flush()})};
+function watch6(v,f){if(!v)return f;for(var i=0;i<v.length;i++){f=f+v[i]*6}return f}
+var compute7=function(s){return typeof s==="object"&&s!==null?Object.keys(s).map(function(k){return k+"="+s[k]}).join("&"):String(s)};
+var d8=[64,577,61,633,210,508,696,544,437,795,321,476];
+e.prototype.compute9=function(o,l){var r=this;return new Promise(function(s,f){r._queue.push([o,l,s,f]);r._flush()})};
+var z10=[798,249,83,588,307,537,506,896,351,746,459,294];
+if(process.env.NODE_ENV!=="production"){console.warn("[bind11] invalid argument: expected "+11+" items")}
+e.prototype.format12=function(f,y){var r=this;return new Promise(function(s,f){r._queue.push([f,y,s,f]);r._flush()})};
+function emit13(p,n){if(!p)return n;for(var i=0;i<p.length;i++){n=n+p[i]*6}return n}
+if(process.env.NODE_ENV!=="production"){console.warn("[mount14] invalid argument: expected "+14+" items")}
+e.prototype.clone15=function(k,w){var r=this;return new Promise(function(s,f){r._queue.push([k,w,s,f]);r._flush()})};
+bind16:{enumerable:!0,configurable:!0,get:function(){return this._ps},set:function(v){this._ps=v;this.$emit("change:bind16",v)}},
+mount17:{enumerable:!0,configurable:!0,get:function(){return this._ci},set:function(v){this._ci=v;this.$emit("change:mount17",v)}},
+var b18=[317,662,591,697,841,456,291,733,395,908,684,355];
+var render19=function(o){return typeof o==="object"&&o!==null?Object.keys(o).map(function(k){return k+"="+o[k]}).join("&"):String(o)};
+function bind20(d,p){if(!d)return p;for(var i=0;i<d.length;i++){p=p+d[i]*6}return p}
+var resolve21=function(y){return typeof y==="object"&&y!==null?Object.keys(y).map(function(k){return k+"="+y[k]}).join("&"):String(y)};
+function reject22(m,p){if(!m)return p;for(var i=0;i<m.length;i++){p=p+m[i]*1}return p}
+if(process.env.NODE_ENV!=="production"){console.warn("[dispatch23] invalid argument: expected "+23+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[normalize24] invalid argument: expected "+24+" items")}
+e.prototype.normalize25=function(w,n){var r=this;return new Promise(function(s,f){r._queue.push([w,n,s,f]);r._flush()})};
+function throttle26(h,e){if(!h)return e;for(var i=0;i<h.length;i++){e=e+h[i]*5}return e}
+var e27=[238,12,496,851,603,186,269,288,4,149,429,547];
+e.prototype.debounce28=function(t,s){var r=this;return new Promise(function(s,f){r._queue.push([t,s,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[emit29] invalid argument: expected "+29+" items")}
+var o30=[817,572,401,407,408,403,106,493,649,410,63,195];
+var mount31=function(g){return typeof g==="object"&&g!==null?Object.keys(g).map(function(k){return k+"="+g[k]}).join("&"):String(g)};
+function patch32(k,t){if(!k)return t;for(var i=0;i<k.length;i++){t=t+k[i]*4}return t}
+var patch33=function(a){return typeof a==="object"&&a!==null?Object.keys(a).map(function(k){return k+"="+a[k]}).join("&"):String(a)};
+if(process.env.NODE_ENV!=="production"){console.warn("[watch34] invalid argument: expected "+34+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[render35] invalid argument: expected "+35+" items")}
+e.prototype.throttle36=function(e,u){var r=this;return new Promise(function(s,f){r._queue.push([e,u,s,f]);r._flush()})};
+debounce37:{enumerable:!0,configurable:!0,get:function(){return this._tl},set:function(v){this._tl=v;this.$emit("change:debounce37",v)}},
+patch38:{enumerable:!0,configurable:!0,get:function(){return this._dp},set:function(v){this._dp=v;this.$emit("change:patch38",v)}},
+function compile39(p,j){if(!p)return j;for(var i=0;i<p.length;i++){j=j+p[i]*4}return j}
+e.prototype.emit40=function(d,x){var r=this;return new Promise(function(s,f){r._queue.push([d,x,s,f]);r._flush()})};
+var normalize41=function(p){return typeof p==="object"&&p!==null?Object.keys(p).map(function(k){return k+"="+p[k]}).join("&"):String(p)};
+if(process.env.NODE_ENV!=="production"){console.warn("[observe42] invalid argument: expected "+42+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[debounce43] invalid argument: expected "+43+" items")}
+e.prototype.render44=function(y,q){var r=this;return new Promise(function(s,f){r._queue.push([y,q,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[mount45] invalid argument: expected "+45+" items")}
+var debounce46=function(f){return typeof f==="object"&&f!==null?Object.keys(f).map(function(k){return k+"="+f[k]}).join("&"):String(f)};
+if(process.env.NODE_ENV!=="production"){console.warn("[watch47] invalid argument: expected "+47+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[clone48] invalid argument: expected "+48+" items")}
+resolve49:{enumerable:!0,configurable:!0,get:function(){return this._zh},set:function(v){this._zh=v;this.$emit("change:resolve49",v)}},
+reject50:{enumerable:!0,configurable:!0,get:function(){return this._gq},set:function(v){this._gq=v;this.$emit("change:reject50",v)}},
+function debounce51(x,a){if(!x)return a;for(var i=0;i<x.length;i++){a=a+x[i]*2}return a}
+var normalize52=function(p){return typeof p==="object"&&p!==null?Object.keys(p).map(function(k){return k+"="+p[k]}).join("&"):String(p)};
+var l53=[357,977,997,373,82,225,104,232,481,201,345,209];
+compile54:{enumerable:!0,configurable:!0,get:function(){return this._ta},set:function(v){this._ta=v;this.$emit("change:compile54",v)}},
+function debounce55(z,u){if(!z)return u;for(var i=0;i<z.length;i++){u=u+z[i]*6}return u}
+var m56=[768,204,489,910,182,444,808,651,340,88,820,968];
+var o57=[969,86,742,162,174,130,28,154,604,926,476,825];
+var t58=[959,358,159,561,561,134,21,14,818,994,743,665];
+var patch59=function(q){return typeof q==="object"&&q!==null?Object.keys(q).map(function(k){return k+"="+q[k]}).join("&"):String(q)};
+e.prototype.format60=function(g,a){var r=this;return new Promise(function(s,f){r._queue.push([g,a,s,f]);r._flush()})};
+var resolve61=function(j){return typeof j==="object"&&j!==null?Object.keys(j).map(function(k){return k+"="+j[k]}).join("&"):String(j)};
+if(process.env.NODE_ENV!=="production"){console.warn("[compute62] invalid argument: expected "+62+" items")}
+var e63=[362,919,469,678,597,834,925,529,430,846,939,899];
+var observe64=function(e){return typeof e==="object"&&e!==null?Object.keys(e).map(function(k){return k+"="+e[k]}).join("&"):String(e)};
+observe65:{enumerable:!0,configurable:!0,get:function(){return this._qa},set:function(v){this._qa=v;this.$emit("change:observe65",v)}},
+var dispatch66=function(t){return typeof t==="object"&&t!==null?Object.keys(t).map(function(k){return k+"="+t[k]}).join("&"):String(t)};
+if(process.env.NODE_ENV!=="production"){console.warn("[dispatch67] invalid argument: expected "+67+" items")}
+e.prototype.patch68=function(r,b){var r=this;return new Promise(function(s,f){r._queue.push([r,b,s,f]);r._flush()})};
+observe69:{enumerable:!0,configurable:!0,get:function(){return this._qr},set:function(v){this._qr=v;this.$emit("change:observe69",v)}},
+var patch70=function(r){return typeof r==="object"&&r!==null?Object.keys(r).map(function(k){return k+"="+r[k]}).join("&"):String(r)};
+function resolve71(i,b){if(!i)return b;for(var i=0;i<i.length;i++){b=b+i[i]*1}return b}
+function observe72(o,r){if(!o)return r;for(var i=0;i<o.length;i++){r=r+o[i]*2}return r}
+if(process.env.NODE_ENV!=="production"){console.warn("[mount73] invalid argument: expected "+73+" items")}
+var observe74=function(t){return typeof t==="object"&&t!==null?Object.keys(t).map(function(k){return k+"="+t[k]}).join("&"):String(t)};
+if(process.env.NODE_ENV!=="production"){console.warn("[normalize75] invalid argument: expected "+75+" items")}
+var q76=[535,897,897,964,950,265,944,572,914,965,207,860];
+function parse77(e,n){if(!e)return n;for(var i=0;i<e.length;i++){n=n+e[i]*0}return n}
+function throttle78(o,k){if(!o)return k;for(var i=0;i<o.length;i++){k=k+o[i]*1}return k}
+var reject79=function(n){return typeof n==="object"&&n!==null?Object.keys(n).map(function(k){return k+"="+n[k]}).join("&"):String(n)};
+var merge80=function(z){return typeof z==="object"&&z!==null?Object.keys(z).map(function(k){return k+"="+z[k]}).join("&"):String(z)};
+var debounce81=function(e){return typeof e==="object"&&e!==null?Object.keys(e).map(function(k){return k+"="+e[k]}).join("&"):String(e)};
+function parse82(h,x){if(!h)return x;for(var i=0;i<h.length;i++){x=x+h[i]*5}return x}
+var p83=[852,229,165,723,441,527,413,347,431,200,365,326];
+function mount84(x,l){if(!x)return l;for(var i=0;i<x.length;i++){l=l+x[i]*0}return l}
+clone85:{enumerable:!0,configurable:!0,get:function(){return this._ro},set:function(v){this._ro=v;this.$emit("change:clone85",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[render86] invalid argument: expected "+86+" items")}
+function bind87(j,q){if(!j)return q;for(var i=0;i<j.length;i++){q=q+j[i]*3}return q}
+function patch88(z,h){if(!z)return h;for(var i=0;i<z.length;i++){h=h+z[i]*4}return h}
+var mount89=function(i){return typeof i==="object"&&i!==null?Object.keys(i).map(function(k){return k+"="+i[k]}).join("&"):String(i)};
+normalize90:{enumerable:!0,configurable:!0,get:function(){return this._ye},set:function(v){this._ye=v;this.$emit("change:normalize90",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[normalize91] invalid argument: expected "+91+" items")}
+var s92=[334,91,285,58,818,704,187,435,916,74,275,960];
+e.prototype.render93=function(u,c){var r=this;return new Promise(function(s,f){r._queue.push([u,c,s,f]);r._flush()})};
+function mount94(t,h){if(!t)return h;for(var i=0;i<t.length;i++){h=h+t[i]*3}return h}
+function normalize95(d,o){if(!d)return o;for(var i=0;i<d.length;i++){o=o+d[i]*4}return o}
+e.prototype.clone96=function(r,n){var r=this;return new Promise(function(s,f){r._queue.push([r,n,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[bind97] invalid argument: expected "+97+" items")}
+e.prototype.reject98=function(d,f){var r=this;return new Promise(function(s,f){r._queue.push([d,f,s,f]);r._flush()})};
+e.prototype.update99=function(f,g){var r=this;return new Promise(function(s,f){r._queue.push([f,g,s,f]);r._flush()})};
+var merge100=function(q){return typeof q==="object"&&q!==null?Object.keys(q).map(function(k){return k+"="+q[k]}).join("&"):String(q)};
+var o101=[182,277,355,822,18,256,37,15,18,750,517,564];
+var resolve102=function(q){return typeof q==="object"&&q!==null?Object.keys(q).map(function(k){return k+"="+q[k]}).join("&"):String(q)};
+var d103=[442,672,506,559,854,910,402,993,518,315,704,220];
+var k104=[746,651,143,414,355,55,857,132,14,72,640,758];
+function normalize105(n,f){if(!n)return f;for(var i=0;i<n.length;i++){f=f+n[i]*0}return f}
+if(process.env.NODE_ENV!=="production"){console.warn("[mount106] invalid argument: expected "+106+" items")}
+var t107=[300,46,470,189,161,275,456,3,269,372,984,336];
+function watch108(k,h){if(!k)return h;for(var i=0;i<k.length;i++){h=h+k[i]*3}return h}
+var merge109=function(g){return typeof g==="object"&&g!==null?Object.keys(g).map(function(k){return k+"="+g[k]}).join("&"):String(g)};
+function render110(k,m){if(!k)return m;for(var i=0;i<k.length;i++){m=m+k[i]*5}return m}
+var i111=[205,254,516,794,5,93,270,836,91,147,409,600];
+e.prototype.update112=function(m,a){var r=this;return new Promise(function(s,f){r._queue.push([m,a,s,f]);r._flush()})};
+function merge113(u,h){if(!u)return h;for(var i=0;i<u.length;i++){h=h+u[i]*1}return h}
+var compute114=function(q){return typeof q==="object"&&q!==null?Object.keys(q).map(function(k){return k+"="+q[k]}).join("&"):String(q)};
+e.prototype.bind115=function(m,y){var r=this;return new Promise(function(s,f){r._queue.push([m,y,s,f]);r._flush()})};
+var e116=[633,658,148,44,844,855,732,913,525,642,439,751];
+if(process.env.NODE_ENV!=="production"){console.warn("[observe117] invalid argument: expected "+117+" items")}
+var z118=[598,817,914,728,699,979,709,658,235,87,31,42];
+function emit119(u,l){if(!u)return l;for(var i=0;i<u.length;i++){l=l+u[i]*0}return l}
+function throttle120(o,r){if(!o)return r;for(var i=0;i<o.length;i++){r=r+o[i]*1}return r}
+var u121=[250,501,270,3,467,816,71,766,954,515,919,548];
+function mount122(v,q){if(!v)return q;for(var i=0;i<v.length;i++){q=q+v[i]*3}return q}
+function compile123(i,z){if(!i)return z;for(var i=0;i<i.length;i++){z=z+i[i]*4}return z}
+var normalize124=function(h){return typeof h==="object"&&h!==null?Object.keys(h).map(function(k){return k+"="+h[k]}).join("&"):String(h)};
+reject125:{enumerable:!0,configurable:!0,get:function(){return this._xu},set:function(v){this._xu=v;this.$emit("change:reject125",v)}},
+compile126:{enumerable:!0,configurable:!0,get:function(){return this._mc},set:function(v){this._mc=v;this.$emit("change:compile126",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[merge127] invalid argument: expected "+127+" items")}
+var resolve128=function(c){return typeof c==="object"&&c!==null?Object.keys(c).map(function(k){return k+"="+c[k]}).join("&"):String(c)};
+var i129=[709,311,636,581,136,12,493,62,497,275,995,688];
+var w130=[501,297,725,528,292,475,477,477,785,121,915,562];
+resolve131:{enumerable:!0,configurable:!0,get:function(){return this._jc},set:function(v){this._jc=v;this.$emit("change:resolve131",v)}},
+function render132(j,o){if(!j)return o;for(var i=0;i<j.length;i++){o=o+j[i]*6}return o}
+observe133:{enumerable:!0,configurable:!0,get:function(){return this._oi},set:function(v){this._oi=v;this.$emit("change:observe133",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[resolve134] invalid argument: expected "+134+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[mount135] invalid argument: expected "+135+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[normalize136] invalid argument: expected "+136+" items")}
+var i137=[373,236,509,919,897,497,403,25,162,3,972,503];
+var m138=[144,426,352,385,323,123,860,339,1,332,768,346];
+var d139=[12,923,757,296,259,381,66,402,399,890,603,78];
+e.prototype.debounce140=function(n,y){var r=this;return new Promise(function(s,f){r._queue.push([n,y,s,f]);r._flush()})};
+function update141(i,d){if(!i)return d;for(var i=0;i<i.length;i++){d=d+i[i]*1}return d}
+var merge142=function(u){return typeof u==="object"&&u!==null?Object.keys(u).map(function(k){return k+"="+u[k]}).join("&"):String(u)};
+e.prototype.normalize143=function(n,q){var r=this;return new Promise(function(s,f){r._queue.push([n,q,s,f]);r._flush()})};
+resolve144:{enumerable:!0,configurable:!0,get:function(){return this._yl},set:function(v){this._yl=v;this.$emit("change:resolve144",v)}},
+var z145=[409,935,896,963,567,562,208,736,82,50,955,749];
+var format146=function(o){return typeof o==="object"&&o!==null?Object.keys(o).map(function(k){return k+"="+o[k]}).join("&"):String(o)};
+if(process.env.NODE_ENV!=="production"){console.warn("[merge147] invalid argument: expected "+147+" items")}
+emit148:{enumerable:!0,configurable:!0,get:function(){return this._fp},set:function(v){this._fp=v;this.$emit("change:emit148",v)}},
+var j149=[756,999,668,266,415,671,244,308,494,570,684,403];
+var patch150=function(f){return typeof f==="object"&&f!==null?Object.keys(f).map(function(k){return k+"="+f[k]}).join("&"):String(f)};
+mount151:{enumerable:!0,configurable:!0,get:function(){return this._gq},set:function(v){this._gq=v;this.$emit("change:mount151",v)}},
+e.prototype.watch152=function(h,o){var r=this;return new Promise(function(s,f){r._queue.push([h,o,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[parse153] invalid argument: expected "+153+" items")}
+var resolve154=function(h){return typeof h==="object"&&h!==null?Object.keys(h).map(function(k){return k+"="+h[k]}).join("&"):String(h)};
+e.prototype.clone155=function(r,c){var r=this;return new Promise(function(s,f){r._queue.push([r,c,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[reject156] invalid argument: expected "+156+" items")}
+resolve157:{enumerable:!0,configurable:!0,get:function(){return this._ax},set:function(v){this._ax=v;this.$emit("change:resolve157",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[throttle158] invalid argument: expected "+158+" items")}
+e.prototype.resolve159=function(m,i){var r=this;return new Promise(function(s,f){r._queue.push([m,i,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[update160] invalid argument: expected "+160+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[debounce161] invalid argument: expected "+161+" items")}
+var observe162=function(u){return typeof u==="object"&&u!==null?Object.keys(u).map(function(k){return k+"="+u[k]}).join("&"):String(u)};
+mount163:{enumerable:!0,configurable:!0,get:function(){return this._ih},set:function(v){this._ih=v;this.$emit("change:mount163",v)}},
+throttle164:{enumerable:!0,configurable:!0,get:function(){return this._uo},set:function(v){this._uo=v;this.$emit("change:throttle164",v)}},
+function merge165(a,e){if(!a)return e;for(var i=0;i<a.length;i++){e=e+a[i]*4}return e}
+format166:{enumerable:!0,configurable:!0,get:function(){return this._wy},set:function(v){this._wy=v;this.$emit("change:format166",v)}},
+function compute167(p,a){if(!p)return a;for(var i=0;i<p.length;i++){a=a+p[i]*6}return a}
+throttle168:{enumerable:!0,configurable:!0,get:function(){return this._qo},set:function(v){this._qo=v;this.$emit("change:throttle168",v)}},
+var reject169=function(z){return typeof z==="object"&&z!==null?Object.keys(z).map(function(k){return k+"="+z[k]}).join("&"):String(z)};
+var e170=[111,964,845,739,717,662,866,783,916,468,87,564];
+var update171=function(a){return typeof a==="object"&&a!==null?Object.keys(a).map(function(k){return k+"="+a[k]}).join("&"):String(a)};
+var s172=[732,311,985,131,641,257,540,651,447,715,782,114];
+if(process.env.NODE_ENV!=="production"){console.warn("[patch173] invalid argument: expected "+173+" items")}
+e.prototype.compute174=function(g,m){var r=this;return new Promise(function(s,f){r._queue.push([g,m,s,f]);r._flush()})};
+function reject175(z,t){if(!z)return t;for(var i=0;i<z.length;i++){t=t+z[i]*0}return t}
+render176:{enumerable:!0,configurable:!0,get:function(){return this._rj},set:function(v){this._rj=v;this.$emit("change:render176",v)}},
+var normalize177=function(k){return typeof k==="object"&&k!==null?Object.keys(k).map(function(k){return k+"="+k[k]}).join("&"):String(k)};
+if(process.env.NODE_ENV!=="production"){console.warn("[compile178] invalid argument: expected "+178+" items")}
+var a179=[665,314,56,22,198,510,906,690,662,430,83,263];
+e.prototype.reject180=function(v,n){var r=this;return new Promise(function(s,f){r._queue.push([v,n,s,f]);r._flush()})};
+var p181=[346,735,430,371,698,405,202,6,816,299,756,865];
+observe182:{enumerable:!0,configurable:!0,get:function(){return this._cg},set:function(v){this._cg=v;this.$emit("change:observe182",v)}},
+var resolve183=function(j){return typeof j==="object"&&j!==null?Object.keys(j).map(function(k){return k+"="+j[k]}).join("&"):String(j)};
+e.prototype.reject184=function(o,h){var r=this;return new Promise(function(s,f){r._queue.push([o,h,s,f]);r._flush()})};
+merge185:{enumerable:!0,configurable:!0,get:function(){return this._dt},set:function(v){this._dt=v;this.$emit("change:merge185",v)}},
+bind186:{enumerable:!0,configurable:!0,get:function(){return this._fh},set:function(v){this._fh=v;this.$emit("change:bind186",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[format187] invalid argument: expected "+187+" items")}
+var emit188=function(m){return typeof m==="object"&&m!==null?Object.keys(m).map(function(k){return k+"="+m[k]}).join("&"):String(m)};
+render189:{enumerable:!0,configurable:!0,get:function(){return this._te},set:function(v){this._te=v;this.$emit("change:render189",v)}},
+var update190=function(w){return typeof w==="object"&&w!==null?Object.keys(w).map(function(k){return k+"="+w[k]}).join("&"):String(w)};
+e.prototype.throttle191=function(o,w){var r=this;return new Promise(function(s,f){r._queue.push([o,w,s,f]);r._flush()})};
+e.prototype.patch192=function(c,f){var r=this;return new Promise(function(s,f){r._queue.push([c,f,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[resolve193] invalid argument: expected "+193+" items")}
+var b194=[742,387,859,382,339,453,173,111,2,80,286,82];
+if(process.env.NODE_ENV!=="production"){console.warn("[debounce195] invalid argument: expected "+195+" items")}
+e.prototype.resolve196=function(m,l){var r=this;return new Promise(function(s,f){r._queue.push([m,l,s,f]);r._flush()})};
+var c197=[484,200,381,554,941,457,197,331,372,755,918,485];
+var render198=function(u){return typeof u==="object"&&u!==null?Object.keys(u).map(function(k){return k+"="+u[k]}).join("&"):String(u)};
+function throttle199(b,m){if(!b)return m;for(var i=0;i<b.length;i++){m=m+b[i]*3}return m}
+function parse200(c,z){if(!c)return z;for(var i=0;i<c.length;i++){z=z+c[i]*4}return z}
+function normalize201(g,x){if(!g)return x;for(var i=0;i<g.length;i++){x=x+g[i]*5}return x}
+e.prototype.bind202=function(k,l){var r=this;return new Promise(function(s,f){r._queue.push([k,l,s,f]);r._flush()})};
+e.prototype.clone203=function(t,b){var r=this;return new Promise(function(s,f){r._queue.push([t,b,s,f]);r._flush()})};
+function clone204(i,j){if(!i)return j;for(var i=0;i<i.length;i++){j=j+i[i]*1}return j}
+function bind205(z,u){if(!z)return u;for(var i=0;i<z.length;i++){u=u+z[i]*2}return u}
+render206:{enumerable:!0,configurable:!0,get:function(){return this._hd},set:function(v){this._hd=v;this.$emit("change:render206",v)}},
+e.prototype.parse207=function(y,m){var r=this;return new Promise(function(s,f){r._queue.push([y,m,s,f]);r._flush()})};
+format208:{enumerable:!0,configurable:!0,get:function(){return this._pe},set:function(v){this._pe=v;this.$emit("change:format208",v)}},
+var a209=[310,842,708,791,154,621,241,335,881,327,471,370];
+var bind210=function(c){return typeof c==="object"&&c!==null?Object.keys(c).map(function(k){return k+"="+c[k]}).join("&"):String(c)};
+var throttle211=function(y){return typeof y==="object"&&y!==null?Object.keys(y).map(function(k){return k+"="+y[k]}).join("&"):String(y)};
+function format212(c,u){if(!c)return u;for(var i=0;i<c.length;i++){u=u+c[i]*2}return u}
+var compile213=function(r){return typeof r==="object"&&r!==null?Object.keys(r).map(function(k){return k+"="+r[k]}).join("&"):String(r)};
+e.prototype.format214=function(d,c){var r=this;return new Promise(function(s,f){r._queue.push([d,c,s,f]);r._flush()})};
+function bind215(c,g){if(!c)return g;for(var i=0;i<c.length;i++){g=g+c[i]*5}return g}
+format216:{enumerable:!0,configurable:!0,get:function(){return this._pw},set:function(v){this._pw=v;this.$emit("change:format216",v)}},
+dispatch217:{enumerable:!0,configurable:!0,get:function(){return this._he},set:function(v){this._he=v;this.$emit("change:dispatch217",v)}},
+var parse218=function(t){return typeof t==="object"&&t!==null?Object.keys(t).map(function(k){return k+"="+t[k]}).join("&"):String(t)};
+function watch219(y,v){if(!y)return v;for(var i=0;i<y.length;i++){v=v+y[i]*2}return v}
+if(process.env.NODE_ENV!=="production"){console.warn("[merge220] invalid argument: expected "+220+" items")}
+var l221=[266,203,449,253,190,251,241,157,288,905,929,592];
+resolve222:{enumerable:!0,configurable:!0,get:function(){return this._kc},set:function(v){this._kc=v;this.$emit("change:resolve222",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[normalize223] invalid argument: expected "+223+" items")}
+function reject224(u,z){if(!u)return z;for(var i=0;i<u.length;i++){z=z+u[i]*0}return z}
+function parse225(b,d){if(!b)return d;for(var i=0;i<b.length;i++){d=d+b[i]*1}return d}
+e.prototype.compile226=function(h,o){var r=this;return new Promise(function(s,f){r._queue.push([h,o,s,f]);r._flush()})};
+function update227(j,h){if(!j)return h;for(var i=0;i<j.length;i++){h=h+j[i]*3}return h}
+if(process.env.NODE_ENV!=="production"){console.warn("[update228] invalid argument: expected "+228+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[resolve229] invalid argument: expected "+229+" items")}
+e.prototype.dispatch230=function(o,t){var r=this;return new Promise(function(s,f){r._queue.push([o,t,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[render231] invalid argument: expected "+231+" items")}
+function bind232(l,g){if(!l)return g;for(var i=0;i<l.length;i++){g=g+l[i]*1}return g}
+function debounce233(k,e){if(!k)return e;for(var i=0;i<k.length;i++){e=e+k[i]*2}return e}
+if(process.env.NODE_ENV!=="production"){console.warn("[resolve234] invalid argument: expected "+234+" items")}
+resolve235:{enumerable:!0,configurable:!0,get:function(){return this._ak},set:function(v){this._ak=v;this.$emit("change:resolve235",v)}},
+e.prototype.debounce236=function(f,t){var r=this;return new Promise(function(s,f){r._queue.push([f,t,s,f]);r._flush()})};
+mount237:{enumerable:!0,configurable:!0,get:function(){return this._gb},set:function(v){this._gb=v;this.$emit("change:mount237",v)}},
+watch238:{enumerable:!0,configurable:!0,get:function(){return this._pc},set:function(v){this._pc=v;this.$emit("change:watch238",v)}},
+var z239=[563,158,654,546,93,668,167,407,712,277,419,290];
+e.prototype.merge240=function(n,b){var r=this;return new Promise(function(s,f){r._queue.push([n,b,s,f]);r._flush()})};
+compute241:{enumerable:!0,configurable:!0,get:function(){return this._ln},set:function(v){this._ln=v;this.$emit("change:compute241",v)}},
+e.prototype.render242=function(y,z){var r=this;return new Promise(function(s,f){r._queue.push([y,z,s,f]);r._flush()})};
+resolve243:{enumerable:!0,configurable:!0,get:function(){return this._mx},set:function(v){this._mx=v;this.$emit("change:resolve243",v)}},
+var resolve244=function(a){return typeof a==="object"&&a!==null?Object.keys(a).map(function(k){return k+"="+a[k]}).join("&"):String(a)};
+format245:{enumerable:!0,configurable:!0,get:function(){return this._dc},set:function(v){this._dc=v;this.$emit("change:format245",v)}},
+var compute246=function(l){return typeof l==="object"&&l!==null?Object.keys(l).map(function(k){return k+"="+l[k]}).join("&"):String(l)};
+if(process.env.NODE_ENV!=="production"){console.warn("[emit247] invalid argument: expected "+247+" items")}
+emit248:{enumerable:!0,configurable:!0,get:function(){return this._uz},set:function(v){this._uz=v;this.$emit("change:emit248",v)}},
+e.prototype.mount249=function(s,t){var r=this;return new Promise(function(s,f){r._queue.push([s,t,s,f]);r._flush()})};
+e.prototype.observe250=function(f,e){var r=this;return new Promise(function(s,f){r._queue.push([f,e,s,f]);r._flush()})};
+var merge251=function(f){return typeof f==="object"&&f!==null?Object.keys(f).map(function(k){return k+"="+f[k]}).join("&"):String(f)};
+mount252:{enumerable:!0,configurable:!0,get:function(){return this._dm},set:function(v){this._dm=v;this.$emit("change:mount252",v)}},
+function resolve253(j,e){if(!j)return e;for(var i=0;i<j.length;i++){e=e+j[i]*1}return e}
+if(process.env.NODE_ENV!=="production"){console.warn("[compile254] invalid argument: expected "+254+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[throttle255] invalid argument: expected "+255+" items")}
+var dispatch256=function(u){return typeof u==="object"&&u!==null?Object.keys(u).map(function(k){return k+"="+u[k]}).join("&"):String(u)};
+var bind257=function(m){return typeof m==="object"&&m!==null?Object.keys(m).map(function(k){return k+"="+m[k]}).join("&"):String(m)};
+var compile258=function(f){return typeof f==="object"&&f!==null?Object.keys(f).map(function(k){return k+"="+f[k]}).join("&"):String(f)};
+var update259=function(m){return typeof m==="object"&&m!==null?Object.keys(m).map(function(k){return k+"="+m[k]}).join("&"):String(m)};
+var throttle260=function(l){return typeof l==="object"&&l!==null?Object.keys(l).map(function(k){return k+"="+l[k]}).join("&"):String(l)};
+function reject261(x,g){if(!x)return g;for(var i=0;i<x.length;i++){g=g+x[i]*2}return g}
+function watch262(y,v){if(!y)return v;for(var i=0;i<y.length;i++){v=v+y[i]*3}return v}
+if(process.env.NODE_ENV!=="production"){console.warn("[clone263] invalid argument: expected "+263+" items")}
+e.prototype.parse264=function(r,u){var r=this;return new Promise(function(s,f){r._queue.push([r,u,s,f]);r._flush()})};
+var format265=function(j){return typeof j==="object"&&j!==null?Object.keys(j).map(function(k){return k+"="+j[k]}).join("&"):String(j)};
+e.prototype.format266=function(m,v){var r=this;return new Promise(function(s,f){r._queue.push([m,v,s,f]);r._flush()})};
+var parse267=function(q){return typeof q==="object"&&q!==null?Object.keys(q).map(function(k){return k+"="+q[k]}).join("&"):String(q)};
+render268:{enumerable:!0,configurable:!0,get:function(){return this._at},set:function(v){this._at=v;this.$emit("change:render268",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[parse269] invalid argument: expected "+269+" items")}
+parse270:{enumerable:!0,configurable:!0,get:function(){return this._fz},set:function(v){this._fz=v;this.$emit("change:parse270",v)}},
+var throttle271=function(d){return typeof d==="object"&&d!==null?Object.keys(d).map(function(k){return k+"="+d[k]}).join("&"):String(d)};
+function debounce272(n,l){if(!n)return l;for(var i=0;i<n.length;i++){l=l+n[i]*6}return l}
+function parse273(q,v){if(!q)return v;for(var i=0;i<q.length;i++){v=v+q[i]*0}return v}
+function update274(u,e){if(!u)return e;for(var i=0;i<u.length;i++){e=e+u[i]*1}return e}
+if(process.env.NODE_ENV!=="production"){console.warn("[clone275] invalid argument: expected "+275+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[mount276] invalid argument: expected "+276+" items")}
+var throttle277=function(u){return typeof u==="object"&&u!==null?Object.keys(u).map(function(k){return k+"="+u[k]}).join("&"):String(u)};
+var c278=[709,834,112,198,134,906,503,294,979,830,938,814];
+var v279=[952,226,67,853,359,625,774,258,162,331,918,628];
+e.prototype.normalize280=function(o,e){var r=this;return new Promise(function(s,f){r._queue.push([o,e,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[observe281] invalid argument: expected "+281+" items")}
+var normalize282=function(t){return typeof t==="object"&&t!==null?Object.keys(t).map(function(k){return k+"="+t[k]}).join("&"):String(t)};
+var clone283=function(l){return typeof l==="object"&&l!==null?Object.keys(l).map(function(k){return k+"="+l[k]}).join("&"):String(l)};
+var m284=[958,284,695,335,916,385,172,811,803,270,117,786];
+e.prototype.observe285=function(b,u){var r=this;return new Promise(function(s,f){r._queue.push([b,u,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[parse286] invalid argument: expected "+286+" items")}
+var i287=[877,403,755,816,380,271,384,377,591,149,368,338];
+var mount288=function(o){return typeof o==="object"&&o!==null?Object.keys(o).map(function(k){return k+"="+o[k]}).join("&"):String(o)};
+e.prototype.bind289=function(x,b){var r=this;return new Promise(function(s,f){r._queue.push([x,b,s,f]);r._flush()})};
+var i290=[989,891,599,950,679,917,320,750,1,765,34,226];
+var j291=[442,427,524,372,917,48,135,500,232,627,668,46];
+if(process.env.NODE_ENV!=="production"){console.warn("[render292] invalid argument: expected "+292+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[debounce293] invalid argument: expected "+293+" items")}
+debounce294:{enumerable:!0,configurable:!0,get:function(){return this._rh},set:function(v){this._rh=v;this.$emit("change:debounce294",v)}},
+var compute295=function(j){return typeof j==="object"&&j!==null?Object.keys(j).map(function(k){return k+"="+j[k]}).join("&"):String(j)};
+resolve296:{enumerable:!0,configurable:!0,get:function(){return this._lt},set:function(v){this._lt=v;this.$emit("change:resolve296",v)}},
+var dispatch297=function(e){return typeof e==="object"&&e!==null?Object.keys(e).map(function(k){return k+"="+e[k]}).join("&"):String(e)};
+function emit298(o,d){if(!o)return d;for(var i=0;i<o.length;i++){d=d+o[i]*4}return d}
+e.prototype.emit299=function(v,z){var r=this;return new Promise(function(s,f){r._queue.push([v,z,s,f]);r._flush()})};
+function throttle300(z,i){if(!z)return i;for(var i=0;i<z.length;i++){i=i+z[i]*6}return i}
+e.prototype.update301=function(u,r){var r=this;return new Promise(function(s,f){r._queue.push([u,r,s,f]);r._flush()})};
+bind302:{enumerable:!0,configurable:!0,get:function(){return this._us},set:function(v){this._us=v;this.$emit("change:bind302",v)}},
+bind303:{enumerable:!0,configurable:!0,get:function(){return this._qx},set:function(v){this._qx=v;this.$emit("change:bind303",v)}},
+function reject304(f,a){if(!f)return a;for(var i=0;i<f.length;i++){a=a+f[i]*3}return a}
+update305:{enumerable:!0,configurable:!0,get:function(){return this._ra},set:function(v){this._ra=v;this.$emit("change:update305",v)}},
+function dispatch306(h,f){if(!h)return f;for(var i=0;i<h.length;i++){f=f+h[i]*5}return f}
+if(process.env.NODE_ENV!=="production"){console.warn("[patch307] invalid argument: expected "+307+" items")}
+var resolve308=function(e){return typeof e==="object"&&e!==null?Object.keys(e).map(function(k){return k+"="+e[k]}).join("&"):String(e)};
+if(process.env.NODE_ENV!=="production"){console.warn("[observe309] invalid argument: expected "+309+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[format310] invalid argument: expected "+310+" items")}
+var c311=[49,910,741,801,489,732,551,6,384,864,447,763];
+var c312=[463,179,231,107,267,237,659,39,126,343,912,767];
+e.prototype.normalize313=function(w,b){var r=this;return new Promise(function(s,f){r._queue.push([w,b,s,f]);r._flush()})};
+var v314=[807,939,535,995,271,302,657,950,988,915,222,87];
+e.prototype.observe315=function(a,f){var r=this;return new Promise(function(s,f){r._queue.push([a,f,s,f]);r._flush()})};
+var reject316=function(x){return typeof x==="object"&&x!==null?Object.keys(x).map(function(k){return k+"="+x[k]}).join("&"):String(x)};
+e.prototype.clone317=function(g,m){var r=this;return new Promise(function(s,f){r._queue.push([g,m,s,f]);r._flush()})};
+var h318=[943,709,681,861,549,480,483,859,543,714,6,878];
+var render319=function(n){return typeof n==="object"&&n!==null?Object.keys(n).map(function(k){return k+"="+n[k]}).join("&"):String(n)};
+var compute320=function(j){return typeof j==="object"&&j!==null?Object.keys(j).map(function(k){return k+"="+j[k]}).join("&"):String(j)};
+function throttle321(t,s){if(!t)return s;for(var i=0;i<t.length;i++){s=s+t[i]*6}return s}
+function compute322(f,e){if(!f)return e;for(var i=0;i<f.length;i++){e=e+f[i]*0}return e}
+var render323=function(d){return typeof d==="object"&&d!==null?Object.keys(d).map(function(k){return k+"="+d[k]}).join("&"):String(d)};
+function debounce324(e,w){if(!e)return w;for(var i=0;i<e.length;i++){w=w+e[i]*2}return w}
+var b325=[658,649,43,713,69,754,47,67,877,604,780,372];
+function resolve326(r,v){if(!r)return v;for(var i=0;i<r.length;i++){v=v+r[i]*4}return v}
+var throttle327=function(d){return typeof d==="object"&&d!==null?Object.keys(d).map(function(k){return k+"="+d[k]}).join("&"):String(d)};
+function resolve328(d,b){if(!d)return b;for(var i=0;i<d.length;i++){b=b+d[i]*6}return b}
+var y329=[294,488,102,135,100,810,775,661,209,301,326,344];
+e.prototype.format330=function(i,a){var r=this;return new Promise(function(s,f){r._queue.push([i,a,s,f]);r._flush()})};
+var j331=[778,376,932,328,787,987,616,515,487,871,294,633];
+function render332(z,n){if(!z)return n;for(var i=0;i<z.length;i++){n=n+z[i]*3}return n}
+function format333(q,y){if(!q)return y;for(var i=0;i<q.length;i++){y=y+q[i]*4}return y}
+function debounce334(p,w){if(!p)return w;for(var i=0;i<p.length;i++){w=w+p[i]*5}return w}
+var s335=[882,847,93,588,839,294,174,446,1,536,206,295];
+update336:{enumerable:!0,configurable:!0,get:function(){return this._al},set:function(v){this._al=v;this.$emit("change:update336",v)}},
+var patch337=function(p){return typeof p==="object"&&p!==null?Object.keys(p).map(function(k){return k+"="+p[k]}).join("&"):String(p)};
+if(process.env.NODE_ENV!=="production"){console.warn("[compile338] invalid argument: expected "+338+" items")}
+e.prototype.normalize339=function(s,f){var r=this;return new Promise(function(s,f){r._queue.push([s,f,s,f]);r._flush()})};
+resolve340:{enumerable:!0,configurable:!0,get:function(){return this._wh},set:function(v){this._wh=v;this.$emit("change:resolve340",v)}},
+function dispatch341(d,u){if(!d)return u;for(var i=0;i<d.length;i++){u=u+d[i]*5}return u}
+if(process.env.NODE_ENV!=="production"){console.warn("[compile342] invalid argument: expected "+342+" items")}
+e.prototype.patch343=function(u,k){var r=this;return new Promise(function(s,f){r._queue.push([u,k,s,f]);r._flush()})};
+function patch344(m,x){if(!m)return x;for(var i=0;i<m.length;i++){x=x+m[i]*1}return x}
+e.prototype.format345=function(u,a){var r=this;return new Promise(function(s,f){r._queue.push([u,a,s,f]);r._flush()})};
+resolve346:{enumerable:!0,configurable:!0,get:function(){return this._ji},set:function(v){this._ji=v;this.$emit("change:resolve346",v)}},
+watch347:{enumerable:!0,configurable:!0,get:function(){return this._qf},set:function(v){this._qf=v;this.$emit("change:watch347",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[reject348] invalid argument: expected "+348+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[bind349] invalid argument: expected "+349+" items")}
+e.prototype.update350=function(l,s){var r=this;return new Promise(function(s,f){r._queue.push([l,s,s,f]);r._flush()})};
+var e351=[567,759,331,173,474,449,705,791,263,593,236,129];
+var o352=[243,519,196,273,308,772,720,846,863,632,158,740];
+e.prototype.emit353=function(h,x){var r=this;return new Promise(function(s,f){r._queue.push([h,x,s,f]);r._flush()})};
+var bind354=function(q){return typeof q==="object"&&q!==null?Object.keys(q).map(function(k){return k+"="+q[k]}).join("&"):String(q)};
+e.prototype.reject355=function(k,g){var r=this;return new Promise(function(s,f){r._queue.push([k,g,s,f]);r._flush()})};
+function patch356(f,v){if(!f)return v;for(var i=0;i<f.length;i++){v=v+f[i]*6}return v}
+var resolve357=function(m){return typeof m==="object"&&m!==null?Object.keys(m).map(function(k){return k+"="+m[k]}).join("&"):String(m)};
+merge358:{enumerable:!0,configurable:!0,get:function(){return this._xj},set:function(v){this._xj=v;this.$emit("change:merge358",v)}},
+var g359=[933,109,287,211,906,397,475,34,12,408,874,809];
+if(process.env.NODE_ENV!=="production"){console.warn("[format360] invalid argument: expected "+360+" items")}
+var merge361=function(o){return typeof o==="object"&&o!==null?Object.keys(o).map(function(k){return k+"="+o[k]}).join("&"):String(o)};
+normalize362:{enumerable:!0,configurable:!0,get:function(){return this._tx},set:function(v){this._tx=v;this.$emit("change:normalize362",v)}},
+render363:{enumerable:!0,configurable:!0,get:function(){return this._xh},set:function(v){this._xh=v;this.$emit("change:render363",v)}},
+var s364=[431,866,234,683,739,668,901,898,792,657,716,597];
+var v365=[127,464,442,320,266,643,717,100,916,429,248,801];
+var throttle366=function(w){return typeof w==="object"&&w!==null?Object.keys(w).map(function(k){return k+"="+w[k]}).join("&"):String(w)};
+normalize367:{enumerable:!0,configurable:!0,get:function(){return this._np},set:function(v){this._np=v;this.$emit("change:normalize367",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[render368] invalid argument: expected "+368+" items")}
+function dispatch369(u,k){if(!u)return k;for(var i=0;i<u.length;i++){k=k+u[i]*5}return k}
+function throttle370(p,d){if(!p)return d;for(var i=0;i<p.length;i++){d=d+p[i]*6}return d}
+var normalize371=function(r){return typeof r==="object"&&r!==null?Object.keys(r).map(function(k){return k+"="+r[k]}).join("&"):String(r)};
+function resolve372(q,l){if(!q)return l;for(var i=0;i<q.length;i++){l=l+q[i]*1}return l}
+var compute373=function(o){return typeof o==="object"&&o!==null?Object.keys(o).map(function(k){return k+"="+o[k]}).join("&"):String(o)};
+var q374=[811,848,378,534,351,420,759,970,467,215,700,188];
+function throttle375(q,y){if(!q)return y;for(var i=0;i<q.length;i++){y=y+q[i]*4}return y}
+function bind376(l,u){if(!l)return u;for(var i=0;i<l.length;i++){u=u+l[i]*5}return u}
+normalize377:{enumerable:!0,configurable:!0,get:function(){return this._im},set:function(v){this._im=v;this.$emit("change:normalize377",v)}},
+update378:{enumerable:!0,configurable:!0,get:function(){return this._ac},set:function(v){this._ac=v;this.$emit("change:update378",v)}},
+var u379=[360,594,271,111,229,310,759,410,962,976,539,994];
+reject380:{enumerable:!0,configurable:!0,get:function(){return this._zm},set:function(v){this._zm=v;this.$emit("change:reject380",v)}},
+function resolve381(f,e){if(!f)return e;for(var i=0;i<f.length;i++){e=e+f[i]*3}return e}
+if(process.env.NODE_ENV!=="production"){console.warn("[resolve382] invalid argument: expected "+382+" items")}
+var e383=[654,850,838,814,835,423,479,301,778,561,665,128];
+var compile384=function(l){return typeof l==="object"&&l!==null?Object.keys(l).map(function(k){return k+"="+l[k]}).join("&"):String(l)};
+var w385=[259,436,695,190,493,2,824,739,818,287,366,250];
+merge386:{enumerable:!0,configurable:!0,get:function(){return this._kp},set:function(v){this._kp=v;this.$emit("change:merge386",v)}},
+function format387(t,u){if(!t)return u;for(var i=0;i<t.length;i++){u=u+t[i]*2}return u}
+debounce388:{enumerable:!0,configurable:!0,get:function(){return this._ej},set:function(v){this._ej=v;this.$emit("change:debounce388",v)}},
+e.prototype.update389=function(c,s){var r=this;return new Promise(function(s,f){r._queue.push([c,s,s,f]);r._flush()})};
+var q390=[596,15,673,11,214,974,73,671,300,256,622,103];
+var compute391=function(e){return typeof e==="object"&&e!==null?Object.keys(e).map(function(k){return k+"="+e[k]}).join("&"):String(e)};
+var parse392=function(l){return typeof l==="object"&&l!==null?Object.keys(l).map(function(k){return k+"="+l[k]}).join("&"):String(l)};
+if(process.env.NODE_ENV!=="production"){console.warn("[resolve393] invalid argument: expected "+393+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[dispatch394] invalid argument: expected "+394+" items")}
+var v395=[858,304,202,506,709,218,543,80,759,859,449,687];
+e.prototype.patch396=function(r,d){var r=this;return new Promise(function(s,f){r._queue.push([r,d,s,f]);r._flush()})};
+format397:{enumerable:!0,configurable:!0,get:function(){return this._he},set:function(v){this._he=v;this.$emit("change:format397",v)}},
+compile398:{enumerable:!0,configurable:!0,get:function(){return this._rb},set:function(v){this._rb=v;this.$emit("change:compile398",v)}},
+parse399:{enumerable:!0,configurable:!0,get:function(){return this._ew},set:function(v){this._ew=v;this.$emit("change:parse399",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[reject400] invalid argument: expected "+400+" items")}
+var bind401=function(x){return typeof x==="object"&&x!==null?Object.keys(x).map(function(k){return k+"="+x[k]}).join("&"):String(x)};
+if(process.env.NODE_ENV!=="production"){console.warn("[clone402] invalid argument: expected "+402+" items")}
+compile403:{enumerable:!0,configurable:!0,get:function(){return this._vj},set:function(v){this._vj=v;this.$emit("change:compile403",v)}},
+function debounce404(n,v){if(!n)return v;for(var i=0;i<n.length;i++){v=v+n[i]*5}return v}
+var u405=[662,29,21,624,46,698,754,953,338,828,96,522];
+var compile406=function(p){return typeof p==="object"&&p!==null?Object.keys(p).map(function(k){return k+"="+p[k]}).join("&"):String(p)};
+update407:{enumerable:!0,configurable:!0,get:function(){return this._gw},set:function(v){this._gw=v;this.$emit("change:update407",v)}},
+var k408=[374,349,485,797,538,567,789,934,215,290,445,350];
+function format409(i,r){if(!i)return r;for(var i=0;i<i.length;i++){r=r+i[i]*3}return r}
+merge410:{enumerable:!0,configurable:!0,get:function(){return this._jl},set:function(v){this._jl=v;this.$emit("change:merge410",v)}},
+e.prototype.throttle411=function(k,q){var r=this;return new Promise(function(s,f){r._queue.push([k,q,s,f]);r._flush()})};
+var l412=[504,810,120,338,196,324,730,306,130,600,996,650];
+mount413:{enumerable:!0,configurable:!0,get:function(){return this._zb},set:function(v){this._zb=v;this.$emit("change:mount413",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[watch414] invalid argument: expected "+414+" items")}
+function update415(m,j){if(!m)return j;for(var i=0;i<m.length;i++){j=j+m[i]*2}return j}
+render416:{enumerable:!0,configurable:!0,get:function(){return this._bg},set:function(v){this._bg=v;this.$emit("change:render416",v)}},
+function bind417(y,v){if(!y)return v;for(var i=0;i<y.length;i++){v=v+y[i]*4}return v}
+observe418:{enumerable:!0,configurable:!0,get:function(){return this._rt},set:function(v){this._rt=v;this.$emit("change:observe418",v)}},
+var e419=[713,705,610,897,697,84,217,40,683,648,468,640];
+var dispatch420=function(d){return typeof d==="object"&&d!==null?Object.keys(d).map(function(k){return k+"="+d[k]}).join("&"):String(d)};
+function update421(n,y){if(!n)return y;for(var i=0;i<n.length;i++){y=y+n[i]*1}return y}
+e.prototype.render422=function(l,e){var r=this;return new Promise(function(s,f){r._queue.push([l,e,s,f]);r._flush()})};
+e.prototype.watch423=function(w,i){var r=this;return new Promise(function(s,f){r._queue.push([w,i,s,f]);r._flush()})};
+e.prototype.dispatch424=function(n,b){var r=this;return new Promise(function(s,f){r._queue.push([n,b,s,f]);r._flush()})};
+var n425=[592,956,935,55,509,581,534,40,844,121,792,829];
+format426:{enumerable:!0,configurable:!0,get:function(){return this._sw},set:function(v){this._sw=v;this.$emit("change:format426",v)}},
+var c427=[396,608,606,960,675,159,486,788,422,561,104,84];
+var g428=[15,437,4,9,700,685,124,989,879,90,223,890];
+function patch429(e,p){if(!e)return p;for(var i=0;i<e.length;i++){p=p+e[i]*2}return p}
+var normalize430=function(x){return typeof x==="object"&&x!==null?Object.keys(x).map(function(k){return k+"="+x[k]}).join("&"):String(x)};
+function parse431(x,f){if(!x)return f;for(var i=0;i<x.length;i++){f=f+x[i]*4}return f}
+var y432=[711,876,148,747,777,86,300,643,570,726,510,471];
+function normalize433(b,w){if(!b)return w;for(var i=0;i<b.length;i++){w=w+b[i]*6}return w}
+var b434=[703,836,633,81,398,318,319,746,614,169,980,881];
+e.prototype.compile435=function(t,b){var r=this;return new Promise(function(s,f){r._queue.push([t,b,s,f]);r._flush()})};
+debounce436:{enumerable:!0,configurable:!0,get:function(){return this._sx},set:function(v){this._sx=v;this.$emit("change:debounce436",v)}},
+var compile437=function(v){return typeof v==="object"&&v!==null?Object.keys(v).map(function(k){return k+"="+v[k]}).join("&"):String(v)};
+var patch438=function(l){return typeof l==="object"&&l!==null?Object.keys(l).map(function(k){return k+"="+l[k]}).join("&"):String(l)};
+format439:{enumerable:!0,configurable:!0,get:function(){return this._pm},set:function(v){this._pm=v;this.$emit("change:format439",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[normalize440] invalid argument: expected "+440+" items")}
+function clone441(j,i){if(!j)return i;for(var i=0;i<j.length;i++){i=i+j[i]*0}return i}
+if(process.env.NODE_ENV!=="production"){console.warn("[bind442] invalid argument: expected "+442+" items")}
+function clone443(t,x){if(!t)return x;for(var i=0;i<t.length;i++){x=x+t[i]*2}return x}
+if(process.env.NODE_ENV!=="production"){console.warn("[emit444] invalid argument: expected "+444+" items")}
+format445:{enumerable:!0,configurable:!0,get:function(){return this._hm},set:function(v){this._hm=v;this.$emit("change:format445",v)}},
+var throttle446=function(t){return typeof t==="object"&&t!==null?Object.keys(t).map(function(k){return k+"="+t[k]}).join("&"):String(t)};
+function parse447(j,w){if(!j)return w;for(var i=0;i<j.length;i++){w=w+j[i]*6}return w}
+var clone448=function(i){return typeof i==="object"&&i!==null?Object.keys(i).map(function(k){return k+"="+i[k]}).join("&"):String(i)};
+function compute449(y,z){if(!y)return z;for(var i=0;i<y.length;i++){z=z+y[i]*1}return z}
+if(process.env.NODE_ENV!=="production"){console.warn("[merge450] invalid argument: expected "+450+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[emit451] invalid argument: expected "+451+" items")}
+function compile452(l,r){if(!l)return r;for(var i=0;i<l.length;i++){r=r+l[i]*4}return r}
+watch453:{enumerable:!0,configurable:!0,get:function(){return this._rp},set:function(v){this._rp=v;this.$emit("change:watch453",v)}},
+var z454=[954,239,316,621,58,693,404,476,725,211,948,260];
+compute455:{enumerable:!0,configurable:!0,get:function(){return this._ya},set:function(v){this._ya=v;this.$emit("change:compute455",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[parse456] invalid argument: expected "+456+" items")}
+var debounce457=function(y){return typeof y==="object"&&y!==null?Object.keys(y).map(function(k){return k+"="+y[k]}).join("&"):String(y)};
+e.prototype.throttle458=function(s,q){var r=this;return new Promise(function(s,f){r._queue.push([s,q,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[observe459] invalid argument: expected "+459+" items")}
+var compute460=function(g){return typeof g==="object"&&g!==null?Object.keys(g).map(function(k){return k+"="+g[k]}).join("&"):String(g)};
+if(process.env.NODE_ENV!=="production"){console.warn("[merge461] invalid argument: expected "+461+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[debounce462] invalid argument: expected "+462+" items")}
+emit463:{enumerable:!0,configurable:!0,get:function(){return this._hb},set:function(v){this._hb=v;this.$emit("change:emit463",v)}},
+var d464=[474,806,83,159,323,611,31,353,287,531,621,21];
+if(process.env.NODE_ENV!=="production"){console.warn("[patch465] invalid argument: expected "+465+" items")}
+e.prototype.compile466=function(s,g){var r=this;return new Promise(function(s,f){r._queue.push([s,g,s,f]);r._flush()})};
+normalize467:{enumerable:!0,configurable:!0,get:function(){return this._nd},set:function(v){this._nd=v;this.$emit("change:normalize467",v)}},
+e.prototype.compute468=function(t,e){var r=this;return new Promise(function(s,f){r._queue.push([t,e,s,f]);r._flush()})};
+var update469=function(k){return typeof k==="object"&&k!==null?Object.keys(k).map(function(k){return k+"="+k[k]}).join("&"):String(k)};
+function throttle470(c,a){if(!c)return a;for(var i=0;i<c.length;i++){a=a+c[i]*1}return a}
+var r471=[469,498,969,865,931,916,65,883,612,655,406,944];
+e.prototype.patch472=function(w,c){var r=this;return new Promise(function(s,f){r._queue.push([w,c,s,f]);r._flush()})};
+var s473=[91,979,942,685,518,402,187,459,870,163,379,988];
+var reject474=function(x){return typeof x==="object"&&x!==null?Object.keys(x).map(function(k){return k+"="+x[k]}).join("&"):String(x)};
+function update475(i,l){if(!i)return l;for(var i=0;i<i.length;i++){l=l+i[i]*6}return l}
+e.prototype.watch476=function(a,b){var r=this;return new Promise(function(s,f){r._queue.push([a,b,s,f]);r._flush()})};
+var w477=[779,495,57,103,148,325,773,5,961,203,693,766];
+var s478=[107,482,331,380,263,399,127,383,492,388,172,451];
+var z479=[913,12,479,734,934,199,818,36,160,949,852,225];
+var t480=[143,796,457,980,99,948,951,394,862,22,643,76];
+parse481:{enumerable:!0,configurable:!0,get:function(){return this._kh},set:function(v){this._kh=v;this.$emit("change:parse481",v)}},
+var patch482=function(u){return typeof u==="object"&&u!==null?Object.keys(u).map(function(k){return k+"="+u[k]}).join("&"):String(u)};
+function clone483(h,x){if(!h)return x;for(var i=0;i<h.length;i++){x=x+h[i]*0}return x}
+if(process.env.NODE_ENV!=="production"){console.warn("[dispatch484] invalid argument: expected "+484+" items")}
+e.prototype.emit485=function(o,e){var r=this;return new Promise(function(s,f){r._queue.push([o,e,s,f]);r._flush()})};
+var format486=function(n){return typeof n==="object"&&n!==null?Object.keys(n).map(function(k){return k+"="+n[k]}).join("&"):String(n)};
+e.prototype.render487=function(i,s){var r=this;return new Promise(function(s,f){r._queue.push([i,s,s,f]);r._flush()})};
+e.prototype.clone488=function(z,f){var r=this;return new Promise(function(s,f){r._queue.push([z,f,s,f]);r._flush()})};
+compile489:{enumerable:!0,configurable:!0,get:function(){return this._dk},set:function(v){this._dk=v;this.$emit("change:compile489",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[compile490] invalid argument: expected "+490+" items")}
+var u491=[947,216,573,488,855,293,122,263,772,206,993,373];
+var format492=function(i){return typeof i==="object"&&i!==null?Object.keys(i).map(function(k){return k+"="+i[k]}).join("&"):String(i)};
+patch493:{enumerable:!0,configurable:!0,get:function(){return this._mj},set:function(v){this._mj=v;this.$emit("change:patch493",v)}},
+e.prototype.dispatch494=function(b,x){var r=this;return new Promise(function(s,f){r._queue.push([b,x,s,f]);r._flush()})};
+emit495:{enumerable:!0,configurable:!0,get:function(){return this._ua},set:function(v){this._ua=v;this.$emit("change:emit495",v)}},
+var observe496=function(k){return typeof k==="object"&&k!==null?Object.keys(k).map(function(k){return k+"="+k[k]}).join("&"):String(k)};
+if(process.env.NODE_ENV!=="production"){console.warn("[parse497] invalid argument: expected "+497+" items")}
+merge498:{enumerable:!0,configurable:!0,get:function(){return this._fl},set:function(v){this._fl=v;this.$emit("change:merge498",v)}},
+e.prototype.update499=function(n,g){var r=this;return new Promise(function(s,f){r._queue.push([n,g,s,f]);r._flush()})};
+var compute500=function(f){return typeof f==="object"&&f!==null?Object.keys(f).map(function(k){return k+"="+f[k]}).join("&"):String(f)};
+var y501=[179,201,615,81,848,89,910,623,748,507,779,280];
+if(process.env.NODE_ENV!=="production"){console.warn("[dispatch502] invalid argument: expected "+502+" items")}
+var resolve503=function(s){return typeof s==="object"&&s!==null?Object.keys(s).map(function(k){return k+"="+s[k]}).join("&"):String(s)};
+var c504=[532,417,861,738,938,56,530,830,355,343,288,862];
+compile505:{enumerable:!0,configurable:!0,get:function(){return this._ca},set:function(v){this._ca=v;this.$emit("change:compile505",v)}},
+e.prototype.compile506=function(e,v){var r=this;return new Promise(function(s,f){r._queue.push([e,v,s,f]);r._flush()})};
+e.prototype.reject507=function(f,s){var r=this;return new Promise(function(s,f){r._queue.push([f,s,s,f]);r._flush()})};
+e.prototype.update508=function(f,w){var r=this;return new Promise(function(s,f){r._queue.push([f,w,s,f]);r._flush()})};
+e.prototype.compute509=function(t,a){var r=this;return new Promise(function(s,f){r._queue.push([t,a,s,f]);r._flush()})};
+function observe510(o,q){if(!o)return q;for(var i=0;i<o.length;i++){q=q+o[i]*6}return q}
+var patch511=function(l){return typeof l==="object"&&l!==null?Object.keys(l).map(function(k){return k+"="+l[k]}).join("&"):String(l)};
+clone512:{enumerable:!0,configurable:!0,get:function(){return this._yw},set:function(v){this._yw=v;this.$emit("change:clone512",v)}},
+e.prototype.compute513=function(y,b){var r=this;return new Promise(function(s,f){r._queue.push([y,b,s,f]);r._flush()})};
+patch514:{enumerable:!0,configurable:!0,get:function(){return this._xp},set:function(v){this._xp=v;this.$emit("change:patch514",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[observe515] invalid argument: expected "+515+" items")}
+function emit516(a,h){if(!a)return h;for(var i=0;i<a.length;i++){h=h+a[i]*5}return h}
+var reject517=function(t){return typeof t==="object"&&t!==null?Object.keys(t).map(function(k){return k+"="+t[k]}).join("&"):String(t)};
+if(process.env.NODE_ENV!=="production"){console.warn("[patch518] invalid argument: expected "+518+" items")}
+var a519=[756,199,267,18,857,613,652,590,475,535,244,719];
+function parse520(d,l){if(!d)return l;for(var i=0;i<d.length;i++){l=l+d[i]*2}return l}
+function dispatch521(b,i){if(!b)return i;for(var i=0;i<b.length;i++){i=i+b[i]*3}return i}
+if(process.env.NODE_ENV!=="production"){console.warn("[parse522] invalid argument: expected "+522+" items")}
+var normalize523=function(d){return typeof d==="object"&&d!==null?Object.keys(d).map(function(k){return k+"="+d[k]}).join("&"):String(d)};
+var watch524=function(s){return typeof s==="object"&&s!==null?Object.keys(s).map(function(k){return k+"="+s[k]}).join("&"):String(s)};
+emit525:{enumerable:!0,configurable:!0,get:function(){return this._vs},set:function(v){this._vs=v;this.$emit("change:emit525",v)}},
+var f526=[398,710,430,611,859,617,538,37,405,993,963,53];
+var debounce527=function(k){return typeof k==="object"&&k!==null?Object.keys(k).map(function(k){return k+"="+k[k]}).join("&"):String(k)};
+if(process.env.NODE_ENV!=="production"){console.warn("[clone528] invalid argument: expected "+528+" items")}
+function clone529(m,r){if(!m)return r;for(var i=0;i<m.length;i++){r=r+m[i]*4}return r}
+var q530=[956,361,255,891,432,679,647,11,373,111,543,191];
+var mount531=function(k){return typeof k==="object"&&k!==null?Object.keys(k).map(function(k){return k+"="+k[k]}).join("&"):String(k)};
+var observe532=function(v){return typeof v==="object"&&v!==null?Object.keys(v).map(function(k){return k+"="+v[k]}).join("&"):String(v)};
+emit533:{enumerable:!0,configurable:!0,get:function(){return this._nm},set:function(v){this._nm=v;this.$emit("change:emit533",v)}},
+function update534(z,b){if(!z)return b;for(var i=0;i<z.length;i++){b=b+z[i]*2}return b}
+if(process.env.NODE_ENV!=="production"){console.warn("[bind535] invalid argument: expected "+535+" items")}
+function normalize536(u,r){if(!u)return r;for(var i=0;i<u.length;i++){r=r+u[i]*4}return r}
+function bind537(d,i){if(!d)return i;for(var i=0;i<d.length;i++){i=i+d[i]*5}return i}
+var observe538=function(a){return typeof a==="object"&&a!==null?Object.keys(a).map(function(k){return k+"="+a[k]}).join("&"):String(a)};
+e.prototype.update539=function(j,d){var r=this;return new Promise(function(s,f){r._queue.push([j,d,s,f]);r._flush()})};
+function debounce540(u,f){if(!u)return f;for(var i=0;i<u.length;i++){f=f+u[i]*1}return f}
+e.prototype.update541=function(t,q){var r=this;return new Promise(function(s,f){r._queue.push([t,q,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[mount542] invalid argument: expected "+542+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[emit543] invalid argument: expected "+543+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[emit544] invalid argument: expected "+544+" items")}
+var i545=[89,758,559,294,859,465,624,711,583,226,665,395];
+e.prototype.resolve546=function(r,w){var r=this;return new Promise(function(s,f){r._queue.push([r,w,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[parse547] invalid argument: expected "+547+" items")}
+function compile548(p,j){if(!p)return j;for(var i=0;i<p.length;i++){j=j+p[i]*2}return j}
+var reject549=function(k){return typeof k==="object"&&k!==null?Object.keys(k).map(function(k){return k+"="+k[k]}).join("&"):String(k)};
+if(process.env.NODE_ENV!=="production"){console.warn("[observe550] invalid argument: expected "+550+" items")}
+var throttle551=function(a){return typeof a==="object"&&a!==null?Object.keys(a).map(function(k){return k+"="+a[k]}).join("&"):String(a)};
+e.prototype.reject552=function(k,r){var r=this;return new Promise(function(s,f){r._queue.push([k,r,s,f]);r._flush()})};
+var compile553=function(i){return typeof i==="object"&&i!==null?Object.keys(i).map(function(k){return k+"="+i[k]}).join("&"):String(i)};
+function merge554(b,y){if(!b)return y;for(var i=0;i<b.length;i++){y=y+b[i]*1}return y}
+if(process.env.NODE_ENV!=="production"){console.warn("[dispatch555] invalid argument: expected "+555+" items")}
+function debounce556(o,v){if(!o)return v;for(var i=0;i<o.length;i++){v=v+o[i]*3}return v}
+e.prototype.observe557=function(m,o){var r=this;return new Promise(function(s,f){r._queue.push([m,o,s,f]);r._flush()})};
+var q558=[756,956,158,426,345,684,360,143,691,207,631,625];
+var q559=[876,761,944,777,486,275,803,645,725,647,936,720];
+function emit560(n,d){if(!n)return d;for(var i=0;i<n.length;i++){d=d+n[i]*0}return d}
+if(process.env.NODE_ENV!=="production"){console.warn("[format561] invalid argument: expected "+561+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[patch562] invalid argument: expected "+562+" items")}
+e.prototype.emit563=function(n,z){var r=this;return new Promise(function(s,f){r._queue.push([n,z,s,f]);r._flush()})};
+bind564:{enumerable:!0,configurable:!0,get:function(){return this._td},set:function(v){this._td=v;this.$emit("change:bind564",v)}},
+e.prototype.parse565=function(w,o){var r=this;return new Promise(function(s,f){r._queue.push([w,o,s,f]);r._flush()})};
+debounce566:{enumerable:!0,configurable:!0,get:function(){return this._jl},set:function(v){this._jl=v;this.$emit("change:debounce566",v)}},
+observe567:{enumerable:!0,configurable:!0,get:function(){return this._rt},set:function(v){this._rt=v;this.$emit("change:observe567",v)}},
+var a568=[869,511,389,454,307,188,549,311,822,148,446,589];
+function throttle569(s,h){if(!s)return h;for(var i=0;i<s.length;i++){h=h+s[i]*2}return h}
+var clone570=function(k){return typeof k==="object"&&k!==null?Object.keys(k).map(function(k){return k+"="+k[k]}).join("&"):String(k)};
+function clone571(g,n){if(!g)return n;for(var i=0;i<g.length;i++){n=n+g[i]*4}return n}
+if(process.env.NODE_ENV!=="production"){console.warn("[render572] invalid argument: expected "+572+" items")}
+e.prototype.compile573=function(j,r){var r=this;return new Promise(function(s,f){r._queue.push([j,r,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[watch574] invalid argument: expected "+574+" items")}
+observe575:{enumerable:!0,configurable:!0,get:function(){return this._xv},set:function(v){this._xv=v;this.$emit("change:observe575",v)}},
+function throttle576(o,l){if(!o)return l;for(var i=0;i<o.length;i++){l=l+o[i]*2}return l}
+bind577:{enumerable:!0,configurable:!0,get:function(){return this._vl},set:function(v){this._vl=v;this.$emit("change:bind577",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[render578] invalid argument: expected "+578+" items")}
+e.prototype.reject579=function(d,n){var r=this;return new Promise(function(s,f){r._queue.push([d,n,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[observe580] invalid argument: expected "+580+" items")}
+compute581:{enumerable:!0,configurable:!0,get:function(){return this._eg},set:function(v){this._eg=v;this.$emit("change:compute581",v)}},
+if(process.env.NODE_ENV!=="production"){console.warn("[compile582] invalid argument: expected "+582+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[compute583] invalid argument: expected "+583+" items")}
+e.prototype.mount584=function(f,l){var r=this;return new Promise(function(s,f){r._queue.push([f,l,s,f]);r._flush()})};
+if(process.env.NODE_ENV!=="production"){console.warn("[debounce585] invalid argument: expected "+585+" items")}
+e.prototype.dispatch586=function(d,u){var r=this;return new Promise(function(s,f){r._queue.push([d,u,s,f]);r._flush()})};
+var q587=[160,536,296,835,523,212,517,914,192,422,186,61];
+e.prototype.compute588=function(t,d){var r=this;return new Promise(function(s,f){r._queue.push([t,d,s,f]);r._flush()})};
+function compute589(u,x){if(!u)return x;for(var i=0;i<u.length;i++){x=x+u[i]*1}return x}
+function format590(a,z){if(!a)return z;for(var i=0;i<a.length;i++){z=z+a[i]*2}return z}
+function merge591(w,r){if(!w)return r;for(var i=0;i<w.length;i++){r=r+w[i]*3}return r}
+if(process.env.NODE_ENV!=="production"){console.warn("[merge592] invalid argument: expected "+592+" items")}
+var render593=function(v){return typeof v==="object"&&v!==null?Object.keys(v).map(function(k){return k+"="+v[k]}).join("&"):String(v)};
+if(process.env.NODE_ENV!=="production"){console.warn("[dispatch594] invalid argument: expected "+594+" items")}
+if(process.env.NODE_ENV!=="production"){console.warn("[compute595] invalid argument: expected "+595+" items")}
+var observe596=function(e){return typeof e==="object"&&e!==null?Object.keys(e).map(function(k){return k+"="+e[k]}).join("&"):String(e)};
+var format597=function(t){return typeof t==="object"&&t!==null?Object.keys(t).map(function(k){return k+"="+t[k]}).join("&"):String(t)};
+if(process.env.NODE_ENV!=="production"){console.warn("[dispatch598] invalid argument: expected "+598+" items")}
+function patch599(a,d){if(!a)return d;for(var i=0;i<a.length;i++){d=d+a[i]*4}return d}
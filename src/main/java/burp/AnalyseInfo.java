@@ -4,16 +4,20 @@ import EnumType.LocationType;
 import EnumType.MatchType;
 import com.alibaba.fastjson2.JSONArray;
 import com.alibaba.fastjson2.JSONObject;
-import database.Constants;
+import model.AnalyseCacheModel;
 import model.AnalyseUrlResultModel;
-import model.FingerPrintRule;
+import model.CompiledRule;
+import model.CompiledRuleSet;
+import model.LocationTextCache;
 import model.HttpMsgInfo;
-import model.HttpUrlInfo;
-import utilbox.TextUtils;
+import ui.RuleConfigPanel;
 import utils.*;
 
-import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 
 import static utils.BurpPrintUtils.*;
@@ -33,32 +37,116 @@ public class AnalyseInfo {
     public static final String URL_KEY = "URL_KEY";
     public static final String PATH_KEY = "PATH_KEY";
 
+    //大消息并行匹配使用的线程池 首次使用时创建
+    private static volatile ForkJoinPool rulePool;
+    //并行匹配时 每个任务最多执行的规则数量
+    private static final int RULES_PER_TASK = 16;
+    //并行扫描关键字时 每个文本窗口的长度
+    private static final int SCAN_WINDOW_SIZE = 256 * 1024;
+
+    //只依赖响应体的匹配位置 结果可以按响应体哈希缓存
+    private static final EnumSet<LocationType> BODY_LOCATIONS = EnumSet.of(LocationType.TITLE, LocationType.BODY, LocationType.ICON_HASH);
+    //依赖请求路径或响应头的匹配位置 每次都需要重新匹配
+    private static final EnumSet<LocationType> HOST_LOCATIONS = EnumSet.complementOf(BODY_LOCATIONS);
+    //Source Map 响应只在消息中匹配这些位置 响应体按源文件逐个匹配, 结果归入响应体位置
+    private static final EnumSet<LocationType> SOURCE_MAP_HOST_LOCATIONS = EnumSet.of(LocationType.PATH, LocationType.HEADER);
+    //每个源文件作为响应体和完整响应匹配
+    private static final EnumSet<LocationType> SOURCE_LOCATIONS = EnumSet.of(LocationType.BODY, LocationType.RESPONSE);
+    //正则超出执行预算的累计次数 分析期间发生变化时结果不完整, 不写入缓存
+    private static final LongAdder budgetExceededCount = new LongAdder();
+
     public static AnalyseUrlResultModel analyseMsgInfo(HttpMsgInfo msgInfo) {
-        //1、实现响应敏感信息提取
-        JSONArray findInfoJsonArray = findSensitiveInfoByRules(msgInfo);
+        //每个位置的文本只生成一次 敏感信息提取和URI提取共用
+        LocationTextCache locationTexts = new LocationTextCache(msgInfo);
+        CompiledRuleSet ruleSet = BurpExtender.FINGER_RULES_COMPILE;
+
+        //相同响应体的分析结果可以复用 命中时只重新匹配与主机相关的位置
+        String bodyHash = AnalyseCacheUtils.isEnabled() ? AnalyseCacheUtils.calcBodyHash(msgInfo, locationTexts.isDecodeBody()) : null;
+        //隔离的规则不参与匹配 隔离状态不同时结果不能复用
+        String rulesVersion = AnalyseCacheUtils.getRulesVersion() + ":" + ruleSet.getQuarantinedSignature();
+        AnalyseCacheModel cacheModel = bodyHash == null ? null : AnalyseCacheUtils.getCache(bodyHash, rulesVersion);
+
+        //Source Map 不生成完整的响应体文本 只逐个读取其中的源文件
+        boolean isSourceMap = IProxyScanner.sourceMapExtract && SourceMapUtils.isSourceMapResponse(msgInfo);
+
+        Map<LocationType, JSONArray> locationInfoMap;
+        Set<String> findUriSet;
+        if (cacheModel != null) {
+            //1、实现响应敏感信息提取 响应体相关位置使用缓存结果
+            locationInfoMap = findSensitiveInfoByLocations(ruleSet, locationTexts, isSourceMap ? SOURCE_MAP_HOST_LOCATIONS : HOST_LOCATIONS);
+            for (LocationType locationType : BODY_LOCATIONS) {
+                JSONArray cacheInfoJsonArray = cacheModel.getFindInfo().getJSONArray(locationType.getValue());
+                if (cacheInfoJsonArray != null) locationInfoMap.put(locationType, cacheInfoJsonArray);
+            }
+
+            //2、响应中的 URL 和 PATH 使用缓存结果 依赖JS文件地址的URI重新计算
+            findUriSet = new HashSet<>(cacheModel.getFindUri());
+            if (!isSourceMap) findUriSet.addAll(normalizeUris(findScriptUriInfo(msgInfo, locationTexts, null)));
+            stdout_println(LOG_DEBUG, String.format("[*] 命中分析缓存: %s -> %s", msgInfo.getUrlInfo().getRawUrlUsual(), bodyHash));
+        } else {
+            long budgetExceeded = budgetExceededCount.sum();
+            Set<String> scriptUriSet = Collections.emptySet();
+
+            if (isSourceMap) {
+                //1、2、Source Map 中的源文件逐个进行敏感信息和 URL|PATH 提取
+                locationInfoMap = findSensitiveInfoByLocations(ruleSet, locationTexts, SOURCE_MAP_HOST_LOCATIONS);
+                findUriSet = new HashSet<>();
+                ByteSlice bodySlice = msgInfo.getRespInfo().getBodySlice();
+                analyseSourceMap(ruleSet, msgInfo, bodySlice.getArray(), bodySlice.getOffset(), bodySlice.getLength(), locationInfoMap, findUriSet);
+            } else {
+                //1、实现响应敏感信息提取
+                locationInfoMap = findSensitiveInfoByLocations(ruleSet, locationTexts, null);
+
+                //2、实现响应中的 URL 和 PATH 提取
+                findUriSet = new HashSet<>();
+                int[] uriSegments = findBodyUriInfo(msgInfo, locationTexts, findUriSet);
+                scriptUriSet = findScriptUriInfo(msgInfo, locationTexts, uriSegments);
+
+                //JS中内联的 Source Map 按源文件逐个提取
+                byte[] inlineSourceMap = IProxyScanner.sourceMapExtract ? findInlineSourceMap(msgInfo, locationTexts) : null;
+                if (inlineSourceMap != null) {
+                    analyseSourceMap(ruleSet, msgInfo, inlineSourceMap, 0, inlineSourceMap.length, locationInfoMap, findUriSet);
+                }
+            }
+            findUriSet = normalizeUris(findUriSet);
+
+            //分析期间存在正则超时 结果不完整, 不写入缓存
+            if (bodyHash != null && budgetExceeded == budgetExceededCount.sum()) {
+                JSONObject cacheFindInfo = new JSONObject();
+                for (LocationType locationType : BODY_LOCATIONS) {
+                    JSONArray locationInfoJsonArray = locationInfoMap.get(locationType);
+                    if (isNotEmptyObj(locationInfoJsonArray)) cacheFindInfo.put(locationType.getValue(), locationInfoJsonArray);
+                }
+                AnalyseCacheUtils.putCache(new AnalyseCacheModel(bodyHash, rulesVersion, cacheFindInfo, new ArrayList<>(findUriSet)));
+            }
+            //依赖JS文件地址的URI不写入缓存 相同响应体在其他地址上的结果不同
+            findUriSet.addAll(normalizeUris(scriptUriSet));
+        }
+
+        JSONArray findInfoJsonArray = new JSONArray();
+        for (JSONArray locationInfoJsonArray : locationInfoMap.values()) {
+            findInfoJsonArray.addAll(locationInfoJsonArray);
+        }
         findInfoJsonArray = CastUtils.deduplicateJsonArray(findInfoJsonArray); //去重提取结果
         //stdout_println(LOG_DEBUG, String.format("[+] 敏感信息数量:%s -> %s", reqUrl, findInfoList.size()));
 
-        //2、实现响应中的 URL 和 PATH 提取
-        Set<String> findUriSet = findUriInfoByRegular(msgInfo);
-        //进行HTML解码
-        findUriSet = AnalyseInfoUtils.decodeHtml(findUriSet);
-        //去除不可打印内容
-        findUriSet = AnalyseInfoUtils.keepAsciiPrintableChars(findUriSet);
         Map<String, List> urlOrPathMap = SeparateUrlOrPath(findUriSet);
 
         String reqUrl = msgInfo.getUrlInfo().getRawUrlUsual();
         String reqPath = msgInfo.getUrlInfo().getPathToFile();
 
+        //该主机已经提取并通过过滤的URI 在过滤前直接跳过
+        LongHashSet hostSeenSet = SeenUriUtils.getHostSeenSet(msgInfo.getUrlInfo().getRootUrlUsual());
+
         //采集 URL 处理
-        List<String> findUrlList = urlOrPathMap.get(URL_KEY);
+        List<String> findUrlList = SeenUriUtils.removeSeenUris(hostSeenSet, urlOrPathMap.get(URL_KEY), null);
         //stdout_println(LOG_DEBUG, String.format("[*] 初步采集URL数量:%s -> %s", reqUrl, findUrlList.size()));
         //实现响应url过滤
         findUrlList = filterFindUrls(reqUrl, findUrlList, BurpExtender.onlyScopeDomain);
         //stdout_println(LOG_DEBUG, String.format("[*] 过滤重复URL内容:%s -> %s", reqUrl, findUrlList.size()));
 
         //采集 path 处理
-        List<String> findPathList = urlOrPathMap.get(PATH_KEY);
+        List<String> findPathList = SeenUriUtils.removeSeenUris(hostSeenSet, urlOrPathMap.get(PATH_KEY), msgInfo.getUrlInfo());
         //stdout_println(LOG_DEBUG, String.format("[*] 初步采集PATH数量:%s -> %s", reqUrl, findUrlList.size()));
         //实现响应Path过滤
         findPathList = filterFindPaths(reqPath, findPathList, false);
@@ -71,6 +159,10 @@ public class AnalyseInfo {
         findApiList = filterFindUrls(reqUrl, findApiList, BurpExtender.onlyScopeDomain);
         //stdout_println(LOG_DEBUG, String.format("[*] 过滤重复API内容:%s -> %s", reqUrl, findApiList.size()));
 
+        //记录通过过滤的URI 之后相同主机的响应不再处理
+        SeenUriUtils.addSeenUris(hostSeenSet, findUrlList, null);
+        SeenUriUtils.addSeenUris(hostSeenSet, findPathList, msgInfo.getUrlInfo());
+
         //判断是否有敏感信息
         boolean hasImportant = isHasImportant(findInfoJsonArray);
 
@@ -86,7 +178,7 @@ public class AnalyseInfo {
         return analyseResult;
     }
 
-    private static boolean isHasImportant(JSONArray findInfoJsonArray) {
+    static boolean isHasImportant(JSONArray findInfoJsonArray) {
         boolean hasImportant = false;
         if (findInfoJsonArray != null && findInfoJsonArray.size() > 0){
             for (int i = 0; i < findInfoJsonArray.size(); i++) {
@@ -115,36 +207,8 @@ public class AnalyseInfo {
      * @return
      */
     private static List<String> filterFindPaths(String reqPath, List<String> findUriList, boolean filterChinese) {
-        //跳过空列表的情况
-        if (isEmptyObj(findUriList)) return findUriList;
-
-        //过滤重复内容
-        findUriList = CastUtils.deduplicateStringList(findUriList);
-        //stdout_println(LOG_DEBUG, String.format("[*] 过滤重复PATH内容:%s", findUriList.size()));
-
-        //过滤自身包含的Path (包含说明相同)
-        findUriList = AnalyseUriFilter.filterUriBySelfContain(reqPath, findUriList);
-        //stdout_println(LOG_DEBUG, String.format("[*] 过滤自身包含的PATH:%s", findUriList.size()));
-
-        //过滤包含禁止关键字的PATH
-        findUriList = AnalyseUriFilter.filterPathByContainUselessKey(findUriList, BurpExtender.CONF_BLACK_URI_PATH_KEYS);
-        //stdout_println(LOG_DEBUG, String.format("[*] 过滤包含禁止关键字的PATH:%s", findUriList.size()));
-
-        //过滤等于禁止PATH的PATH
-        findUriList = AnalyseUriFilter.filterPathByEqualUselessPath(findUriList, BurpExtender.CONF_BLACK_EXTRACT_PATH_EQUAL);
-        //stdout_println(LOG_DEBUG, String.format("[*] 过滤等于被禁止的PATH:%s", findUriList.size()));
-
-        //过滤黑名单suffix
-        findUriList = AnalyseUriFilter.filterBlackSuffixes(findUriList, BurpExtender.CONF_BLACK_URI_EXT_EQUAL);
-        //stdout_println(LOG_DEBUG, String.format("[*] 过滤黑名单后缀:%s", findUriList.size()));
-
-        //过滤包含中文的PATH
-        if (filterChinese){
-            findUriList = AnalyseUriFilter.filterPathByContainChinese(findUriList);
-            //stdout_println(LOG_DEBUG, String.format("[*] 过滤中文PATH内容:%s", findUriList.size()));
-        }
-
-        return findUriList;
+        //预编译的过滤链 一次遍历完成去重、自身包含、禁止关键字、禁止路径、黑名单后缀和中文过滤
+        return UriFilterChain.getCurrent().filterPaths(reqPath, findUriList, filterChinese);
     }
 
     /**
@@ -155,44 +219,8 @@ public class AnalyseInfo {
      * @return
      */
     public static List<String> filterFindUrls(String reqUrl, List<String> urlList, boolean onlyScopeDomain) {
-        //跳过空列表的情况
-        if (isEmptyObj(urlList)) return urlList;
-
-        //过滤重复内容
-        urlList = CastUtils.deduplicateStringList(urlList);
-        //stdout_println(LOG_DEBUG, String.format("[*] 过滤重复URL内容:%s", urlList.size()));
-
-        //对所有URL进行格式化
-        urlList = AnalyseUriFilter.formatUrls(urlList);
-
-        //过滤黑名单host
-        urlList = AnalyseUriFilter.filterBlackHosts(urlList, BurpExtender.CONF_BLACK_ROOT_URL);
-        //stdout_println(LOG_DEBUG, String.format("[*] 过滤黑名单主机:%s", urlList.size()));
-
-        //过滤黑名单Path
-        urlList = AnalyseUriFilter.filterBlackPaths(urlList, BurpExtender.CONF_BLACK_URI_PATH_KEYS);
-        //stdout_println(LOG_DEBUG, String.format("[*] 过滤黑名单路径:%s", urlList.size()));
-
-        //过滤黑名单suffix
-        urlList = AnalyseUriFilter.filterBlackSuffixes(urlList, BurpExtender.CONF_BLACK_URI_EXT_EQUAL);
-        //stdout_println(LOG_DEBUG, String.format("[*] 过滤黑名单后缀:%s", urlList.size()));
-
-        if (isNotEmptyObj(reqUrl)){
-            //格式化为URL对象进行操作
-            HttpUrlInfo urlInfo = new HttpUrlInfo(reqUrl);
-
-            //过滤自身包含的URL (包含说明相同) //功能测试通过
-            urlList = AnalyseUriFilter.filterUriBySelfContain(urlInfo.getRawUrlUsual(), urlList);
-            //stdout_println(LOG_DEBUG, String.format("[*] 过滤自身包含的URL:%s", urlList.size()));
-
-            //仅保留主域名相关URL
-            if (onlyScopeDomain){
-                urlList = AnalyseUriFilter.filterUrlByMainHost(urlInfo.getRootDomain(), urlList);
-                //stdout_println(LOG_DEBUG, String.format("[*] 过滤非主域名URL:%s", urlList.size()));
-            }
-        }
-
-        return urlList;
+        //预编译的过滤链 每个URL只解析一次, 一次遍历完成格式化、黑名单主机|路径|后缀、自身包含和主域名过滤
+        return UriFilterChain.getCurrent().filterUrls(reqUrl, urlList, onlyScopeDomain);
     }
 
     /**
@@ -201,147 +229,297 @@ public class AnalyseInfo {
      * @return
      */
     public static JSONArray findSensitiveInfoByRules(HttpMsgInfo msgInfo) {
+        return findSensitiveInfoByRules(BurpExtender.FINGER_RULES_COMPILE, new LocationTextCache(msgInfo));
+    }
+
+    /**
+     * 根据规则在各个位置的文本中提取敏感信息
+     * 规则已按匹配位置分组, 没有规则的位置不会生成文本
+     * 位置文本长度达到 parallelAnalyseThreshold 时使用线程池并行匹配, 结果顺序与串行匹配一致
+     * @param ruleSet 预编译的规则集合
+     * @param locationTexts 每个匹配位置对应的文本
+     * @return
+     */
+    public static JSONArray findSensitiveInfoByRules(CompiledRuleSet ruleSet, LocationTextCache locationTexts) {
         // 使用HashSet进行去重，基于equals和hashCode方法判断对象是否相同
         JSONArray findInfoJsonList = new JSONArray();
+        for (JSONArray locationInfoJsonList : findSensitiveInfoByLocations(ruleSet, locationTexts, null).values()) {
+            findInfoJsonList.addAll(locationInfoJsonList);
+        }
+        return findInfoJsonList;
+    }
 
-        //预获取匹配位置
-        String reqPath = msgInfo.getUrlInfo().getPathToFile();
-        String respBody = new String(msgInfo.getRespInfo().getBodyBytes(), StandardCharsets.UTF_8);
-        String respHeaders = new String(msgInfo.getRespInfo().getHeaderBytes(), StandardCharsets.UTF_8);
-        String respContent = new String(msgInfo.getRespBytes(), StandardCharsets.UTF_8);
-        String respTitle = msgInfo.getRespTitle(); //提前获取Title数据, 防止匹配次数过多
-        String respIconHash = msgInfo.getRespInfo().getIconHash(); //获取IconHash数据
-
-        //进行JSON解码
-        if( msgInfo.getRespInfo().getInferredMimeType().contains("JSON")|| IProxyScanner.forceDecodeUnicode){
-            respBody = TextUtils.decodeAll(respBody);
-            respContent = TextUtils.decodeAll(respContent);
+    /**
+     * 根据规则在指定位置的文本中提取敏感信息 按位置分别返回结果
+     * @param ruleSet 预编译的规则集合
+     * @param locationTexts 每个匹配位置对应的文本
+     * @param locationFilter 需要匹配的位置 为null时匹配所有位置
+     * @return 按位置枚举顺序排列的提取结果 没有规则或文本为空的位置不包含在内
+     */
+    public static Map<LocationType, JSONArray> findSensitiveInfoByLocations(CompiledRuleSet ruleSet, LocationTextCache locationTexts, Set<LocationType> locationFilter) {
+        Map<LocationType, JSONArray> locationInfoMap = new EnumMap<>(LocationType.class);
+
+        //生成所有需要匹配的位置文本 并行匹配时文本必须提前生成
+        Map<LocationType, String> textMap = new EnumMap<>(LocationType.class);
+        int maxTextLength = 0;
+        for (LocationType locationType : ruleSet.getLocationRules().keySet()){
+            if (locationFilter != null && !locationFilter.contains(locationType)) continue;
+            String locationText = locationTexts.getText(locationType);
+            //当存在字符串不为空时进行匹配
+            if (locationText == null || locationText.length() == 0) continue;
+            textMap.put(locationType, locationText);
+            maxTextLength = Math.max(maxTextLength, locationText.length());
         }
 
-        //遍历规则进行提取
-        for (FingerPrintRule rule : BurpExtender.fingerprintRules){
-            //忽略关闭的选项 // 过滤掉配置选项
-            if (!rule.getIsOpen()|| rule.getType().startsWith(Constants.RULE_CONF_PREFIX)){
-                continue;
-            }
+        //超大消息 按文本窗口并行扫描关键字, 按规则分区并行执行规则
+        ForkJoinPool pool = isParallelAnalyse(maxTextLength) ? getRulePool() : null;
 
+        //遍历按位置分组的预编译规则进行提取 关闭的规则和配置规则在编译时已被过滤
+        List<CompiledRule> rules = new ArrayList<>();
+        List<LocationMatchContext> ruleContexts = new ArrayList<>();
+        for (Map.Entry<LocationType, List<CompiledRule>> locationEntry : ruleSet.getLocationRules().entrySet()){
             // 根据不同的规则 配置 查找范围
-            String locationText;
+            LocationType locationType = locationEntry.getKey();
+            String locationText = textMap.get(locationType);
+            if (locationText == null) continue;
+
+            locationInfoMap.put(locationType, new JSONArray());
+            LocationMatchContext context = new LocationMatchContext(locationText);
+            //关键字匹配 位置文本小写格式化后通过自动机一次扫描得到所有关键字的命中结果
+            context.keywordMatcher = ruleSet.getKeywordMatcher(locationType);
+            context.keywordHits = context.keywordMatcher == null ? null : scanKeywords(pool, context.keywordMatcher, locationText.toLowerCase(), false);
+
+            //正则匹配 先扫描必需字面量 不包含任何必需字面量的正则不需要执行
+            context.literalMatcher = IProxyScanner.regexLiteralPrefilter ? ruleSet.getRegexLiteralMatcher(locationType) : null;
+            context.literalHits = context.literalMatcher == null ? null : scanKeywords(pool, context.literalMatcher, locationText, true);
+
+            //多正则合并扫描 一次扫描得到可能命中的正则, 只对这些正则提取结果
+            context.regexAutomaton = IProxyScanner.combinedRegexScan ? ruleSet.getRegexAutomaton(locationType) : null;
+            context.regexHits = context.regexAutomaton == null ? null : context.regexAutomaton.scan(locationText);
+
+            for (CompiledRule rule : locationEntry.getValue()){
+                rules.add(rule);
+                ruleContexts.add(context);
+            }
+        }
 
-            LocationType locationType;
-            try {
-                locationType = LocationType.fromValue(rule.getLocation());
-            } catch (IllegalArgumentException e) {
-                // 处理未知位置类型，默认为 RESPONSE
-                stderr_println(String.format("Error locationType was found!!! %s", e.getMessage()));
-                locationType = LocationType.RESPONSE;
+        if (pool == null) {
+            for (int i = 0; i < rules.size(); i++) {
+                evaluateRule(rules.get(i), ruleContexts.get(i), locationInfoMap.get(rules.get(i).getLocationType()));
+            }
+        } else {
+            //每条规则的结果按规则顺序合并 与串行匹配的结果顺序一致
+            JSONArray[] ruleResults = new JSONArray[rules.size()];
+            pool.invoke(new RulePartitionTask(rules, ruleContexts, ruleResults, 0, rules.size()));
+            for (int i = 0; i < rules.size(); i++) {
+                if (ruleResults[i] != null) locationInfoMap.get(rules.get(i).getLocationType()).addAll(ruleResults[i]);
             }
+        }
+        return locationInfoMap;
+    }
 
-            switch (locationType) {
-                case PATH:
-                    locationText = reqPath;
-                    break;
-                case TITLE:
-                    locationText = respTitle;
-                    break;
-                case ICON_HASH:
-                    locationText = respIconHash;
-                    break;
-                case BODY:
-                    locationText = respBody;
-                    break;
-                case HEADER:
-                    locationText = respHeaders;
-                    break;
-                case RESPONSE:
-                default:
-                    locationText = respContent;
-                    break;
+    /**
+     * 最长的位置文本达到阈值时 使用并行匹配
+     */
+    private static boolean isParallelAnalyse(int maxTextLength) {
+        return IProxyScanner.parallelAnalyseThreshold > 0 && maxTextLength >= IProxyScanner.parallelAnalyseThreshold;
+    }
+
+    private static ForkJoinPool getRulePool() {
+        if (rulePool == null) {
+            synchronized (AnalyseInfo.class) {
+                if (rulePool == null) {
+                    rulePool = new ForkJoinPool(Math.min(Runtime.getRuntime().availableProcessors(), 16));
+                }
             }
+        }
+        return rulePool;
+    }
 
-            //当存在字符串不为空时进行匹配
-            if (locationText != null && locationText.length() > 0) {
-                String currMatchType = rule.getMatchType();
-                List<String> currMatchKeys = rule.getMatchKeys();
-
-                //匹配任意关键字规则
-                if (currMatchType.equals(MatchType.ANY_KEYWORDS.getValue())){
-                    for (String matchKey : currMatchKeys){
-                        //判断matchKey是否包含语法
-                        if(matchKey.contains("||")){
-                            //查找每个关键字,这个方案循环次数比较多,
-                            Set<String> findContainKeys = findContainKeys(locationText, matchKey, "||");
-                            if(!findContainKeys.isEmpty()){
-                                JSONObject findInfo = formatMatchInfoToJson(rule, CastUtils.setToString(findContainKeys));
-                                findInfoJsonList.add(findInfo);
-                            }
-                        } else {
-                            //默认情况都用&&切割一次
-                            if(isContainAllKey(locationText,  matchKey, false, "&&")){
-                                JSONObject findInfo = formatMatchInfoToJson(rule, matchKey);
-                                findInfoJsonList.add(findInfo);
-                            }
-                        }
+    /**
+     * 通过自动机扫描文本 传入线程池时按窗口并行扫描后合并命中结果
+     */
+    private static BitSet scanKeywords(ForkJoinPool pool, AhoCorasickMatcher matcher, String text, boolean foldAsciiCase) {
+        if (pool == null || text.length() <= SCAN_WINDOW_SIZE) {
+            return matcher.match(text, 0, text.length(), foldAsciiCase);
+        }
+        return pool.invoke(new KeywordScanTask(matcher, text, foldAsciiCase, 0, text.length()));
+    }
+
+    /**
+     * 在位置文本上执行单条规则 结果追加到 findInfoJsonList
+     */
+    private static void evaluateRule(CompiledRule rule, LocationMatchContext context, JSONArray findInfoJsonList) {
+        //跳过多次超出执行预算被隔离的规则
+        if (rule.isQuarantined()) return;
+
+        //统计规则的执行耗时 命中次数 正则扫描字符数
+        long startNanos = System.nanoTime();
+        int resultSize = findInfoJsonList.size();
+        int regexRuns = 0;
+
+        MatchType currMatchType = rule.getMatchType();
+
+        //匹配任意关键字规则
+        if (currMatchType == MatchType.ANY_KEYWORDS){
+            for (CompiledRule.KeywordGroup keywordGroup : rule.getKeywordGroups()){
+                //判断matchKey是否包含语法
+                if(keywordGroup.isAnyMode()){
+                    Set<String> findContainKeys = findHitKeys(context.keywordMatcher, context.keywordHits, keywordGroup.getKeys());
+                    if(!findContainKeys.isEmpty()){
+                        JSONObject findInfo = formatMatchInfoToJson(rule, CastUtils.setToString(findContainKeys));
+                        findInfoJsonList.add(findInfo);
+                    }
+                } else {
+                    //默认情况都用&&切割一次
+                    if(isHitAllKeys(context.keywordMatcher, context.keywordHits, keywordGroup.getKeys())){
+                        JSONObject findInfo = formatMatchInfoToJson(rule, keywordGroup.getRawKey());
+                        findInfoJsonList.add(findInfo);
                     }
                 }
+            }
+        }
 
-                //匹配全部关键字规则
-                else if (currMatchType.equals(MatchType.ALL_KEYWORDS.getValue())) {
-                    boolean allMatched = true; // 标志位，用于判断是否所有正则都匹配成功
-                    Set<String> allGroups = new HashSet<>(); //存储所有匹配结果
-                    for (String matchKey : currMatchKeys) {
-                        //判断matchKey是否包含语法
-                        if (matchKey.contains("||")) {
-                            //查找每个关键字,这个方案循环次数比较多,后续如果卡的话  isContainOneKeys(locationText, matchKey, "||")
-                            Set<String> findContainKeys = findContainKeys(locationText, matchKey, "||");
-                            if (findContainKeys.isEmpty()) {
-                                allMatched = false;
-                                break;
-                            } else {
-                                allGroups.addAll(findContainKeys);
-                            }
-                        } else {
-                            //默认情况都用&&切割一次
-                            if (!isContainAllKey(locationText, matchKey, false, "&&")) {
-                                allMatched = false;
-                                break;
-                            } else {
-                                allGroups.add(matchKey);
-                            }
-                        }
+        //匹配全部关键字规则
+        else if (currMatchType == MatchType.ALL_KEYWORDS) {
+            boolean allMatched = true; // 标志位，用于判断是否所有正则都匹配成功
+            Set<String> allGroups = new HashSet<>(); //存储所有匹配结果
+            //按学习到的顺序检查 最容易未命中的关键字组在前
+            for (int i : rule.getEvalOrder()) {
+                CompiledRule.KeywordGroup keywordGroup = rule.getKeywordGroups().get(i);
+                //判断matchKey是否包含语法
+                if (keywordGroup.isAnyMode()) {
+                    Set<String> findContainKeys = findHitKeys(context.keywordMatcher, context.keywordHits, keywordGroup.getKeys());
+                    rule.recordCondition(i, findContainKeys.isEmpty(), 0);
+                    if (findContainKeys.isEmpty()) {
+                        allMatched = false;
+                        break;
+                    } else {
+                        allGroups.addAll(findContainKeys);
+                    }
+                } else {
+                    //默认情况都用&&切割一次
+                    boolean isHit = isHitAllKeys(context.keywordMatcher, context.keywordHits, keywordGroup.getKeys());
+                    rule.recordCondition(i, !isHit, 0);
+                    if (!isHit) {
+                        allMatched = false;
+                        break;
+                    } else {
+                        allGroups.add(keywordGroup.getRawKey());
                     }
-                    // 如果所有关键字都匹配成功 就保存所有匹配的关键字
-                    if (allMatched)  findInfoJsonList.add(formatMatchInfoToJson(rule, CastUtils.setToString(allGroups)));
                 }
+            }
+            // 如果所有关键字都匹配成功 就保存所有匹配的关键字
+            if (allMatched)  findInfoJsonList.add(formatMatchInfoToJson(rule, CastUtils.setToString(allGroups)));
+        }
 
 
-                //匹配任意正则规则
-                else if (currMatchType.equals(MatchType.ANY_REGULAR.getValue())){
-                    for (String matchPatter : currMatchKeys){
-                        Set<String> groups = AnalyseInfoUtils.extractInfoWithChunk(locationText, matchPatter, IProxyScanner.maxPatterChunkSize);
-                        if (isNotEmptyObj(groups)) findInfoJsonList.add(formatMatchInfoToJson(rule, CastUtils.setToString(groups)));
-                    }
-                }
+        //匹配任意正则规则
+        else if (currMatchType == MatchType.ANY_REGULAR){
+            for (int i = 0; i < rule.getRegexCount(); i++){
+                RuleRegex regex = rule.getRegex(i);
+                if (regex == null || !isRegexPossible(rule, i, context)) continue;
+                regexRuns++;
+                Set<String> groups = extractRuleInfoWithBudget(rule, regex, context.text);
+                if (isNotEmptyObj(groups)) findInfoJsonList.add(formatMatchInfoToJson(rule, CastUtils.setToString(groups)));
+            }
+        }
 
-                //匹配所有正则规则
-                else if (currMatchType.equals(MatchType.ALL_REGULAR.getValue())) {
-                    boolean allMatched = true;
-                    Set<String> allGroups = new HashSet<>(); //存储所有匹配结果
-                    for (String pattern : currMatchKeys) {
-                        Set<String> groups = AnalyseInfoUtils.extractInfoWithChunk(locationText, pattern, IProxyScanner.maxPatterChunkSize);
-                        if (isEmptyObj(groups)) {
-                            allMatched = false; // 如果有一个正则没有匹配成功，则标志位置为 false
-                            break; // 提前退出循环
-                        } else {
-                            allGroups.addAll(groups);
-                        }
+        //匹配所有正则规则
+        else if (currMatchType == MatchType.ALL_REGULAR) {
+            boolean allMatched = true;
+            Set<String> allGroups = new HashSet<>(); //存储所有匹配结果
+            //先检查所有正则的快速过滤条件 任意一个不可能命中时不执行正则
+            for (int i = 0; i < rule.getRegexCount(); i++) {
+                if (!isRegexPossible(rule, i, context)) {
+                    allMatched = false;
+                    break;
+                }
+            }
+            //按学习到的顺序执行正则 最容易未命中且耗时最少的正则在前
+            if (allMatched) {
+                for (int i : rule.getEvalOrder()) {
+                    RuleRegex regex = rule.getRegex(i);
+                    if (regex == null) {
+                        allMatched = false;
+                        break;
+                    }
+                    regexRuns++;
+                    long conditionStartNanos = System.nanoTime();
+                    Set<String> groups = extractRuleInfoWithBudget(rule, regex, context.text);
+                    rule.recordCondition(i, isEmptyObj(groups), System.nanoTime() - conditionStartNanos);
+                    if (isEmptyObj(groups)) {
+                        allMatched = false; // 如果有一个正则没有匹配成功，则标志位置为 false
+                        break; // 提前退出循环
+                    } else {
+                        allGroups.addAll(groups);
                     }
-                    // 如果所有正则都匹配成功 就保存所有匹配的信息
-                    if (allMatched)  findInfoJsonList.add(formatMatchInfoToJson(rule, CastUtils.setToString(allGroups)));
                 }
             }
+            // 如果所有正则都匹配成功 就保存所有匹配的信息
+            if (allMatched)  findInfoJsonList.add(formatMatchInfoToJson(rule, CastUtils.setToString(allGroups)));
+        }
+
+        rule.getRuntimeState().recordEvaluation(System.nanoTime() - startNanos, (long) regexRuns * context.text.length(), findInfoJsonList.size() > resultSize);
+    }
+
+    /**
+     * 在执行预算内提取规则正则的匹配结果 超出预算时视为未命中并记录一次超时
+     * 超时次数达到上限后隔离规则, 隔离的规则在规则配置面板中标红显示
+     */
+    private static Set<String> extractRuleInfoWithBudget(CompiledRule rule, RuleRegex regex, String locationText) {
+        DeadlineCharSequence budgetText = new DeadlineCharSequence(locationText, IProxyScanner.regexMatchTimeout, IProxyScanner.regexMatchMaxSteps);
+        try {
+            return regex.extractInfo(budgetText, IProxyScanner.maxPatterChunkSize, IProxyScanner.maxPatterChunkOverlap);
+        } catch (DeadlineCharSequence.BudgetExceededException e) {
+            budgetExceededCount.increment();
+            String reason = String.format("[%s] %s", regex.pattern(), e.getMessage());
+            boolean quarantined = rule.getRuntimeState().addStrike(reason, IProxyScanner.regexMaxStrikes);
+            stderr_println(LOG_ERROR, String.format("[!] 规则正则超出执行预算: [%s] %s -> %s/%s", rule.getDescribe(), reason, rule.getRuntimeState().getStrikes(), IProxyScanner.regexMaxStrikes));
+            if (quarantined) {
+                stderr_println(LOG_ERROR, String.format("[!] 规则已被隔离 不再参与匹配: [%s]", rule.getDescribe()));
+                RuleConfigPanel.repaintRuleTable();
+            }
+            return new HashSet<>();
         }
-        return findInfoJsonList;
+    }
+
+    /**
+     * 从自动机命中结果中查找关键字列表中命中的关键字
+     */
+    private static Set<String> findHitKeys(AhoCorasickMatcher keywordMatcher, BitSet keywordHits, List<String> keys) {
+        Set<String> findElements = new HashSet<>();
+        for (String key : keys) {
+            if (keywordMatcher.isHit(keywordHits, key)) findElements.add(key);
+        }
+        return findElements;
+    }
+
+    /**
+     * 判断关键字列表是否全部在自动机命中结果中
+     */
+    private static boolean isHitAllKeys(AhoCorasickMatcher keywordMatcher, BitSet keywordHits, List<String> keys) {
+        for (String key : keys) {
+            if (!keywordMatcher.isHit(keywordHits, key)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 判断第 index 个正则是否可能命中 必需字面量不在文本中或合并扫描没有命中时返回false
+     */
+    private static boolean isRegexPossible(CompiledRule rule, int index, LocationMatchContext context) {
+        if (!isLiteralsPresent(rule, index, context.literalMatcher, context.literalHits)) return false;
+        return context.regexAutomaton == null || context.regexAutomaton.isHit(context.regexHits, rule.getMatchKeys().get(index));
+    }
+
+    /**
+     * 判断第 index 个正则的必需字面量是否出现在文本中 未开启预过滤或正则没有必需字面量时总是返回true
+     */
+    private static boolean isLiteralsPresent(CompiledRule rule, int index, AhoCorasickMatcher literalMatcher, BitSet literalHits) {
+        List<String> requiredLiterals = rule.getRequiredLiterals(index);
+        if (literalMatcher == null || requiredLiterals == null) return true;
+        return literalMatcher.isHitAny(literalHits, requiredLiterals);
     }
 
     /**
@@ -350,13 +528,13 @@ public class AnalyseInfo {
      * @param group
      * @return
      */
-    private static JSONObject formatMatchInfoToJson(FingerPrintRule rule, String group) {
+    private static JSONObject formatMatchInfoToJson(CompiledRule rule, String group) {
         JSONObject jsonObject = new JSONObject();
         jsonObject.put(type, rule.getType()); // "type": "敏感内容",
         jsonObject.put(describe, rule.getDescribe()); //"describe": "身份证",
         jsonObject.put(accuracy, rule.getAccuracy()); //"accuracy": "high"
         jsonObject.put(important, rule.getIsImportant()); //"isImportant": true,
-        jsonObject.put(matchType, rule.getMatchType()); //匹配位置
+        jsonObject.put(matchType, rule.getMatchTypeValue()); //匹配位置
         jsonObject.put(value, group);
         return jsonObject;
     }
@@ -367,34 +545,180 @@ public class AnalyseInfo {
      * @return
      */
     public static Set<String> findUriInfoByRegular(HttpMsgInfo msgInfo) {
+        return findUriInfoByRegular(msgInfo, new LocationTextCache(msgInfo));
+    }
+
+    /**
+     * 提取响应体中的URL和PATH 复用已经生成(解码)的响应体文本
+     * @param msgInfo
+     * @param locationTexts
+     * @return
+     */
+    public static Set<String> findUriInfoByRegular(HttpMsgInfo msgInfo, LocationTextCache locationTexts) {
         //存储所有提取的URL/URI
         Set<String> allExtractUriSet = new HashSet<>();
+        int[] uriSegments = findBodyUriInfo(msgInfo, locationTexts, allExtractUriSet);
+        allExtractUriSet.addAll(findScriptUriInfo(msgInfo, locationTexts, uriSegments));
+        return allExtractUriSet;
+    }
+
+    /**
+     * 使用URI提取正则匹配响应体 结果只与响应体有关, 可以缓存
+     * @return 词法分析得到的片段 供解析JS时复用, 未进行词法分析时返回null
+     */
+    private static int[] findBodyUriInfo(HttpMsgInfo msgInfo, LocationTextCache locationTexts, Set<String> allExtractUriSet) {
+        //转换响应体 需要时已进行Json解码
+        String respBody = locationTexts.getText(LocationType.BODY);
+        if (!isUriExtractBody(respBody)) return null;
 
-        //转换响应体,后续可能需要解决编码问题
-        String respBody = new String(msgInfo.getRespInfo().getBodyBytes(), StandardCharsets.UTF_8);
         String rawUrlUsual = msgInfo.getUrlInfo().getRawUrlUsual();
+        //JS和HTML响应只在词法分析得到的片段中提取 不支持的类型返回null, 匹配整个响应体
+        int[] uriSegments = IProxyScanner.uriLexerExtract ? lexUriSegments(msgInfo, respBody) : null;
+        // 针对通用的页面提取
+        extractUriByRegular(respBody, uriSegments, rawUrlUsual, allExtractUriSet);
+        stdout_println(LOG_DEBUG, String.format("[*] 常规模式提取URI: %s -> %s", rawUrlUsual, allExtractUriSet.size()));
+        return uriSegments;
+    }
 
-        if (isNotEmptyObj(respBody) && respBody.trim().length() > 5 ){
-            //进行Json解码
-            if(msgInfo.getRespInfo().getInferredMimeType().contains("JSON")||IProxyScanner.forceDecodeUnicode){
-                respBody = TextUtils.decodeAll(respBody);
-            }
+    /**
+     * 提取JS响应中按JS文件地址计算的 chunk 和 Source Map 地址 结果与请求地址有关, 不能缓存
+     * @param uriSegments 已有的JS词法分析结果 为null时重新分析
+     */
+    private static Set<String> findScriptUriInfo(HttpMsgInfo msgInfo, LocationTextCache locationTexts, int[] uriSegments) {
+        Set<String> scriptUriSet = new HashSet<>();
+        // 针对webpack|Vite js页面的提取 判断文件名是否是JS后缀或响应是否是脚本
+        if (!isScriptResponse(msgInfo)) return scriptUriSet;
+
+        String respBody = locationTexts.getText(LocationType.BODY);
+        if (!isUriExtractBody(respBody)) return scriptUriSet;
+
+        String rawUrlUsual = msgInfo.getUrlInfo().getRawUrlUsual();
+        //复用URI提取时的JS词法分析结果
+        int[] jsSegments = uriSegments != null ? uriSegments : JsLiteralLexer.lexJs(respBody);
+        Set<String> extractUri = RespWebpackJsParser.parseChunkUrls(respBody, jsSegments, rawUrlUsual);
+        scriptUriSet.addAll(extractUri);
+        stdout_println(LOG_DEBUG, String.format("[*] Webpack提取URI: %s -> %s", rawUrlUsual, extractUri.size()));
+
+        //外部 Source Map 的地址 访问后按源文件提取
+        String sourceMapUrl = IProxyScanner.sourceMapExtract ? SourceMapUtils.findSourceMappingUrl(respBody) : null;
+        if (sourceMapUrl != null && !sourceMapUrl.regionMatches(true, 0, "data:", 0, 5)) {
+            scriptUriSet.add(SourceMapUtils.resolveSourceMapUrl(rawUrlUsual, sourceMapUrl));
+        }
+        return scriptUriSet;
+    }
+
+    private static boolean isUriExtractBody(String respBody) {
+        return isNotEmptyObj(respBody) && respBody.trim().length() > 5;
+    }
+
+    /**
+     * 判断响应是否是JS 文件名是JS后缀或响应是脚本, 排除HTML
+     */
+    private static boolean isScriptResponse(HttpMsgInfo msgInfo) {
+        String mimeType = msgInfo.getRespInfo().getInferredMimeType();
+        return !"HTML".equalsIgnoreCase(mimeType) && ("js".equals(msgInfo.getUrlInfo().getSuffix()) || "script".equalsIgnoreCase(mimeType));
+    }
+
+    /**
+     * 对提取的URI进行HTML解码 并去除不可打印内容
+     */
+    private static Set<String> normalizeUris(Set<String> uriSet) {
+        //进行HTML解码
+        uriSet = AnalyseInfoUtils.decodeHtml(uriSet);
+        //去除不可打印内容
+        return AnalyseInfoUtils.keepAsciiPrintableChars(uriSet);
+    }
 
-            // 针对通用的页面提取
-            for (Pattern pattern:BurpExtender.URI_MATCH_REGULAR_COMPILE){
-                Set<String> extractUri = AnalyseInfoUtils.extractUriMode1(respBody, pattern, IProxyScanner.maxPatterChunkSize);
+    /**
+     * 使用所有URI提取正则匹配文本 segments 不为null时只匹配其中的片段
+     */
+    private static void extractUriByRegular(String text, int[] segments, String rawUrlUsual, Set<String> allExtractUriSet) {
+        for (Pattern pattern:BurpExtender.URI_MATCH_REGULAR_COMPILE){
+            DeadlineCharSequence budgetText = new DeadlineCharSequence(text, IProxyScanner.regexMatchTimeout, IProxyScanner.regexMatchMaxSteps);
+            try {
+                Set<String> extractUri = segments == null
+                        ? AnalyseInfoUtils.extractUriMode1(budgetText, pattern, IProxyScanner.maxPatterChunkSize, IProxyScanner.maxPatterChunkOverlap)
+                        : AnalyseInfoUtils.extractUriBySegments(budgetText, pattern, segments, IProxyScanner.maxPatterChunkSize, IProxyScanner.maxPatterChunkOverlap);
                 allExtractUriSet.addAll(extractUri);
-                stdout_println(LOG_DEBUG, String.format("[*] 常规模式提取URI: %s -> %s", rawUrlUsual, extractUri.size()));
+            } catch (DeadlineCharSequence.BudgetExceededException e) {
+                budgetExceededCount.increment();
+                stderr_println(LOG_ERROR, String.format("[!] URI提取正则超出执行预算: %s -> [%s] %s", rawUrlUsual, pattern.pattern(), e.getMessage()));
             }
+        }
+    }
 
-            // 针对webpack js页面的提取 判断文件名是否是JS后缀
-            if ("js".equals(msgInfo.getUrlInfo().getSuffix())){
-                Set<String> extractUri = respBody.length() > 30000 ? RespWebpackJsParser.parseWebpackSimpleChunk(respBody, IProxyScanner.maxPatterChunkSize) : RespWebpackJsParser.parseWebpackSimple(respBody);
-                allExtractUriSet.addAll(extractUri);
-                stdout_println(LOG_DEBUG, String.format("[*] Webpack提取URI: %s -> %s", rawUrlUsual, extractUri.size()));
+    /**
+     * 逐个源文件提取 Source Map 中的敏感信息和URI 同一时刻只保留一个源文件的文本
+     * 源文件的提取结果归入响应体位置 与响应体相同时可以复用缓存
+     */
+    private static void analyseSourceMap(CompiledRuleSet ruleSet, HttpMsgInfo msgInfo, byte[] mapBytes, int offset, int length,
+                                         Map<LocationType, JSONArray> locationInfoMap, Set<String> findUriSet) {
+        String rawUrlUsual = msgInfo.getUrlInfo().getRawUrlUsual();
+        JSONArray sourceInfoJsonArray = new JSONArray();
+        int sourceCount = SourceMapUtils.readSources(mapBytes, offset, length, (source, content) -> {
+            Map<LocationType, String> sourceTexts = new EnumMap<>(LocationType.class);
+            for (LocationType locationType : SOURCE_LOCATIONS) sourceTexts.put(locationType, content);
+            for (JSONArray locationInfoJsonArray : findSensitiveInfoByLocations(ruleSet, new LocationTextCache(sourceTexts), SOURCE_LOCATIONS).values()) {
+                sourceInfoJsonArray.addAll(locationInfoJsonArray);
             }
+
+            int[] sourceSegments = IProxyScanner.uriLexerExtract ? lexSourceSegments(source, content) : null;
+            extractUriByRegular(content, sourceSegments, rawUrlUsual, findUriSet);
+        });
+
+        if (!sourceInfoJsonArray.isEmpty()) {
+            locationInfoMap.computeIfAbsent(LocationType.BODY, k -> new JSONArray()).addAll(CastUtils.deduplicateJsonArray(sourceInfoJsonArray));
         }
-        return allExtractUriSet;
+        stdout_println(LOG_DEBUG, String.format("[*] Source Map 源文件提取: %s -> %s", rawUrlUsual, sourceCount));
+    }
+
+    /**
+     * 获取JS响应末尾内联的 Source Map 数据 不存在时返回null
+     */
+    private static byte[] findInlineSourceMap(HttpMsgInfo msgInfo, LocationTextCache locationTexts) {
+        if (!isScriptResponse(msgInfo)) return null;
+
+        String respBody = locationTexts.getText(LocationType.BODY);
+        String sourceMapUrl = respBody == null ? null : SourceMapUtils.findSourceMappingUrl(respBody);
+        return sourceMapUrl == null ? null : SourceMapUtils.decodeDataUrl(sourceMapUrl);
+    }
+
+    /**
+     * 根据源文件名称选择词法分析方式 HTML和单文件组件按HTML处理, 无法识别的类型返回null 匹配整个源文件
+     */
+    private static int[] lexSourceSegments(String source, String content) {
+        String suffix = source == null ? "js" : SourceMapUtils.getSourceSuffix(source);
+        switch (suffix) {
+            case "html":
+            case "htm":
+            case "vue":
+            case "svelte":
+                return JsLiteralLexer.lexHtml(content);
+            case "js":
+            case "mjs":
+            case "cjs":
+            case "jsx":
+            case "ts":
+            case "mts":
+            case "tsx":
+                return JsLiteralLexer.lexJs(content);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 对JS和HTML响应进行词法分析 返回可能包含URI的片段, 其他类型的响应返回null
+     */
+    private static int[] lexUriSegments(HttpMsgInfo msgInfo, String respBody) {
+        String mimeType = msgInfo.getRespInfo().getInferredMimeType();
+        if ("HTML".equalsIgnoreCase(mimeType)) {
+            return JsLiteralLexer.lexHtml(respBody);
+        }
+        if ("script".equalsIgnoreCase(mimeType) || "js".equals(msgInfo.getUrlInfo().getSuffix())) {
+            return JsLiteralLexer.lexJs(respBody);
+        }
+        return null;
     }
 
     /**
@@ -419,4 +743,88 @@ public class AnalyseInfo {
         hashMap.put(PATH_KEY, pathList);
         return hashMap;
     }
+
+    /**
+     * 单个位置的匹配上下文 同一位置的规则共享文本和自动机扫描结果
+     */
+    private static class LocationMatchContext {
+        private final String text;
+        private AhoCorasickMatcher keywordMatcher;
+        private BitSet keywordHits;
+        private AhoCorasickMatcher literalMatcher;
+        private BitSet literalHits;
+        private MultiRegexAutomaton regexAutomaton;
+        private BitSet regexHits;
+
+        private LocationMatchContext(String text) {
+            this.text = text;
+        }
+    }
+
+    /**
+     * 按规则分区并行执行 每条规则的结果保存在规则对应的位置, 没有结果时为null
+     */
+    private static class RulePartitionTask extends RecursiveAction {
+        private final List<CompiledRule> rules;
+        private final List<LocationMatchContext> contexts;
+        private final JSONArray[] ruleResults;
+        private final int start;
+        private final int end;
+
+        private RulePartitionTask(List<CompiledRule> rules, List<LocationMatchContext> contexts, JSONArray[] ruleResults, int start, int end) {
+            this.rules = rules;
+            this.contexts = contexts;
+            this.ruleResults = ruleResults;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= RULES_PER_TASK) {
+                for (int i = start; i < end; i++) {
+                    JSONArray findInfoJsonList = new JSONArray();
+                    evaluateRule(rules.get(i), contexts.get(i), findInfoJsonList);
+                    if (!findInfoJsonList.isEmpty()) ruleResults[i] = findInfoJsonList;
+                }
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new RulePartitionTask(rules, contexts, ruleResults, start, middle),
+                    new RulePartitionTask(rules, contexts, ruleResults, middle, end));
+        }
+    }
+
+    /**
+     * 按文本窗口并行扫描关键字 相邻窗口重叠 最长关键字长度-1 个字符, 跨越窗口的关键字不会丢失
+     */
+    private static class KeywordScanTask extends RecursiveTask<BitSet> {
+        private final AhoCorasickMatcher matcher;
+        private final String text;
+        private final boolean foldAsciiCase;
+        private final int start;
+        private final int end;
+
+        private KeywordScanTask(AhoCorasickMatcher matcher, String text, boolean foldAsciiCase, int start, int end) {
+            this.matcher = matcher;
+            this.text = text;
+            this.foldAsciiCase = foldAsciiCase;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected BitSet compute() {
+            if (end - start <= SCAN_WINDOW_SIZE) {
+                int scanEnd = (int) Math.min((long) end + Math.max(0, matcher.getMaxKeywordLength() - 1), text.length());
+                return matcher.match(text, start, scanEnd, foldAsciiCase);
+            }
+            int middle = (start + end) >>> 1;
+            KeywordScanTask left = new KeywordScanTask(matcher, text, foldAsciiCase, start, middle);
+            left.fork();
+            BitSet hits = new KeywordScanTask(matcher, text, foldAsciiCase, middle, end).compute();
+            hits.or(left.join());
+            return hits;
+        }
+    }
 }
@@ -3,14 +3,19 @@ package burp;
 
 import com.alibaba.fastjson2.JSON;
 import database.DBService;
+import model.CompiledRule;
+import model.CompiledRuleSet;
 import model.FingerPrintRule;
 import model.FingerPrintRulesWrapper;
 import ui.BasicHostInfoPanel;
 import ui.BasicUrlInfoPanel;
+import ui.RuleConfigPanel;
 import ui.Tabs;
 import utils.BurpFileUtils;
 import utils.BurpPrintUtils;
 import utils.ConfigUtils;
+import utils.RootUrlMatcher;
+import utils.UriFilterChain;
 
 import javax.swing.*;
 import java.awt.event.ActionEvent;
@@ -63,6 +68,32 @@ public class BurpExtender implements IBurpExtender, IExtensionStateListener, ICo
 
     //响应体分割的大小 字符串长度
     public static int maxPatterChunkSizeDefault=20000;
+    //相邻响应分块的重叠长度 跨越分块边界的内容不超过该长度时不会丢失
+    public static int maxPatterChunkOverlapDefault=1000;
+    //单条规则正则单次匹配的最大耗时 毫秒 小于等于0时不限制
+    public static int regexMatchTimeoutDefault=3000;
+    //单条规则正则单次匹配的最大读取字符次数 小于等于0时不限制
+    public static long regexMatchMaxStepsDefault=500000000L;
+    //规则正则超出执行预算的次数达到该值后隔离规则 小于等于0时不隔离
+    public static int regexMaxStrikesDefault=3;
+    //位置文本长度达到该值时 单个消息的规则匹配改为多线程并行 小于等于0时不启用
+    public static int parallelAnalyseThresholdDefault=1000000;
+    //按响应体哈希缓存分析结果的内存条目数 小于等于0时不启用
+    public static int analyseCacheSizeDefault=1000;
+    //记录已提取URI的主机数量 同一主机已提取的URI不再过滤和合并 小于等于0时不启用
+    public static int seenUriHostSizeDefault=500;
+    //缓存URL解析结果的条目数 小于等于0时不启用
+    public static int urlInfoCacheSizeDefault=5000;
+    //代理消息解析队列的容量 代理线程只入队原始数据, 队列满时丢弃 小于等于0时在代理线程中同步解析
+    public static int proxyIngestQueueSizeDefault=8192;
+    //规则正则语法支持时使用线性时间的正则引擎 匹配整个文本不再分块
+    public static boolean linearRegexEngineDefault=true;
+    //同一位置的正则合并为一个自动机扫描 只对可能命中的正则提取结果
+    public static boolean combinedRegexScanDefault=true;
+    //JS和HTML响应先进行词法分析 URI提取正则只匹配字符串字面量、标签、文本和注释
+    public static boolean uriLexerExtractDefault=true;
+    //逐个源文件提取 Source Map 中的原始源码 包括JS中内联的 Source Map
+    public static boolean sourceMapExtractDefault=true;
     //最大支持存储的响应 比特长度
     public static int maxStoreRespBodyLenDefault=500000;
     //自动处理任务的时间频率,性能越低,频率越应该慢
@@ -108,6 +139,11 @@ public class BurpExtender implements IBurpExtender, IExtensionStateListener, ICo
 
     public static List<Pattern> URI_MATCH_REGULAR_COMPILE = new ArrayList<>();  //存储编译后的正则表达式
 
+    public static volatile CompiledRuleSet FINGER_RULES_COMPILE = CompiledRuleSet.EMPTY;  //存储编译后的指纹规则 只读快照
+    public static volatile UriFilterChain URI_FILTER_COMPILE = null;  //存储按配置编译的URL|PATH过滤链 只读快照
+    public static volatile RootUrlMatcher WHITE_ROOT_URL_COMPILE = null;  //存储编译后的白名单RootUrl匹配器 只读快照
+    public static volatile RootUrlMatcher BLACK_ROOT_URL_COMPILE = null;  //存储编译后的黑名单RootUrl匹配器 只读快照
+
     //添加HTTP请求相关参数配置
     public static List<String> CONF_BLACK_RECURSE_REQ_PATH_KEYS = new ArrayList<>();  //禁止递归访问的URL路径[包含]此项任一元素
     public static List<String> CONF_RECURSE_REQ_HTTP_METHODS = new ArrayList<>();  //递归访问URL时的HTTP请求方法
@@ -161,6 +197,8 @@ public class BurpExtender implements IBurpExtender, IExtensionStateListener, ICo
             dbService = DBService.getInstance();
             dbService.initDBConnection();
             dbService.initCreateTables();
+            //记录已分析历史流量的规则 用于重新扫描时识别新增或修改过的规则
+            RuleRescanJob.initRuleBaseline(fingerprintRules);
             //当数据库文件大于5G时自动清空数据库文件
             dbService.clearBigDB(5);
 
@@ -183,6 +221,9 @@ public class BurpExtender implements IBurpExtender, IExtensionStateListener, ICo
         // 扩展卸载时，立刻关闭线程池
         stdout_println(LOG_DEBUG, "[+] Extension Will Unloaded, Cleaning Resources ing ...");
 
+        // 先关闭代理消息解析线程 不再向线程池提交任务
+        IProxyScanner.shutdownProxyParser();
+
         // 立刻关闭线程池
         if (iProxyScanner.executorService != null) {
             // 尝试立即关闭所有正在执行的任务
@@ -193,6 +234,13 @@ public class BurpExtender implements IBurpExtender, IExtensionStateListener, ICo
         //停止UI的定时任务    // 停止面板更新器
         BasicUrlInfoPanel.stopTimerBasicUrl();
         BasicHostInfoPanel.stopTimerBasicHost();
+        RuleConfigPanel.stopTimerRuleProfile();
+
+        // 取消正在执行的重新扫描任务
+        RuleRescanJob.cancelCurrent();
+
+        // 保存运行时学习到的规则子条件执行顺序
+        if (CompiledRule.pollEvalOrderChanged()) RuleConfigPanel.saveConfigToDefaultJson();
 
         // 关闭计划任务
         IProxyScanner.shutdownMonitorExecutor();
@@ -11,6 +11,7 @@ import utils.*;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static burp.BurpExtender.*;
 import static utils.BurpPrintUtils.*;
@@ -27,8 +28,32 @@ public class IProxyScanner implements IProxyListener {
     public static ThreadPoolExecutor executorService = null;
     public static ScheduledExecutorService monitorExecutor;
 
+    //代理线程捕获的原始消息 由解析线程统一解析和过滤
+    private static volatile MpscRingBuffer<ProxyRawMessage> proxyIngestBuffer = null;
+    private static volatile Thread proxyParserThread = null;
+    //解析队列已满时丢弃的消息数量
+    private static final AtomicLong proxyDroppedCount = new AtomicLong();
+
     //响应体进行正则分割时的默认大小
     public static int maxPatterChunkSize;
+    //正则分块匹配时 相邻分块的重叠长度
+    public static int maxPatterChunkOverlap;
+    //单条规则正则单次匹配的最大耗时 毫秒
+    public static int regexMatchTimeout;
+    //单条规则正则单次匹配的最大读取字符次数
+    public static long regexMatchMaxSteps;
+    //规则正则超出执行预算多少次后隔离
+    public static int regexMaxStrikes;
+    //单个消息并行匹配规则的文本长度阈值
+    public static int parallelAnalyseThreshold;
+    //按响应体哈希缓存分析结果的内存条目数
+    public static int analyseCacheSize;
+    //记录已提取URI的主机数量
+    public static int seenUriHostSize;
+    //缓存URL解析结果的条目数
+    public static int urlInfoCacheSize;
+    //代理消息解析队列的容量
+    public static int proxyIngestQueueSize;
     //最大支持存储的响应 比特长度
     public static int maxStoreRespBodyLen;
     //自动处理任务的时间频率,性能越低,频率越应该慢
@@ -49,6 +74,16 @@ public class IProxyScanner implements IProxyListener {
     public static boolean autoRefreshUiIsOpen;
     //自动解码Json和Unicode的功能
     public static boolean forceDecodeUnicode;
+    //正则规则执行前 先检查必需字面量是否存在
+    public static boolean regexLiteralPrefilter = true;
+    //规则正则语法支持时 使用线性时间的正则引擎
+    public static boolean linearRegexEngine;
+    //同一位置的正则合并扫描 跳过不可能命中的正则
+    public static boolean combinedRegexScan;
+    //JS和HTML响应的URI提取 只匹配词法分析得到的片段
+    public static boolean uriLexerExtract;
+    //Source Map 按源文件逐个提取原始源码中的信息
+    public static boolean sourceMapExtract;
     //将path直接拼接出来的URL发送到未访问的URL列表中
     public static boolean addApiToUnvisitedUrls;
 
@@ -66,6 +101,19 @@ public class IProxyScanner implements IProxyListener {
     public IProxyScanner() {
         //开关的 默认值配置
         maxPatterChunkSize = maxPatterChunkSizeDefault;
+        maxPatterChunkOverlap = maxPatterChunkOverlapDefault;
+        regexMatchTimeout = regexMatchTimeoutDefault;
+        regexMatchMaxSteps = regexMatchMaxStepsDefault;
+        regexMaxStrikes = regexMaxStrikesDefault;
+        parallelAnalyseThreshold = parallelAnalyseThresholdDefault;
+        analyseCacheSize = analyseCacheSizeDefault;
+        seenUriHostSize = seenUriHostSizeDefault;
+        urlInfoCacheSize = urlInfoCacheSizeDefault;
+        proxyIngestQueueSize = proxyIngestQueueSizeDefault;
+        linearRegexEngine = linearRegexEngineDefault;
+        combinedRegexScan = combinedRegexScanDefault;
+        uriLexerExtract = uriLexerExtractDefault;
+        sourceMapExtract = sourceMapExtractDefault;
         maxStoreRespBodyLen = maxStoreRespBodyLenDefault;
         monitorExecutorIntervals = monitorExecutorIntervalsDefault;
         dynamicPathFilterIsOpen = dynamicPathFilterIsOpenDefault;
@@ -106,6 +154,7 @@ public class IProxyScanner implements IProxyListener {
         //使用单一的后台线程来执行所有周期性或定时任务。这通常用于那些不需要并行处理的定时任务，例如监控、定期日志记录等。
         monitorExecutor = Executors.newSingleThreadScheduledExecutor();
 
+        startProxyParser();
         startDatabaseMonitor();
     }
 
@@ -168,14 +217,83 @@ public class IProxyScanner implements IProxyListener {
             return;
         }
 
+        //未启用解析队列时 直接在代理线程中处理
+        if (proxyIngestBuffer == null){
+            handleProxyMessage(messageIsRequest, new HttpMsgInfo(iInterceptedProxyMessage));
+            return;
+        }
+
+        //代理线程只保存原始数据的引用 解析和过滤都交给解析线程, 尽快返回给Burp
+        IHttpRequestResponse messageInfo = iInterceptedProxyMessage.getMessageInfo();
+        ProxyRawMessage rawMessage = new ProxyRawMessage(messageIsRequest, messageInfo.getHttpService(), messageInfo.getRequest(), messageInfo.getResponse());
+        if (!proxyIngestBuffer.offer(rawMessage)){
+            long dropped = proxyDroppedCount.incrementAndGet();
+            if (dropped == 1 || dropped % 1000 == 0){
+                stderr_println(LOG_ERROR, String.format("[!] 代理消息解析队列已满 已丢弃消息数量: %s", dropped));
+            }
+        }
+    }
+
+    /**
+     * 启动代理消息解析线程 队列容量小于等于0时不启用
+     */
+    private static void startProxyParser() {
+        if (proxyIngestQueueSize <= 0) return;
+
+        MpscRingBuffer<ProxyRawMessage> buffer = new MpscRingBuffer<>(proxyIngestQueueSize);
+        Thread thread = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                ProxyRawMessage rawMessage;
+                try {
+                    rawMessage = buffer.poll(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    break;
+                }
+                if (rawMessage == null) continue;
+
+                try {
+                    HttpMsgInfo msgInfo = new HttpMsgInfo(rawMessage.getHttpService(), rawMessage.getReqBytes(), rawMessage.getRespBytes());
+                    handleProxyMessage(rawMessage.isRequest(), msgInfo);
+                } catch (Exception e) {
+                    stderr_println(LOG_ERROR, String.format("[!] 代理消息处理异常: %s", e.getMessage()));
+                }
+            }
+        }, "ProxyMessageParser");
+        thread.setDaemon(true);
+        thread.start();
+
+        proxyIngestBuffer = buffer;
+        proxyParserThread = thread;
+        stdout_println(LOG_INFO, "[+] run proxy message parser, queue capacity: " + buffer.capacity());
+    }
+
+    /**
+     * 关闭代理消息解析线程 未处理的消息直接丢弃
+     */
+    public static void shutdownProxyParser() {
+        Thread thread = proxyParserThread;
+        proxyIngestBuffer = null;
+        proxyParserThread = null;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 解析后的代理消息 过滤后提交到线程池处理
+     */
+    private static void handleProxyMessage(boolean messageIsRequest, HttpMsgInfo msgInfo) {
         if (!messageIsRequest) {
             //记录并更新UI面板中的扫描计数
             totalRequestCount += 1;
             BasicUrlConfigPanel.lbRequestCountOnUrl.setText(String.valueOf(totalRequestCount));
             BasicHostConfigPanel.lbRequestCountOnHost.setText(String.valueOf(totalRequestCount));
 
-            //解析当前请求的信息
-            HttpMsgInfo msgInfo = new HttpMsgInfo(iInterceptedProxyMessage);
             String reqRootUrl = msgInfo.getUrlInfo().getRootUrlUsual();
             String rawUrlUsual = msgInfo.getUrlInfo().getRawUrlUsual();
 
@@ -186,13 +304,13 @@ public class IProxyScanner implements IProxyListener {
             }
 
             //如果白名单开启,对于其他URL直接忽略
-            if (!isContainOneKey(reqRootUrl, CONF_WHITE_ROOT_URL, true)){
+            if (!RootUrlMatcher.isWhiteRootUrl(reqRootUrl)){
                 //stdout_println(LOG_DEBUG,"[-] 不匹配白名单域名 跳过url识别：" + rawUrlUsual);
                 return;
             }
 
             //匹配黑名单域名 黑名单域名相关的文件和路径都是无用的
-            if(isContainOneKey(reqRootUrl, CONF_BLACK_ROOT_URL, false)){
+            if(RootUrlMatcher.isBlackRootUrl(reqRootUrl)){
                 //stdout_println(LOG_DEBUG,"[-] 匹配黑名单域名 跳过url识别：" + rawUrlUsual);
                 return;
             }
@@ -246,14 +364,12 @@ public class IProxyScanner implements IProxyListener {
                 });
             }
         } else {
-            //解析当前请求的信息
-            HttpMsgInfo msgInfo = new HttpMsgInfo(iInterceptedProxyMessage);
             String reqRootUrl = msgInfo.getUrlInfo().getRootUrlUsual();
 
             //看URL识别是否报错 //如果白名单开启, //匹配黑名单域名  // 排除黑名单后缀  //排除黑名单路径文件
             if (msgInfo.getUrlInfo().getUrlToFileUsual() == null
-                    ||!isContainOneKey(reqRootUrl, CONF_WHITE_ROOT_URL, true)
-                    ||isContainOneKey(reqRootUrl, CONF_BLACK_ROOT_URL, false)
+                    ||!RootUrlMatcher.isWhiteRootUrl(reqRootUrl)
+                    ||RootUrlMatcher.isBlackRootUrl(reqRootUrl)
                     ||isEqualsOneKey(msgInfo.getUrlInfo().getSuffix(), CONF_BLACK_URI_EXT_EQUAL, false)
                     ||isContainOneKey(msgInfo.getUrlInfo().getPathToFile(), CONF_BLACK_URI_PATH_KEYS, false)
             ){
@@ -427,7 +543,7 @@ public class IProxyScanner implements IProxyListener {
                         // 遍历键的列表 对每个缓存目标进行检查,看看对应的URL过滤信息是否已经生成了
                         for (String reqUrl : keys) {
                             Map<String,Object> respFieldsMap = waitingUrlCompareMap.get(reqUrl);
-                            String rootUrl = new HttpUrlInfo(reqUrl).getRootUrlUsual();
+                            String rootUrl = UrlInfoCacheUtils.getUrlInfo(reqUrl).getRootUrlUsual();
                             Map<String, Object> currentFilterMap = urlCompareMap.get(rootUrl);
                             if (currentFilterMap != null){
                                 waitingUrlCompareMap.remove(reqUrl);
@@ -532,7 +648,7 @@ public class IProxyScanner implements IProxyListener {
                     RecordUrlTable.insertOrUpdateAccessedUrl(reqUrl,299);
 
                     //格式化URL
-                    HttpUrlInfo urlInfo = new HttpUrlInfo(reqUrl);
+                    HttpUrlInfo urlInfo = UrlInfoCacheUtils.getUrlInfo(reqUrl);
 
                     //不递归扫描黑名单内的主机 //需要 放在记录URL后面 不然每次都会获取到这个目标 导致无法忽略正常扫描
                     if (ignoreBlackRecurseHost
@@ -0,0 +1,202 @@
+package burp;
+
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONArray;
+import database.*;
+import model.*;
+import utils.CastUtils;
+import utils.RespHashUtils;
+import utils.RuleCompileUtils;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static utils.BurpPrintUtils.*;
+
+/**
+ * 使用新增或修改过的规则 重新扫描已存储的请求响应
+ * 已扫描过历史流量的规则按内容哈希记录在 RULE_HASH 表中, 只有不在表中的规则参与重新扫描
+ * 请求按id分批读取, 每批在线程池中并行匹配, 新增的敏感信息合并到URL和HOST分析结果中, 不重新提取URL和PATH
+ */
+public class RuleRescanJob {
+    //每批读取的请求数量
+    private static final int BATCH_SIZE = 64;
+
+    //当前正在执行的任务 同一时间只允许一个任务
+    private static volatile RuleRescanJob currentJob;
+
+    private final List<FingerPrintRule> rules;
+    private final RescanListener listener;
+    private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+    /**
+     * 重新扫描的进度回调 在扫描线程中调用
+     */
+    public interface RescanListener {
+        /**
+         * @param scanned 已扫描的请求数量
+         * @param total 请求总数
+         * @param merged 合并了新增信息的请求数量
+         */
+        void onProgress(int scanned, int total, int merged);
+
+        void onFinished(boolean cancelled, int scanned, int merged);
+    }
+
+    private RuleRescanJob(List<FingerPrintRule> rules, RescanListener listener) {
+        this.rules = rules;
+        this.listener = listener;
+    }
+
+    /**
+     * 计算规则内容的哈希 规则任意字段(子条件执行顺序除外)变化时哈希变化
+     */
+    public static String calcRuleHash(FingerPrintRule rule) {
+        return RespHashUtils.calcSHA256(JSON.toJSONString(rule, FingerPrintRule.IGNORE_MATCH_ORDER)).substring(0, 16);
+    }
+
+    /**
+     * 规则哈希表为空时(新数据库或流量被清空) 认为已有流量都是用当前规则分析的
+     */
+    public static void initRuleBaseline(List<FingerPrintRule> fingerprintRules) {
+        if (fingerprintRules == null || !RuleHashTable.fetchRuleHashes().isEmpty()) return;
+
+        List<String> ruleHashes = new ArrayList<>();
+        for (FingerPrintRule rule : fingerprintRules) {
+            ruleHashes.add(calcRuleHash(rule));
+        }
+        RuleHashTable.insertRuleHashes(ruleHashes);
+    }
+
+    /**
+     * 获取新增或修改过的规则 忽略配置规则和关闭的规则
+     */
+    public static List<FingerPrintRule> getChangedRules(List<FingerPrintRule> fingerprintRules) {
+        List<FingerPrintRule> changedRules = new ArrayList<>();
+        Set<String> scannedRuleHashes = RuleHashTable.fetchRuleHashes();
+        for (FingerPrintRule rule : fingerprintRules) {
+            if (rule.getType().startsWith(Constants.RULE_CONF_PREFIX) || !rule.getIsOpen()) continue;
+            if (!scannedRuleHashes.contains(calcRuleHash(rule))) changedRules.add(rule);
+        }
+        return changedRules;
+    }
+
+    /**
+     * 启动重新扫描 已有任务在执行时返回false
+     */
+    public static synchronized boolean start(List<FingerPrintRule> changedRules, RescanListener listener) {
+        if (currentJob != null) return false;
+
+        currentJob = new RuleRescanJob(new ArrayList<>(changedRules), listener);
+        Thread thread = new Thread(currentJob::run, "RuleRescanJob");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    public static boolean isRunning() {
+        return currentJob != null;
+    }
+
+    /**
+     * 取消正在执行的任务 已合并的结果保留
+     */
+    public static void cancelCurrent() {
+        RuleRescanJob job = currentJob;
+        if (job != null) job.cancelled.set(true);
+    }
+
+    private void run() {
+        int scanned = 0;
+        int merged = 0;
+        //扫描开始时的规则哈希 扫描期间规则再次被修改时, 修改后的规则仍视为未扫描
+        List<String> ruleHashes = new ArrayList<>();
+        for (FingerPrintRule rule : rules) {
+            ruleHashes.add(calcRuleHash(rule));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors()));
+        try {
+            CompiledRuleSet ruleSet = RuleCompileUtils.compileFingerRules(rules);
+            int total = CommonFetchData.fetchTableCounts(ReqMsgDataTable.tableName);
+            stdout_println(LOG_INFO, String.format("[*] 开始重新扫描历史流量: 规则数量 %s 请求数量 %s", rules.size(), total));
+
+            int lastId = 0;
+            while (!cancelled.get()) {
+                LinkedHashMap<Integer, ReqMsgDataModel> msgDataMap = ReqMsgDataTable.fetchMsgDataBatchAfterId(lastId, BATCH_SIZE);
+                if (msgDataMap.isEmpty()) break;
+
+                //并行匹配当前批次
+                List<Future<AnalyseUrlResultModel>> futures = new ArrayList<>();
+                for (ReqMsgDataModel msgData : msgDataMap.values()) {
+                    futures.add(executor.submit(() -> cancelled.get() ? null : rescanMsgData(ruleSet, msgData)));
+                }
+
+                Map<String, AnalyseUrlResultModel> msgHashInfoMap = new LinkedHashMap<>();
+                List<AnalyseHostResultModel> analyseHostResultModels = new ArrayList<>();
+                int index = 0;
+                for (ReqMsgDataModel msgData : msgDataMap.values()) {
+                    AnalyseUrlResultModel analyseResult = futures.get(index++).get();
+                    if (analyseResult == null) continue;
+                    msgHashInfoMap.put(msgData.getMsgHash(), analyseResult);
+                    analyseHostResultModels.add(new AnalyseHostResultModel(analyseResult));
+                }
+
+                //当前批次的结果一次性写入
+                merged += AnalyseUrlResultTable.mergeFindInfoByMsgHash(msgHashInfoMap);
+                AnalyseHostResultTable.mergeFindInfoByRootUrl(analyseHostResultModels);
+
+                for (Integer id : msgDataMap.keySet()) lastId = id;
+                scanned += msgDataMap.size();
+                listener.onProgress(scanned, Math.max(total, scanned), merged);
+            }
+
+            //扫描完成后 记录这些规则已扫描过历史流量
+            if (!cancelled.get()) RuleHashTable.insertRuleHashes(ruleHashes);
+            stdout_println(LOG_INFO, String.format("[*] 重新扫描历史流量%s: 已扫描 %s 新增信息 %s", cancelled.get() ? "已取消" : "完成", scanned, merged));
+        } catch (InterruptedException e) {
+            cancelled.set(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            cancelled.set(true);
+            stderr_println(LOG_ERROR, String.format("[!] 重新扫描历史流量出错: %s", e.getMessage()));
+        } finally {
+            executor.shutdownNow();
+            currentJob = null;
+            listener.onFinished(cancelled.get(), scanned, merged);
+        }
+    }
+
+    /**
+     * 使用指定规则匹配单个请求 没有提取到信息时返回null
+     */
+    private static AnalyseUrlResultModel rescanMsgData(CompiledRuleSet ruleSet, ReqMsgDataModel msgData) {
+        try {
+            HttpMsgInfo msgInfo = new HttpMsgInfo(
+                    msgData.getReqUrl(),
+                    msgData.getReqBytes(),
+                    msgData.getRespBytes(),
+                    msgData.getMsgHash()
+            );
+            JSONArray findInfoJsonArray = AnalyseInfo.findSensitiveInfoByRules(ruleSet, new LocationTextCache(msgInfo));
+            findInfoJsonArray = CastUtils.deduplicateJsonArray(findInfoJsonArray);
+            if (findInfoJsonArray.isEmpty()) return null;
+
+            return new AnalyseUrlResultModel(
+                    msgInfo.getUrlInfo().getRawUrlUsual(),
+                    findInfoJsonArray,
+                    new ArrayList<>(),
+                    new ArrayList<>(),
+                    new ArrayList<>(),
+                    AnalyseInfo.isHasImportant(findInfoJsonArray)
+            );
+        } catch (Exception e) {
+            stderr_println(LOG_ERROR, String.format("[!] 重新扫描请求出错: %s -> %s", msgData.getReqUrl(), e.getMessage()));
+            return null;
+        }
+    }
+}
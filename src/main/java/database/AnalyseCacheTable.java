@@ -0,0 +1,80 @@
+package database;
+
+import model.AnalyseCacheModel;
+import utils.CastUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static utils.BurpPrintUtils.*;
+
+public class AnalyseCacheTable {
+    //数据表名称
+    public static String tableName = "ANALYSE_CACHE";
+
+    //创建 按响应体哈希缓存分析结果的表 相同响应体在不同URL和主机间复用
+    static String creatTableSQL = "CREATE TABLE IF NOT EXISTS "+ tableName +" (\n"
+            + " id INTEGER PRIMARY KEY AUTOINCREMENT,\n"  //自增的id
+            + " body_hash TEXT NOT NULL,\n"  //响应体及解码方式的哈希
+            + " rules_version TEXT NOT NULL,\n"  //生成结果时的规则版本
+            + " find_info TEXT,\n"  //按位置保存的敏感信息
+            + " find_uri TEXT,\n"  //提取的URI
+            + " UNIQUE(body_hash, rules_version)\n"
+            + ");";
+
+    //插入或更新缓存
+    public static synchronized int insertOrUpdateAnalyseCache(AnalyseCacheModel cacheModel) {
+        int count = 0;
+        String upsertSql = "INSERT INTO "+ tableName +
+                " (body_hash, rules_version, find_info, find_uri)" +
+                " VALUES (?, ?, ?, ?)" +
+                " ON CONFLICT(body_hash, rules_version) DO UPDATE SET find_info = EXCLUDED.find_info, find_uri = EXCLUDED.find_uri;";
+
+        try (Connection conn = DBService.getInstance().getNewConn(); PreparedStatement stmt = conn.prepareStatement(upsertSql)) {
+            stmt.setString(1, cacheModel.getBodyHash());
+            stmt.setString(2, cacheModel.getRulesVersion());
+            stmt.setString(3, CastUtils.toJsonString(cacheModel.getFindInfo()));
+            stmt.setString(4, CastUtils.toJsonString(cacheModel.getFindUri()));
+            count = stmt.executeUpdate();
+        } catch (Exception e) {
+            stderr_println(String.format("[-] Error insert Or Update Analyse Cache On table [%s] -> Error:[%s]", tableName, e.getMessage()));
+        }
+        return count;
+    }
+
+    //根据响应体哈希和规则版本获取缓存 不存在时返回null
+    public static synchronized AnalyseCacheModel fetchAnalyseCache(String bodyHash, String rulesVersion) {
+        AnalyseCacheModel cacheModel = null;
+        String selectSql = "SELECT find_info, find_uri FROM "+ tableName +" WHERE body_hash = ? AND rules_version = ? LIMIT 1;";
+
+        try (Connection conn = DBService.getInstance().getNewConn(); PreparedStatement stmt = conn.prepareStatement(selectSql)) {
+            stmt.setString(1, bodyHash);
+            stmt.setString(2, rulesVersion);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    cacheModel = new AnalyseCacheModel(bodyHash, rulesVersion, rs.getString("find_info"), rs.getString("find_uri"));
+                }
+            }
+        } catch (Exception e) {
+            stderr_println(String.format("[-] Error fetch Analyse Cache On table [%s] -> Error:[%s]", tableName, e.getMessage()));
+        }
+        return cacheModel;
+    }
+
+    //删除其他规则版本的缓存 并只保留最新的 limit 条
+    public static synchronized int trimAnalyseCache(String rulesVersion, int limit) {
+        int count = 0;
+        String deleteSql = "DELETE FROM "+ tableName +" WHERE rules_version != ?" +
+                " OR id NOT IN (SELECT id FROM "+ tableName +" ORDER BY id DESC LIMIT ?);";
+
+        try (Connection conn = DBService.getInstance().getNewConn(); PreparedStatement stmt = conn.prepareStatement(deleteSql)) {
+            stmt.setString(1, rulesVersion);
+            stmt.setInt(2, limit);
+            count = stmt.executeUpdate();
+        } catch (Exception e) {
+            stderr_println(String.format("[-] Error trim Analyse Cache On table [%s] -> Error:[%s]", tableName, e.getMessage()));
+        }
+        return count;
+    }
+}
@@ -12,6 +12,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static utils.BurpPrintUtils.LOG_ERROR;
 import static utils.BurpPrintUtils.stderr_println;
@@ -178,6 +179,78 @@ public class AnalyseHostResultTable {
         return generatedId; //返回ID值，无论是更新还是插入
     }
 
+    /**
+     * 合并重新扫描得到的敏感信息 同一URL的信息合并去重, 不修改URL和PATH的提取结果
+     * 主机记录不存在时 插入只包含敏感信息的记录
+     * @param analyseHostResultModels 只包含新增敏感信息的主机结果
+     * @return 成功合并的记录数量
+     */
+    public static synchronized int mergeFindInfoByRootUrl(List<AnalyseHostResultModel> analyseHostResultModels){
+        int count = 0;
+        if (analyseHostResultModels.isEmpty()) return count;
+
+        String selectSql = "SELECT find_info, has_important FROM "+ tableName +" WHERE root_url = ?;";
+        String updateSql = "UPDATE " + tableName + " SET find_info = ?, find_info_num = ?, has_important = ? WHERE root_url = ?;";
+        String insertSql = "INSERT INTO "+ tableName + " " +
+                "(root_url, find_info, find_info_num, has_important, " +
+                "find_url, find_url_num, find_path, find_path_num, find_api, find_api_num, " +
+                "unvisited_url, unvisited_url_num, run_status) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (Connection conn = DBService.getInstance().getNewConn();
+             PreparedStatement selectStmt = conn.prepareStatement(selectSql);
+             PreparedStatement updateStmt = conn.prepareStatement(updateSql);
+             PreparedStatement insertStmt = conn.prepareStatement(insertSql)) {
+            conn.setAutoCommit(false);
+            for (AnalyseHostResultModel analyseHostResultModel : analyseHostResultModels) {
+                String rootUrl = analyseHostResultModel.getRootUrl();
+                HashMap<String, JSONArray> urlInfoArrayMap = analyseHostResultModel.getUrlInfoArrayMap();
+
+                selectStmt.setString(1, rootUrl);
+                try (ResultSet rs = selectStmt.executeQuery()) {
+                    if (rs.next()) {
+                        HashMap<String, JSONArray> newUrlInfoArrayMap = CastUtils.toUrlInfoArrayMap(rs.getString("find_info"));
+                        if (newUrlInfoArrayMap == null) newUrlInfoArrayMap = new HashMap<>();
+                        for (Map.Entry<String, JSONArray> entry : urlInfoArrayMap.entrySet()) {
+                            JSONArray findInfoArray = new JSONArray();
+                            JSONArray oldFindInfoArray = newUrlInfoArrayMap.get(entry.getKey());
+                            if (oldFindInfoArray != null) findInfoArray.addAll(oldFindInfoArray);
+                            findInfoArray.addAll(entry.getValue());
+                            newUrlInfoArrayMap.put(entry.getKey(), CastUtils.deduplicateJsonArray(findInfoArray));
+                        }
+
+                        updateStmt.setString(1, CastUtils.toJsonString(newUrlInfoArrayMap));
+                        updateStmt.setInt(2, newUrlInfoArrayMap.size());
+                        updateStmt.setBoolean(3, rs.getBoolean("has_important") || analyseHostResultModel.getHasImportant());
+                        updateStmt.setString(4, rootUrl);
+                        count += updateStmt.executeUpdate();
+                    } else {
+                        List<String> emptyList = new ArrayList<>();
+                        insertStmt.setString(1, rootUrl);
+                        insertStmt.setString(2, CastUtils.toJsonString(urlInfoArrayMap));
+                        insertStmt.setInt(3, urlInfoArrayMap.size());
+                        insertStmt.setBoolean(4, analyseHostResultModel.getHasImportant());
+                        insertStmt.setString(5, CastUtils.toJsonString(emptyList));
+                        insertStmt.setInt(6, 0);
+                        insertStmt.setString(7, CastUtils.toJsonString(emptyList));
+                        insertStmt.setInt(8, 0);
+                        insertStmt.setString(9, CastUtils.toJsonString(emptyList));
+                        insertStmt.setInt(10, 0);
+                        insertStmt.setString(11, CastUtils.toJsonString(emptyList));
+                        insertStmt.setInt(12, 0);
+                        insertStmt.setString(13, Constants.HANDLE_WAIT);
+                        count += insertStmt.executeUpdate();
+                    }
+                }
+            }
+            conn.commit();
+        } catch (Exception e) {
+            stderr_println(String.format("[-] Error merge find info On table [%s] -> Error:[%s]", tableName, e.getMessage()));
+            e.printStackTrace();
+        }
+        return count;
+    }
+
     /**
      * 获取对应ID的动态 URL （当前是动态Path计算URL、未访问URL）
      */
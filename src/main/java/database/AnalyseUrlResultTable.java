@@ -1,10 +1,12 @@
 package database;
 
+import com.alibaba.fastjson2.JSONArray;
 import model.AnalyseUrlResultModel;
 import model.BasicUrlTableTabDataModel;
 import model.FindPathModel;
 import model.HttpMsgInfo;
 import utils.CastUtils;
+import utils.UrlInfoCacheUtils;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -12,6 +14,7 @@ import java.sql.ResultSet;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static utils.BurpPrintUtils.*;
 
@@ -140,6 +143,76 @@ public class AnalyseUrlResultTable {
         return generatedId; //返回ID值，无论是更新还是插入
     }
 
+    /**
+     * 合并重新扫描得到的敏感信息 不修改URL和PATH的提取结果
+     * 记录不存在时(初次分析没有提取到任何信息) 插入只包含敏感信息的记录
+     * @param msgHashInfoMap msgHash -> 只包含新增敏感信息的分析结果
+     * @return 新增了敏感信息的记录数量
+     */
+    public static synchronized int mergeFindInfoByMsgHash(Map<String, AnalyseUrlResultModel> msgHashInfoMap){
+        int count = 0;
+        if (msgHashInfoMap.isEmpty()) return count;
+
+        String selectSql = "SELECT find_info, has_important FROM "+ tableName +" WHERE msg_hash = ?;";
+        String updateSql = "UPDATE " + tableName + " SET find_info = ?, find_info_num = ?, has_important = ? WHERE msg_hash = ?;";
+        String insertSql = "INSERT INTO "+ tableName +
+                " (msg_hash, req_url, root_url, find_url, find_url_num, find_path, find_path_num," +
+                " find_info, find_info_num, find_api, find_api_num, run_status, has_important)" +
+                " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (Connection conn = DBService.getInstance().getNewConn();
+             PreparedStatement selectStmt = conn.prepareStatement(selectSql);
+             PreparedStatement updateStmt = conn.prepareStatement(updateSql);
+             PreparedStatement insertStmt = conn.prepareStatement(insertSql)) {
+            conn.setAutoCommit(false);
+            for (Map.Entry<String, AnalyseUrlResultModel> entry : msgHashInfoMap.entrySet()) {
+                String msgHash = entry.getKey();
+                AnalyseUrlResultModel analyseInfo = entry.getValue();
+
+                selectStmt.setString(1, msgHash);
+                try (ResultSet rs = selectStmt.executeQuery()) {
+                    if (rs.next()) {
+                        JSONArray findInfoArray = new JSONArray();
+                        JSONArray oldFindInfoArray = CastUtils.toJsonArray(rs.getString("find_info"));
+                        if (oldFindInfoArray != null) findInfoArray.addAll(oldFindInfoArray);
+                        findInfoArray.addAll(analyseInfo.getInfoArray());
+                        findInfoArray = CastUtils.deduplicateJsonArray(findInfoArray);
+                        //去重后没有新增信息 不需要更新
+                        int oldInfoNum = oldFindInfoArray == null ? 0 : oldFindInfoArray.size();
+                        if (findInfoArray.size() <= oldInfoNum) continue;
+
+                        updateStmt.setString(1, CastUtils.toJsonString(findInfoArray));
+                        updateStmt.setInt(2, findInfoArray.size());
+                        updateStmt.setBoolean(3, rs.getBoolean("has_important") || analyseInfo.getHasImportant());
+                        updateStmt.setString(4, msgHash);
+                        count += updateStmt.executeUpdate();
+                    } else {
+                        //新插入的记录直接标记为处理完毕 主机结果由调用方合并
+                        insertStmt.setString(1, msgHash);
+                        insertStmt.setString(2, analyseInfo.getReqUrl());
+                        insertStmt.setString(3, UrlInfoCacheUtils.getUrlInfo(analyseInfo.getReqUrl()).getRootUrlUsual());
+                        insertStmt.setString(4, CastUtils.toJsonString(analyseInfo.getUrlList()));
+                        insertStmt.setInt(5, analyseInfo.getUrlList().size());
+                        insertStmt.setString(6, CastUtils.toJsonString(analyseInfo.getPathList()));
+                        insertStmt.setInt(7, analyseInfo.getPathList().size());
+                        insertStmt.setString(8, CastUtils.toJsonString(analyseInfo.getInfoArray()));
+                        insertStmt.setInt(9, analyseInfo.getInfoArray().size());
+                        insertStmt.setString(10, CastUtils.toJsonString(analyseInfo.getApiList()));
+                        insertStmt.setInt(11, analyseInfo.getApiList().size());
+                        insertStmt.setString(12, Constants.ANALYSE_END);
+                        insertStmt.setBoolean(13, analyseInfo.getHasImportant());
+                        count += insertStmt.executeUpdate();
+                    }
+                }
+            }
+            conn.commit();
+        } catch (Exception e) {
+            stderr_println(String.format("[-] Error merge find info On table [%s] -> Error:[%s]", tableName, e.getMessage()));
+            e.printStackTrace();
+        }
+        return count;
+    }
+
     /**
      * 获取 指定 msgHashList 对应的 所有 分析结果 数据
      * @return
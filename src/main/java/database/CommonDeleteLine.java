@@ -1,5 +1,7 @@
 package database;
 
+import utils.SeenUriUtils;
+
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.util.List;
@@ -35,6 +37,8 @@ public class CommonDeleteLine {
         String deleteSQL = ("DELETE FROM "+ tableName +"  WHERE root_url IN $buildInParamList$;")
                 .replace("$buildInParamList$", DBService.buildInParamList(rootUrls.size()));
 
+        //主机结果删除后 这些主机的URI需要重新提取
+        if (AnalyseHostResultTable.tableName.equals(tableName)) SeenUriUtils.removeHosts(rootUrls);
         return runDeleteByStringsSQL(tableName, rootUrls, deleteSQL);
     }
 
@@ -57,6 +61,9 @@ public class CommonDeleteLine {
 
         if (ids.isEmpty()) return totalRowsAffected;
 
+        //按id删除时不知道对应的主机 清空所有主机记录
+        if (AnalyseHostResultTable.tableName.equals(tableName)) SeenUriUtils.clear();
+
         // 构建SQL语句，使用占位符 ? 来代表每个ID
         String deleteSQL = ("DELETE FROM "+ tableName + " WHERE id IN $buildInParamList$;")
                 .replace("$buildInParamList$", DBService.buildInParamList(ids.size()));
@@ -1,8 +1,11 @@
 package database;
 
 import burp.BurpExtender;
+import burp.RuleRescanJob;
 import org.sqlite.SQLiteConfig;
+import utils.AnalyseCacheUtils;
 import utils.BurpFileUtils;
+import utils.SeenUriUtils;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -78,6 +81,12 @@ public class DBService {
         // AnalyseHostResultTable 存储分析后的数据 的 集合
         execCreatTableSql(AnalyseHostResultTable.creatTableSQL, AnalyseHostResultTable.tableName);
 
+        // AnalyseCacheTable 按响应体哈希缓存的分析结果
+        execCreatTableSql(AnalyseCacheTable.creatTableSQL, AnalyseCacheTable.tableName);
+
+        // RuleHashTable 已扫描过历史流量的规则哈希
+        execCreatTableSql(RuleHashTable.creatTableSQL, RuleHashTable.tableName);
+
         // 创建存储根树的表
         execCreatTableSql(PathTreeTable.creatTableSQL, PathTreeTable.tableName);
     }
@@ -135,6 +144,11 @@ public class DBService {
         clearTable(AnalyseUrlResultTable.tableName);
         clearTable(ReqDataTable.tableName);
         clearTable(ReqMsgDataTable.tableName);
+        clearTable(AnalyseCacheTable.tableName);
+        AnalyseCacheUtils.clearMemoryCache();
+        //历史流量已清空 之后的流量都使用当前规则分析
+        clearTable(RuleHashTable.tableName);
+        RuleRescanJob.initRuleBaseline(BurpExtender.fingerprintRules);
     }
 
 
@@ -146,6 +160,7 @@ public class DBService {
         clearTable(RecordPathTable.tableName);
         clearTable(RecordUrlTable.tableName);
         clearTable(AnalyseHostResultTable.tableName);
+        SeenUriUtils.clear();
     }
 
 
@@ -2,8 +2,8 @@ package database;
 
 import model.AccessedUrlInfo;
 import model.HttpMsgInfo;
-import model.HttpUrlInfo;
 import utils.RespHashUtils;
+import utils.UrlInfoCacheUtils;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -66,7 +66,7 @@ public class RecordUrlTable {
     public static synchronized int insertOrUpdateAccessedUrl(String reqUrl, int respStatusCode) {
         return insertOrUpdateAccessedUrl(
                 reqUrl,
-                new HttpUrlInfo(reqUrl).getRootUrlUsual(),
+                UrlInfoCacheUtils.getUrlInfo(reqUrl).getRootUrlUsual(),
                 respStatusCode,
                 RespHashUtils.calcCRC32(reqUrl)
         );
@@ -107,7 +107,7 @@ public class RecordUrlTable {
     public static synchronized int[] insertOrUpdateAccessedUrlsBatch(List<String> accessedUrls, int respStatusCode){
         List<AccessedUrlInfo> accessedUrlInfos = new ArrayList<>();
         for (String reqUrl : accessedUrls){
-            AccessedUrlInfo accessedUrlInfo = new AccessedUrlInfo(reqUrl, new HttpUrlInfo(reqUrl).getRootUrlUsual(),respStatusCode);
+            AccessedUrlInfo accessedUrlInfo = new AccessedUrlInfo(reqUrl, UrlInfoCacheUtils.getUrlInfo(reqUrl).getRootUrlUsual(),respStatusCode);
             accessedUrlInfos.add(accessedUrlInfo);
         }
         return insertOrUpdateAccessedUrlsBatch(accessedUrlInfos);
@@ -8,6 +8,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 import static utils.BurpPrintUtils.*;
@@ -147,6 +148,34 @@ public class ReqMsgDataTable {
         return msgData;
     }
 
+    /**
+     * 按id顺序分批获取请求内容 返回 id 大于 lastId 的最多 limit 条数据, 键为数据id
+     */
+    public static LinkedHashMap<Integer, ReqMsgDataModel> fetchMsgDataBatchAfterId(int lastId, int limit){
+        LinkedHashMap<Integer, ReqMsgDataModel> msgDataMap = new LinkedHashMap<>();
+
+        String sql = "SELECT * FROM "+ tableName + " WHERE id > ? ORDER BY id ASC LIMIT ?;";
+
+        try (Connection conn = DBService.getInstance().getNewConn(); PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, lastId);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    ReqMsgDataModel msgData = new ReqMsgDataModel(
+                            rs.getString("msg_hash"),
+                            rs.getString("req_url"),
+                            rs.getBytes("req_bytes"),
+                            rs.getBytes("resp_bytes")
+                    );
+                    msgDataMap.put(rs.getInt("id"), msgData);
+                }
+            }
+        } catch (Exception e) {
+            stderr_println(LOG_ERROR, String.format("[-] Error Batch Select Msg Data After Id: %s -> %s", lastId, e.getMessage()));
+        }
+        return msgDataMap;
+    }
+
     /**
      * 根据消息ID查询请求内容
      */
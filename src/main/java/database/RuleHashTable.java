@@ -0,0 +1,58 @@
+package database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import static utils.BurpPrintUtils.*;
+
+public class RuleHashTable {
+    //数据表名称
+    public static String tableName = "RULE_HASH";
+
+    //创建 已经扫描过历史流量的规则哈希表 不在表中的规则为新增或修改过的规则
+    static String creatTableSQL = "CREATE TABLE IF NOT EXISTS "+ tableName +" (\n"
+            + " rule_hash TEXT PRIMARY KEY\n"  //规则内容的哈希
+            + ");";
+
+    //批量插入规则哈希 已存在时忽略
+    public static synchronized int insertRuleHashes(Collection<String> ruleHashes) {
+        int count = 0;
+        if (ruleHashes.isEmpty()) return count;
+
+        String insertSql = "INSERT OR IGNORE INTO "+ tableName +" (rule_hash) VALUES (?);";
+        try (Connection conn = DBService.getInstance().getNewConn(); PreparedStatement stmt = conn.prepareStatement(insertSql)) {
+            conn.setAutoCommit(false);
+            for (String ruleHash : ruleHashes) {
+                stmt.setString(1, ruleHash);
+                stmt.addBatch();
+            }
+            for (int result : stmt.executeBatch()) {
+                if (result > 0) count++;
+            }
+            conn.commit();
+        } catch (Exception e) {
+            stderr_println(String.format("[-] Error insert Rule Hashes On table [%s] -> Error:[%s]", tableName, e.getMessage()));
+        }
+        return count;
+    }
+
+    //获取所有规则哈希
+    public static synchronized Set<String> fetchRuleHashes() {
+        Set<String> ruleHashes = new HashSet<>();
+        String selectSql = "SELECT rule_hash FROM "+ tableName +";";
+
+        try (Connection conn = DBService.getInstance().getNewConn(); PreparedStatement stmt = conn.prepareStatement(selectSql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                ruleHashes.add(rs.getString("rule_hash"));
+            }
+        } catch (Exception e) {
+            stderr_println(LOG_ERROR, String.format("[-] Error fetch Rule Hashes On table [%s] -> Error:[%s]", tableName, e.getMessage()));
+        }
+        return ruleHashes;
+    }
+}
@@ -0,0 +1,48 @@
+package model;
+
+import com.alibaba.fastjson2.JSONObject;
+import utils.CastUtils;
+
+import java.util.List;
+
+/**
+ * 按响应体哈希缓存的分析结果 只保存与请求主机无关的部分
+ * 敏感信息按匹配位置保存, URI为解码和过滤不可打印字符后、拆分URL和PATH之前的集合
+ * 按JS文件地址计算的 webpack chunk 和 Source Map 地址与请求地址有关, 不保存
+ */
+public class AnalyseCacheModel {
+    private String bodyHash;
+    private String rulesVersion;
+    private JSONObject findInfo;
+    private List<String> findUri;
+
+    public AnalyseCacheModel(String bodyHash, String rulesVersion, JSONObject findInfo, List<String> findUri) {
+        this.bodyHash = bodyHash;
+        this.rulesVersion = rulesVersion;
+        this.findInfo = findInfo;
+        this.findUri = findUri;
+    }
+
+    public AnalyseCacheModel(String bodyHash, String rulesVersion, String findInfoStr, String findUriStr) {
+        this.bodyHash = bodyHash;
+        this.rulesVersion = rulesVersion;
+        this.findInfo = CastUtils.toJsonObject(findInfoStr);
+        this.findUri = CastUtils.toStringList(findUriStr);
+    }
+
+    public String getBodyHash() {
+        return bodyHash;
+    }
+
+    public String getRulesVersion() {
+        return rulesVersion;
+    }
+
+    public JSONObject getFindInfo() {
+        return findInfo;
+    }
+
+    public List<String> getFindUri() {
+        return findUri;
+    }
+}
@@ -2,6 +2,7 @@ package model;
 
 import com.alibaba.fastjson2.JSONArray;
 import utils.CastUtils;
+import utils.UrlInfoCacheUtils;
 
 import java.util.HashMap;
 import java.util.List;
@@ -19,7 +20,7 @@ public class AnalyseHostResultModel {
 
     // 中转构造函数
     public AnalyseHostResultModel(AnalyseUrlResultModel analyseUrlResultModel) {
-        this.rootUrl = new HttpUrlInfo(analyseUrlResultModel.getReqUrl()).getRootUrlUsual();
+        this.rootUrl = UrlInfoCacheUtils.getUrlInfo(analyseUrlResultModel.getReqUrl()).getRootUrlUsual();
         this.urlInfoArrayMap = analyseUrlResultModel.getUrlInfoArrayMap();
         this.urlList = analyseUrlResultModel.getUrlList();
         this.pathList = analyseUrlResultModel.getPathList();
@@ -1,5 +1,6 @@
 package model;
 
+import utils.UrlInfoCacheUtils;
 
 public class BasicHostTableLineDataModel {
     private Integer id;
@@ -49,7 +50,7 @@ public class BasicHostTableLineDataModel {
 
     private String parseHostFromUrl(String rootUrl) {
         //解析从URL中解析出host
-        return new HttpUrlInfo(rootUrl).getHostPort();
+        return UrlInfoCacheUtils.getUrlInfo(rootUrl).getHostPort();
     }
 
 
@@ -0,0 +1,271 @@
+package model;
+
+import EnumType.LocationType;
+import EnumType.MatchType;
+import burp.IProxyScanner;
+import utils.RuleGuardUtils;
+import utils.RuleRegex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 预编译后的指纹规则 在规则加载|编辑时生成一次 匹配时只读使用, ALL_*规则的子条件执行顺序除外
+ */
+public class CompiledRule {
+    //ALL_*规则子条件每执行该次数后 按统计结果重新计算执行顺序
+    private static final int REORDER_INTERVAL = 256;
+    //关键字子条件每个关键字的估算耗时 关键字只查询自动机命中结果, 不单独计时
+    private static final long KEYWORD_COST_NANOS = 50;
+    //正则子条件没有耗时统计时的估算耗时
+    private static final long REGEX_PRIOR_NANOS = 100000;
+    //学习到的执行顺序发生变化 需要保存到规则文件
+    private static final AtomicBoolean evalOrderChanged = new AtomicBoolean(false);
+
+    private final String type;
+    private final String describe;
+    private final String accuracy;
+    private final boolean isImportant;
+    private final String matchTypeValue;
+    private final MatchType matchType;
+    private final LocationType locationType;
+    private final List<String> matchKeys;
+
+    //关键字规则 每个matchKey解析后的关键字组
+    private final List<KeywordGroup> keywordGroups;
+    //正则规则 每个matchKey对应的JDK引擎正则, 编译失败时为null
+    private final RuleRegex[] regexes;
+    //正则规则 每个matchKey对应的线性引擎正则, 语法不支持时为null
+    private final RuleRegex[] linearRegexes;
+    //正则规则 每个正则的必需字面量, 文本中不含任何一个时正则不可能命中, 无法分析时为null
+    private final List<List<String>> requiredLiterals;
+    //原始规则的运行状态 重新编译后依然共享
+    private final RuleRuntimeState runtimeState;
+    //原始规则 学习到的执行顺序写回原始规则, 随规则文件保存
+    private final FingerPrintRule sourceRule;
+    //ALL_*规则子条件的执行顺序 最容易未命中且开销最小的子条件在前
+    private volatile int[] evalOrder;
+
+    public CompiledRule(FingerPrintRule rule, MatchType matchType, LocationType locationType, List<KeywordGroup> keywordGroups, RuleRegex[] regexes, RuleRegex[] linearRegexes, List<List<String>> requiredLiterals) {
+        this.type = rule.getType();
+        this.describe = rule.getDescribe();
+        this.accuracy = rule.getAccuracy();
+        this.isImportant = rule.getIsImportant();
+        this.matchTypeValue = rule.getMatchType();
+        this.matchType = matchType;
+        this.locationType = locationType;
+        this.matchKeys = Collections.unmodifiableList(new ArrayList<>(rule.getMatchKeys()));
+        this.keywordGroups = Collections.unmodifiableList(keywordGroups);
+        this.regexes = regexes;
+        this.linearRegexes = linearRegexes;
+        this.requiredLiterals = Collections.unmodifiableList(requiredLiterals);
+        this.runtimeState = RuleGuardUtils.getRuleState(rule);
+        this.sourceRule = rule;
+        this.evalOrder = initEvalOrder(rule.getMatchOrder(), this.matchKeys.size());
+    }
+
+    /**
+     * 使用规则文件中保存的执行顺序 不是matchKeys下标的完整排列时(规则被修改)使用配置顺序
+     */
+    private static int[] initEvalOrder(List<Integer> matchOrder, int count) {
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) order[i] = i;
+        if (matchOrder == null || matchOrder.size() != count) return order;
+
+        boolean[] seen = new boolean[count];
+        for (Integer index : matchOrder) {
+            if (index == null || index < 0 || index >= count || seen[index]) return order;
+            seen[index] = true;
+        }
+        for (int i = 0; i < count; i++) order[i] = matchOrder.get(i);
+        return order;
+    }
+
+    /**
+     * ALL_*规则子条件的执行顺序 元素为matchKeys下标, 调用方不能修改
+     */
+    public int[] getEvalOrder() {
+        return evalOrder;
+    }
+
+    /**
+     * 记录ALL_*规则一个子条件的执行结果 定期重新计算子条件的执行顺序
+     * @param nanos 子条件执行耗时 关键字子条件传0
+     */
+    public void recordCondition(int index, boolean isMiss, long nanos) {
+        if (matchKeys.size() < 2) return;
+        long samples = runtimeState.recordCondition(index, matchKeys.size(), isMiss, nanos);
+        if (samples % REORDER_INTERVAL == 0) updateEvalOrder();
+    }
+
+    /**
+     * 按 估算耗时/未命中率 从小到大排列子条件, 相同时保持配置顺序
+     * 全部命中才算命中的规则中, 这个顺序使遇到第一个未命中前的期望开销最小
+     */
+    private synchronized void updateEvalOrder() {
+        int count = matchKeys.size();
+        double[] scores = new double[count];
+        Integer[] indexes = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            long runs = runtimeState.getConditionRuns(i);
+            //平滑后的未命中率 没有统计时为0.5
+            double missRate = (runtimeState.getConditionMisses(i) + 1.0) / (runs + 2.0);
+            scores[i] = estimateConditionCost(i, runs) / missRate;
+            indexes[i] = i;
+        }
+        Arrays.sort(indexes, Comparator.comparingDouble(i -> scores[i]));
+
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) order[i] = indexes[i];
+        if (Arrays.equals(order, evalOrder)) return;
+
+        evalOrder = order;
+        List<Integer> matchOrder = new ArrayList<>();
+        for (int index : order) matchOrder.add(index);
+        sourceRule.setMatchOrder(matchOrder);
+        evalOrderChanged.set(true);
+    }
+
+    /**
+     * 估算子条件单次执行的耗时 关键字按关键字数量估算, 正则按历史平均耗时估算, 编译失败的正则为0
+     */
+    private double estimateConditionCost(int index, long runs) {
+        if (isKeywordRule()) {
+            return KEYWORD_COST_NANOS * Math.max(1, keywordGroups.get(index).getKeys().size());
+        }
+        if (regexes[index] == null) return 0;
+        //把估算耗时当作一次样本 样本较少时不会被单次的偶然耗时主导
+        return (runtimeState.getConditionNanos(index) + REGEX_PRIOR_NANOS) / (runs + 1.0);
+    }
+
+    /**
+     * 获取并清除执行顺序变化的标记
+     */
+    public static boolean pollEvalOrderChanged() {
+        return evalOrderChanged.getAndSet(false);
+    }
+
+    /**
+     * 获取第 index 个正则 开启线性引擎且语法支持时使用线性引擎, 否则使用JDK引擎, 正则编译失败时返回null
+     */
+    public RuleRegex getRegex(int index) {
+        if (IProxyScanner.linearRegexEngine && linearRegexes[index] != null) return linearRegexes[index];
+        return regexes[index];
+    }
+
+    /**
+     * 正则的数量 与matchKeys数量一致
+     */
+    public int getRegexCount() {
+        return regexes.length;
+    }
+
+    /**
+     * 可以使用线性引擎的正则数量
+     */
+    public int getLinearRegexCount() {
+        int count = 0;
+        for (RuleRegex linearRegex : linearRegexes) {
+            if (linearRegex != null) count++;
+        }
+        return count;
+    }
+
+    public boolean isKeywordRule() {
+        return matchType == MatchType.ANY_KEYWORDS || matchType == MatchType.ALL_KEYWORDS;
+    }
+
+    public boolean isRegularRule() {
+        return matchType == MatchType.ANY_REGULAR || matchType == MatchType.ALL_REGULAR;
+    }
+
+    public RuleRuntimeState getRuntimeState() {
+        return runtimeState;
+    }
+
+    /**
+     * 正则多次超出执行预算的规则会被隔离 不再参与匹配
+     */
+    public boolean isQuarantined() {
+        return runtimeState.isQuarantined();
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getDescribe() {
+        return describe;
+    }
+
+    public String getAccuracy() {
+        return accuracy;
+    }
+
+    public boolean getIsImportant() {
+        return isImportant;
+    }
+
+    public String getMatchTypeValue() {
+        return matchTypeValue;
+    }
+
+    public MatchType getMatchType() {
+        return matchType;
+    }
+
+    public LocationType getLocationType() {
+        return locationType;
+    }
+
+    public List<String> getMatchKeys() {
+        return matchKeys;
+    }
+
+    public List<KeywordGroup> getKeywordGroups() {
+        return keywordGroups;
+    }
+
+    /**
+     * 获取第 index 个正则的必需字面量, 没有时返回null
+     */
+    public List<String> getRequiredLiterals(int index) {
+        return requiredLiterals.get(index);
+    }
+
+    public List<List<String>> getRequiredLiterals() {
+        return requiredLiterals;
+    }
+
+    /**
+     * 单个 matchKey 解析后的关键字组
+     * 包含 || 时任意关键字命中即可, 否则按 && 切割后要求全部命中
+     */
+    public static class KeywordGroup {
+        private final String rawKey;
+        private final boolean isAnyMode;
+        private final List<String> keys;
+
+        public KeywordGroup(String rawKey, boolean isAnyMode, List<String> keys) {
+            this.rawKey = rawKey;
+            this.isAnyMode = isAnyMode;
+            this.keys = Collections.unmodifiableList(keys);
+        }
+
+        public String getRawKey() {
+            return rawKey;
+        }
+
+        public boolean isAnyMode() {
+            return isAnyMode;
+        }
+
+        public List<String> getKeys() {
+            return keys;
+        }
+    }
+}
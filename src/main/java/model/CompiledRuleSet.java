@@ -0,0 +1,123 @@
+package model;
+
+import EnumType.LocationType;
+import utils.AhoCorasickMatcher;
+import utils.MultiRegexAutomaton;
+
+import java.util.*;
+
+/**
+ * 预编译后的指纹规则集合 只读快照
+ * 关键字规则按匹配位置合并为一个 Aho-Corasick 自动机, 每个位置的文本只需扫描一次
+ * 正则规则的必需字面量同样按位置合并为自动机, 用于跳过不可能命中的正则
+ * 正则规则本身也按位置合并为一个多正则自动机, 一次扫描即可得到可能命中的正则
+ */
+public class CompiledRuleSet {
+    public static final CompiledRuleSet EMPTY = new CompiledRuleSet(Collections.emptyList());
+
+    private final List<CompiledRule> rules;
+    private final Map<LocationType, List<CompiledRule>> locationRules;
+    private final Map<LocationType, AhoCorasickMatcher> keywordMatchers;
+    private final Map<LocationType, AhoCorasickMatcher> regexLiteralMatchers;
+    private final Map<LocationType, MultiRegexAutomaton> regexAutomatons;
+
+    public CompiledRuleSet(List<CompiledRule> rules) {
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+
+        //按匹配位置对规则分组 没有规则的位置不需要生成文本
+        Map<LocationType, List<CompiledRule>> locationRules = new EnumMap<>(LocationType.class);
+        for (CompiledRule rule : this.rules) {
+            locationRules.computeIfAbsent(rule.getLocationType(), k -> new ArrayList<>()).add(rule);
+        }
+        for (Map.Entry<LocationType, List<CompiledRule>> entry : locationRules.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        this.locationRules = Collections.unmodifiableMap(locationRules);
+
+        //按位置收集所有关键字规则的关键字 和正则规则的必需字面量
+        Map<LocationType, List<String>> locationKeywords = new EnumMap<>(LocationType.class);
+        Map<LocationType, List<String>> locationLiterals = new EnumMap<>(LocationType.class);
+        Map<LocationType, List<String>> locationRegexes = new EnumMap<>(LocationType.class);
+        for (CompiledRule rule : this.rules) {
+            if (rule.isKeywordRule()) {
+                List<String> keywords = locationKeywords.computeIfAbsent(rule.getLocationType(), k -> new ArrayList<>());
+                for (CompiledRule.KeywordGroup keywordGroup : rule.getKeywordGroups()) {
+                    keywords.addAll(keywordGroup.getKeys());
+                }
+            } else if (rule.isRegularRule()) {
+                List<String> literals = locationLiterals.computeIfAbsent(rule.getLocationType(), k -> new ArrayList<>());
+                for (List<String> requiredLiterals : rule.getRequiredLiterals()) {
+                    if (requiredLiterals != null) literals.addAll(requiredLiterals);
+                }
+                List<String> regexes = locationRegexes.computeIfAbsent(rule.getLocationType(), k -> new ArrayList<>());
+                for (int i = 0; i < rule.getRegexCount(); i++) {
+                    if (rule.getRegex(i) != null) regexes.add(rule.getMatchKeys().get(i));
+                }
+            }
+        }
+
+        this.keywordMatchers = buildMatchers(locationKeywords);
+        this.regexLiteralMatchers = buildMatchers(locationLiterals);
+
+        Map<LocationType, MultiRegexAutomaton> regexAutomatons = new EnumMap<>(LocationType.class);
+        for (Map.Entry<LocationType, List<String>> entry : locationRegexes.entrySet()) {
+            regexAutomatons.put(entry.getKey(), new MultiRegexAutomaton(entry.getValue()));
+        }
+        this.regexAutomatons = Collections.unmodifiableMap(regexAutomatons);
+    }
+
+    private static Map<LocationType, AhoCorasickMatcher> buildMatchers(Map<LocationType, List<String>> locationKeywords) {
+        Map<LocationType, AhoCorasickMatcher> matchers = new EnumMap<>(LocationType.class);
+        for (Map.Entry<LocationType, List<String>> entry : locationKeywords.entrySet()) {
+            matchers.put(entry.getKey(), new AhoCorasickMatcher(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(matchers);
+    }
+
+    public List<CompiledRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * 按匹配位置分组的规则 按位置枚举顺序遍历
+     */
+    public Map<LocationType, List<CompiledRule>> getLocationRules() {
+        return locationRules;
+    }
+
+    public int size() {
+        return rules.size();
+    }
+
+    /**
+     * 已被隔离的规则序号 隔离的规则不参与匹配, 用于区分不同隔离状态下的匹配结果, 没有隔离的规则时返回空字符串
+     */
+    public String getQuarantinedSignature() {
+        StringBuilder signature = new StringBuilder();
+        for (int i = 0; i < rules.size(); i++) {
+            if (rules.get(i).isQuarantined()) signature.append(i).append(',');
+        }
+        return signature.toString();
+    }
+
+    /**
+     * 获取指定位置的关键字自动机 该位置没有关键字规则时返回null
+     */
+    public AhoCorasickMatcher getKeywordMatcher(LocationType locationType) {
+        return keywordMatchers.get(locationType);
+    }
+
+    /**
+     * 获取指定位置的正则必需字面量自动机 该位置没有正则规则时返回null
+     */
+    public AhoCorasickMatcher getRegexLiteralMatcher(LocationType locationType) {
+        return regexLiteralMatchers.get(locationType);
+    }
+
+    /**
+     * 获取指定位置的多正则自动机 该位置没有正则规则时返回null
+     */
+    public MultiRegexAutomaton getRegexAutomaton(LocationType locationType) {
+        return regexAutomatons.get(locationType);
+    }
+}
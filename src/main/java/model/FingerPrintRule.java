@@ -1,5 +1,6 @@
 package model;
 
+import com.alibaba.fastjson2.filter.PropertyFilter;
 import utils.CastUtils;
 
 import java.text.SimpleDateFormat;
@@ -7,6 +8,9 @@ import java.util.Date;
 import java.util.List;
 
 public class FingerPrintRule {
+    //序列化时忽略学习到的子条件执行顺序 用于计算规则内容的哈希, 执行顺序不影响匹配结果
+    public static final PropertyFilter IGNORE_MATCH_ORDER = (object, name, value) -> !"matchOrder".equals(name);
+
     private String matchType;
     private String location;
     private String describe;
@@ -15,7 +19,9 @@ public class FingerPrintRule {
     private String type;
     private boolean isOpen;
     private String accuracy;
-    
+    //ALL_*规则运行时学习到的子条件执行顺序 matchKeys的下标, 为空时按配置顺序执行
+    private List<Integer> matchOrder;
+
     // 新添加的构造函数
     public FingerPrintRule(String type, String describe, boolean isImportant, String matchType, String location, List<String> matchKeys, boolean isOpen, String accuracy) {
         this.matchType = matchType;
@@ -82,6 +88,14 @@ public class FingerPrintRule {
         this.matchKeys = matchKeys;
     }
 
+    public List<Integer> getMatchOrder() {
+        return matchOrder;
+    }
+
+    public void setMatchOrder(List<Integer> matchOrder) {
+        this.matchOrder = matchOrder;
+    }
+
     public String getInfo(String color){
         return "Time: " + new SimpleDateFormat("yyyy/MM/dd HH:mm:ss").format(new Date()) + "<br>matchType: " + matchType + "<br>Type: " + type + "<br>accuracy: " + accuracy + "<br>describe: <span style='color: " + color + ";'>" + describe +  "</span><br>location: " + location + "<br>matchKeys: " + CastUtils.listToString(matchKeys) + "<br>";
     }
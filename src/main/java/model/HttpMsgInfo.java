@@ -46,11 +46,15 @@ public class HttpMsgInfo {
 
     // 构造函数
     public HttpMsgInfo(IHttpRequestResponse iHttpRequestResponse) {
+        this(iHttpRequestResponse.getHttpService(), iHttpRequestResponse.getRequest(), iHttpRequestResponse.getResponse());
+    }
+
+    // 构造函数 代理线程只保存原始数据, 在解析线程中调用
+    public HttpMsgInfo(IHttpService httpService, byte[] requestBytes, byte[] responseBytes) {
         //请求信息
-        reqBytes = iHttpRequestResponse.getRequest();
+        reqBytes = requestBytes;
 
         //请求方法
-        IHttpService httpService = iHttpRequestResponse.getHttpService();
         IRequestInfo requestInfoBetter = helpers.analyzeRequest(httpService,reqBytes);
         reqMethod = requestInfoBetter.getMethod();
 
@@ -59,7 +63,7 @@ public class HttpMsgInfo {
         urlInfo = new HttpUrlInfo(reqUrl);
 
         //从响应结果解析部分信息
-        respBytes = iHttpRequestResponse.getResponse();
+        respBytes = responseBytes;
         respInfo = new HttpRespInfo(respBytes);
 
         //响应码是常用的
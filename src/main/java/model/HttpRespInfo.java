@@ -3,11 +3,10 @@ package model;
 import burp.BurpExtender;
 import burp.IExtensionHelpers;
 import burp.IResponseInfo;
+import utils.ByteSlice;
 import utils.RespHashUtils;
 import utils.RespTitleUtils;
 
-import java.util.Arrays;
-
 public class HttpRespInfo {
     private static final IExtensionHelpers helpers = BurpExtender.getHelpers();
     private byte[] respBytes = "".getBytes();
@@ -19,6 +18,9 @@ public class HttpRespInfo {
     private String statedMimeType = "";
     private int bodyOffset = -1;
     private String respTitle = "";
+    //响应头和响应体的视图 共享 respBytes 不复制
+    private ByteSlice headerSlice = ByteSlice.EMPTY;
+    private ByteSlice bodySlice = ByteSlice.EMPTY;
 
     private String iconHash = "";  //记录响应体的hash值
 
@@ -44,37 +46,46 @@ public class HttpRespInfo {
         statedMimeType = responseInfo.getStatedMimeType(); //由服务器明确声明的内容类型
         //响应体分割标记
         bodyOffset = responseInfo.getBodyOffset();
-        bodyLength = getBodyBytes().length;
+        //响应头和响应体视图 限制在响应数据范围内
+        headerSlice = ByteSlice.of(respBytes, 0, bodyOffset);
+        bodySlice = ByteSlice.of(respBytes, headerSlice.getLength(), respBytes.length);
+        bodyLength = bodySlice.getLength();
         //大致的响应长度
         bodyLenVague = bodyLength / 200;
         //响应文本标题
-        respTitle = RespTitleUtils.parseTextTitle(respBytes);
+        respTitle = RespTitleUtils.parseTextTitle(respBytes, 0, respBytes.length);
         //当响应类型是 ico 类型时计算一下hash值
         if (getStatedMimeType() != null && getStatedMimeType().contains("ico")){
-            iconHash = RespHashUtils.getFaviconHash(getBodyBytes());
+            iconHash = RespHashUtils.getFaviconHash(bodySlice.getArray(), bodySlice.getOffset(), bodySlice.getLength());
         }
     }
 
+    /**
+     * 获取 响应体部分的视图 不复制数据
+     */
+    public ByteSlice getBodySlice() {
+        return bodySlice;
+    }
 
     /**
-     * 获取 请求体或响应体的body部分
+     * 获取 响应头部分的视图 不复制数据
      */
-    public byte[] getBodyBytes() {
-        // 确保 bodyOffset 不会导致数组越界
-        int bodyLength = Math.max(0, respBytes.length - bodyOffset);
+    public ByteSlice getHeaderSlice() {
+        return headerSlice;
+    }
 
-        // 从 bytes 数组中复制 body 的部分
-        return Arrays.copyOfRange(respBytes, bodyOffset, bodyOffset + bodyLength);
+    /**
+     * 获取 请求体或响应体的body部分 返回复制的数组, 只读时使用 getBodySlice
+     */
+    public byte[] getBodyBytes() {
+        return bodySlice.toByteArray();
     }
 
     /**
-     * 获取 请求或响应的头部信息部分
+     * 获取 请求或响应的头部信息部分 返回复制的数组, 只读时使用 getHeaderSlice
      */
     public byte[] getHeaderBytes() {
-        // 确保 headerOffset 不会导致数组越界，并且至少是从0开始
-        int headerLength = Math.max(0, bodyOffset);
-        // 从 bytes 数组中复制 header 的部分
-        return Arrays.copyOfRange(respBytes, 0, headerLength);
+        return headerSlice.toByteArray();
     }
 
     public int getStatusCode() {
@@ -1,6 +1,6 @@
 package model;
 
-import utilbox.DomainUtils;
+import utils.RootDomainUtils;
 
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -9,8 +9,9 @@ import static utils.BurpPrintUtils.stderr_println;
 import static utils.CastUtils.*;
 
 //创建一个类用于存储 URL解析结果的类
+//构造时只解析一次URL, 其他格式化字段在第一次获取时计算并保存 计算结果只与URL有关, 对象可以多线程共享
 public class HttpUrlInfo {
-    private String rawUrl;
+    private final String rawUrl;
     private String rawUrlUsual;
     private String proto = null;
     private String host = null;
@@ -56,47 +57,21 @@ public class HttpUrlInfo {
             query = urlObj.getQuery();
             //片段标识符 (fragment)：如 #section1
             ref = urlObj.getRef();
-
-            //添加个HostPort对象 www.baidu.com:80 | www.baidu.com:8080
-            hostPort = String.format("%s:%s", host, port);
-            //获取没有默认端口的请求头 www.baidu.com | www.baidu.com:8080
-            hostPortUsual = removeHostDefaultPort(hostPort,host,port);
-            //获取前缀URL // http://www.baidu.com:80/
-            rootUrl = String.format("%s://%s/", proto, hostPort);
-            //获取前缀URL // http://www.baidu.com/
-            rootUrlUsual = String.format("%s://%s/", proto, hostPortUsual);
-            //获取前缀URL // http://www.baidu.com
-            rootUrlNotSlash = String.format("%s://%s", proto, hostPortUsual);
-
-            //解析请求文件的后缀 php html
-            suffix = parseUrlExtStrict(file); //严重错误,域名中是有.符号的,因此不能直接截断域名
-            //解析请求文件的后缀 .php .html
-            suffixUsual = isEmptyObj(suffix) ? suffix:"." + suffix;
-
-            //获取主域名 baidu.com
-            rootDomain = DomainUtils.getRootDomain(host);
-
             //路径 (path)：如 /path/to/resource
             pathToFile = urlObj.getPath();
-            // 重新构造基本URL，不包含查询参数 http://www.baidu.com/path/to/resource
-            urlToFile = new URL(proto, host, port, pathToFile).toString();
-            urlToFileUsual = removeUrlDefaultPort(urlToFile);
-            //获取请求路径的目录部分 /path/to/
-            pathToDir = parseReqPathDir(pathToFile);
-            //构造基本URL, 不包含请求文件 http://www.baidu.com/path/to/
-            urlToPath = new URL(proto, host, port, pathToDir).toString();
-            urlToPathUsual = removeUrlDefaultPort(urlToPath);
-            //获取带有参数的完整Path 不带http信息 /path/to/resource?key=value#section1
-            pathToEnd = genFullPath(pathToFile, query, ref);
-            //格式化URL 不显示默认端口
-            rawUrlUsual = removeUrlDefaultPort(rawUrl);
-
         } catch (MalformedURLException e) {
             stderr_println(String.format("Invalid URL: %s -> Error: %s", rawUrl, e.getMessage()));
             e.printStackTrace();
         }
     }
 
+    /**
+     * URL是否解析成功 解析失败时所有格式化字段都为null
+     */
+    private boolean isParsed() {
+        return proto != null;
+    }
+
     /**
      * 拼接 Path路径、?查询字符串、#索引
      */
@@ -161,7 +136,13 @@ public class HttpUrlInfo {
     }
 
     public String getRawUrlUsual() {
-        return rawUrlUsual;
+        String value = rawUrlUsual;
+        if (value == null && isParsed()) {
+            //格式化URL 不显示默认端口
+            value = removeUrlDefaultPort(rawUrl);
+            rawUrlUsual = value;
+        }
+        return value;
     }
 
     public String getProto() {
@@ -173,19 +154,43 @@ public class HttpUrlInfo {
     }
 
     public String getHostPort() {
-        return hostPort;
+        String value = hostPort;
+        if (value == null && isParsed()) {
+            //添加个HostPort对象 www.baidu.com:80 | www.baidu.com:8080
+            value = host + ":" + port;
+            hostPort = value;
+        }
+        return value;
     }
 
     public String getRootUrlUsual() {
-        return rootUrlUsual;
+        String value = rootUrlUsual;
+        if (value == null && isParsed()) {
+            //获取前缀URL // http://www.baidu.com/
+            value = proto + "://" + getHostPortUsual() + "/";
+            rootUrlUsual = value;
+        }
+        return value;
     }
 
     private String getRootUrl() {
-        return rootUrl;
+        String value = rootUrl;
+        if (value == null && isParsed()) {
+            //获取前缀URL // http://www.baidu.com:80/
+            value = proto + "://" + getHostPort() + "/";
+            rootUrl = value;
+        }
+        return value;
     }
 
     public String getRootDomain() {
-        return rootDomain;
+        String value = rootDomain;
+        if (value == null && isParsed()) {
+            //获取主域名 baidu.com
+            value = RootDomainUtils.getRootDomain(host);
+            rootDomain = value;
+        }
+        return value;
     }
 
     public int getPort() {
@@ -205,31 +210,72 @@ public class HttpUrlInfo {
     }
 
     public String getPathToDir() {
-        return pathToDir;
+        String value = pathToDir;
+        if (value == null && isParsed()) {
+            //获取请求路径的目录部分 /path/to/
+            value = parseReqPathDir(pathToFile);
+            pathToDir = value;
+        }
+        return value;
     }
 
     public String getSuffix() {
-        return suffix;
+        String value = suffix;
+        if (value == null && isParsed()) {
+            //解析请求文件的后缀 php html
+            value = parseUrlExtStrict(file); //严重错误,域名中是有.符号的,因此不能直接截断域名
+            suffix = value;
+        }
+        return value;
     }
 
     public String getSuffixUsual() {
-        return suffixUsual;
+        String value = suffixUsual;
+        if (value == null && isParsed()) {
+            //解析请求文件的后缀 .php .html
+            String suffix = getSuffix();
+            value = isEmptyObj(suffix) ? suffix : "." + suffix;
+            suffixUsual = value;
+        }
+        return value;
     }
 
     public String getUrlToFileUsual() {
-        return urlToFileUsual;
+        String value = urlToFileUsual;
+        if (value == null && getUrlToFile() != null) {
+            value = removeUrlDefaultPort(getUrlToFile());
+            urlToFileUsual = value;
+        }
+        return value;
     }
 
     public String getUrlToPathUsual() {
-        return urlToPathUsual;
+        String value = urlToPathUsual;
+        if (value == null && getUrlToPath() != null) {
+            value = removeUrlDefaultPort(getUrlToPath());
+            urlToPathUsual = value;
+        }
+        return value;
     }
 
     public String getPathToEnd() {
-        return pathToEnd;
+        String value = pathToEnd;
+        if (value == null && isParsed()) {
+            //获取带有参数的完整Path 不带http信息 /path/to/resource?key=value#section1
+            value = genFullPath(pathToFile, query, ref);
+            pathToEnd = value;
+        }
+        return value;
     }
 
     public String getHostPortUsual() {
-        return hostPortUsual;
+        String value = hostPortUsual;
+        if (value == null && isParsed()) {
+            //获取没有默认端口的请求头 www.baidu.com | www.baidu.com:8080
+            value = removeHostDefaultPort(getHostPort(), host, port);
+            hostPortUsual = value;
+        }
+        return value;
     }
 
     public String getRawUrl() {
@@ -241,15 +287,45 @@ public class HttpUrlInfo {
     }
 
     public String getUrlToFile() {
-        return urlToFile;
+        String value = urlToFile;
+        if (value == null && isParsed()) {
+            // 重新构造基本URL，不包含查询参数 http://www.baidu.com/path/to/resource
+            value = buildUrl(pathToFile);
+            urlToFile = value;
+        }
+        return value;
     }
 
     public String getUrlToPath() {
-        return urlToPath;
+        String value = urlToPath;
+        if (value == null && isParsed()) {
+            //构造基本URL, 不包含请求文件 http://www.baidu.com/path/to/
+            value = buildUrl(getPathToDir());
+            urlToPath = value;
+        }
+        return value;
     }
 
     public String getRootUrlNotSlash() {
-        return rootUrlNotSlash;
+        String value = rootUrlNotSlash;
+        if (value == null && isParsed()) {
+            //获取前缀URL // http://www.baidu.com
+            value = proto + "://" + getHostPortUsual();
+            rootUrlNotSlash = value;
+        }
+        return value;
+    }
+
+    /**
+     * 使用解析出的协议、主机、端口和指定路径构造URL 失败时返回null
+     */
+    private String buildUrl(String path) {
+        try {
+            return new URL(proto, host, port, path).toString();
+        } catch (MalformedURLException e) {
+            stderr_println(String.format("Invalid URL: %s -> Error: %s", rawUrl, e.getMessage()));
+            return null;
+        }
     }
 
     /**
@@ -0,0 +1,69 @@
+package model;
+
+import EnumType.LocationType;
+import burp.IProxyScanner;
+import utilbox.TextUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 按匹配位置延迟生成的消息文本 每个位置最多生成一次
+ * 需要解码时只解码一次响应体, 完整响应由响应头和解码后的响应体拼接得到
+ */
+public class LocationTextCache {
+    private final HttpMsgInfo msgInfo;
+    private final boolean decodeBody;
+    private final Map<LocationType, String> textMap = new EnumMap<>(LocationType.class);
+
+    public LocationTextCache(HttpMsgInfo msgInfo) {
+        this.msgInfo = msgInfo;
+        //进行JSON解码
+        this.decodeBody = msgInfo.getRespInfo().getInferredMimeType().contains("JSON") || IProxyScanner.forceDecodeUnicode;
+    }
+
+    /**
+     * 使用已经生成好的位置文本
+     */
+    public LocationTextCache(Map<LocationType, String> locationTextMap) {
+        this.msgInfo = null;
+        this.decodeBody = false;
+        this.textMap.putAll(locationTextMap);
+    }
+
+    /**
+     * 获取匹配位置对应的文本 首次获取时生成
+     */
+    public String getText(LocationType locationType) {
+        if (msgInfo == null || textMap.containsKey(locationType)) return textMap.get(locationType);
+
+        String text = buildText(locationType);
+        textMap.put(locationType, text);
+        return text;
+    }
+
+    private String buildText(LocationType locationType) {
+        switch (locationType) {
+            case PATH:
+                return msgInfo.getUrlInfo().getPathToFile();
+            case TITLE:
+                return msgInfo.getRespTitle();
+            case ICON_HASH:
+                return msgInfo.getRespInfo().getIconHash();
+            case BODY:
+                String respBody = msgInfo.getRespInfo().getBodySlice().toString(StandardCharsets.UTF_8);
+                return decodeBody ? TextUtils.decodeAll(respBody) : respBody;
+            case HEADER:
+                return msgInfo.getRespInfo().getHeaderSlice().toString(StandardCharsets.UTF_8);
+            case RESPONSE:
+            default:
+                //完整响应由响应头和响应体拼接 避免重复转换和解码
+                return getText(LocationType.HEADER) + getText(LocationType.BODY);
+        }
+    }
+
+    public boolean isDecodeBody() {
+        return decodeBody;
+    }
+}
@@ -0,0 +1,34 @@
+package model;
+
+import burp.IHttpService;
+
+//代理线程中捕获的原始消息 只保存引用, 解析和过滤在解析线程中进行
+public class ProxyRawMessage {
+    private final boolean isRequest;
+    private final IHttpService httpService;
+    private final byte[] reqBytes;
+    private final byte[] respBytes;
+
+    public ProxyRawMessage(boolean isRequest, IHttpService httpService, byte[] reqBytes, byte[] respBytes) {
+        this.isRequest = isRequest;
+        this.httpService = httpService;
+        this.reqBytes = reqBytes;
+        this.respBytes = respBytes;
+    }
+
+    public boolean isRequest() {
+        return isRequest;
+    }
+
+    public IHttpService getHttpService() {
+        return httpService;
+    }
+
+    public byte[] getReqBytes() {
+        return reqBytes;
+    }
+
+    public byte[] getRespBytes() {
+        return respBytes;
+    }
+}
@@ -1,6 +1,7 @@
 package model;
 
 import com.alibaba.fastjson2.JSON;
+import utils.ByteSlice;
 import utils.CastUtils;
 import utils.RespHashUtils;
 
@@ -22,8 +23,10 @@ public class RespFieldsModel {
         this.respLength = respInfo.getRespLength();
         this.respBodyLength = respInfo.getBodyLength();
         this.respTextTitle = respInfo.getRespTitle();
+        //解析响应头的接口需要完整数组 响应头较小, 只复制响应头
         this.respRedirectUrl = CastUtils.parseRespRedirectUrl(respInfo.getHeaderBytes());
-        this.respHashContent = RespHashUtils.calcCRC32(respInfo.getBodyBytes());
+        ByteSlice bodySlice = respInfo.getBodySlice();
+        this.respHashContent = RespHashUtils.calcCRC32(bodySlice.getArray(), bodySlice.getOffset(), bodySlice.getLength());
     }
 
     public String toJSONString(){
@@ -0,0 +1,171 @@
+package model;
+
+import utils.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 指纹规则的运行状态和性能统计 不参与规则序列化
+ * 以规则对象为键保存, 规则重新编译后状态依然保留, 规则内容被修改或重新开启时重置
+ */
+public class RuleRuntimeState {
+    //正则执行超出预算的次数
+    private final AtomicInteger strikes = new AtomicInteger();
+    //超出预算次数达到上限后隔离 隔离的规则不再参与匹配
+    private final AtomicBoolean quarantined = new AtomicBoolean(false);
+    //最后一次超出预算的原因
+    private volatile String lastStrikeReason;
+
+    //性能统计 执行次数 总耗时 命中次数 正则扫描的字符数
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder scannedChars = new LongAdder();
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+    //ALL_*规则每个子条件的统计 按matchKeys下标保存
+    private volatile ConditionStats conditionStats;
+    private final AtomicLong conditionSamples = new AtomicLong();
+
+    /**
+     * 记录一次规则执行
+     * @param nanos 本次执行耗时
+     * @param chars 本次执行的正则扫描的字符数
+     * @param isHit 本次是否命中
+     */
+    public void recordEvaluation(long nanos, long chars, boolean isHit) {
+        invocations.increment();
+        totalNanos.add(nanos);
+        if (chars > 0) scannedChars.add(chars);
+        if (isHit) hits.increment();
+        latencyHistogram.record(nanos);
+    }
+
+    /**
+     * 记录ALL_*规则一个子条件的执行结果 返回记录后的子条件总执行次数
+     * @param index 子条件在matchKeys中的下标
+     * @param count 子条件数量 与已有统计数量不一致时(规则被修改)重新统计
+     * @param isMiss 子条件是否未命中
+     * @param nanos 子条件执行耗时 不计时的子条件传0
+     */
+    public long recordCondition(int index, int count, boolean isMiss, long nanos) {
+        ConditionStats stats = conditionStats;
+        if (stats == null || stats.runs.length() != count) {
+            synchronized (this) {
+                stats = conditionStats;
+                if (stats == null || stats.runs.length() != count) {
+                    conditionStats = stats = new ConditionStats(count);
+                }
+            }
+        }
+        stats.runs.incrementAndGet(index);
+        if (isMiss) stats.misses.incrementAndGet(index);
+        if (nanos > 0) stats.nanos.addAndGet(index, nanos);
+        return conditionSamples.incrementAndGet();
+    }
+
+    /**
+     * 子条件的执行次数 没有统计时返回0
+     */
+    public long getConditionRuns(int index) {
+        ConditionStats stats = conditionStats;
+        return stats == null || index >= stats.runs.length() ? 0 : stats.runs.get(index);
+    }
+
+    /**
+     * 子条件的未命中次数 没有统计时返回0
+     */
+    public long getConditionMisses(int index) {
+        ConditionStats stats = conditionStats;
+        return stats == null || index >= stats.misses.length() ? 0 : stats.misses.get(index);
+    }
+
+    /**
+     * 子条件的总耗时 没有统计时返回0
+     */
+    public long getConditionNanos(int index) {
+        ConditionStats stats = conditionStats;
+        return stats == null || index >= stats.nanos.length() ? 0 : stats.nanos.get(index);
+    }
+
+    /**
+     * 记录一次超出预算 返回本次是否导致规则被隔离
+     * @param maxStrikes 隔离前允许的最大次数 小于等于0时只记录不隔离
+     */
+    public boolean addStrike(String reason, int maxStrikes) {
+        lastStrikeReason = reason;
+        int current = strikes.incrementAndGet();
+        return maxStrikes > 0 && current >= maxStrikes && quarantined.compareAndSet(false, true);
+    }
+
+    public void reset() {
+        strikes.set(0);
+        quarantined.set(false);
+        lastStrikeReason = null;
+        resetProfile();
+    }
+
+    /**
+     * 只清空性能统计
+     */
+    public void resetProfile() {
+        invocations.reset();
+        totalNanos.reset();
+        hits.reset();
+        scannedChars.reset();
+        latencyHistogram.reset();
+        conditionStats = null;
+        conditionSamples.set(0);
+    }
+
+    public int getStrikes() {
+        return strikes.get();
+    }
+
+    public boolean isQuarantined() {
+        return quarantined.get();
+    }
+
+    public String getLastStrikeReason() {
+        return lastStrikeReason;
+    }
+
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getScannedChars() {
+        return scannedChars.sum();
+    }
+
+    public long getP99Nanos() {
+        return latencyHistogram.getPercentile(0.99);
+    }
+
+    /**
+     * 子条件的执行次数 未命中次数 总耗时
+     */
+    private static class ConditionStats {
+        private final AtomicLongArray runs;
+        private final AtomicLongArray misses;
+        private final AtomicLongArray nanos;
+
+        private ConditionStats(int count) {
+            this.runs = new AtomicLongArray(count);
+            this.misses = new AtomicLongArray(count);
+            this.nanos = new AtomicLongArray(count);
+        }
+    }
+}
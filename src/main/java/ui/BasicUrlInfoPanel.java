@@ -437,6 +437,8 @@ public class BasicUrlInfoPanel extends JPanel implements IMessageEditorControlle
                         new SwingWorker<Void, Void>() {
                             @Override
                             protected Void doInBackground() throws Exception {
+                                //重新分析时需要提取完整的URI 不跳过已提取的URI
+                                SeenUriUtils.clear();
                                 CommonUpdateStatus.updateStatusByMsgHashList(ReqDataTable.tableName, msgHashList, Constants.ANALYSE_WAIT);
                                 return null;
                             }
@@ -4,6 +4,7 @@ import burp.BurpExtender;
 import model.FingerPrintRule;
 import ui.RuleConfigPanel;
 import utils.ConfigUtils;
+import utils.RuleGuardUtils;
 import utils.UiUtils;
 
 import javax.swing.*;
@@ -55,7 +56,11 @@ public class ButtonEditor extends AbstractCellEditor implements TableCellEditor
                 } else {
                     toggleButton.setIcon(openIcon);
                     rule.setOpen(true);
+                    //重新开启的规则 解除隔离
+                    RuleGuardUtils.resetRuleState(rule);
                 }
+                //重新编译生效的指纹规则
+                ConfigUtils.reloadConfigArrayListFromRules(BurpExtender.fingerprintRules);
                 fireEditingStopped();
                 sourceTable.repaint();
             }
@@ -116,7 +121,7 @@ public class ButtonEditor extends AbstractCellEditor implements TableCellEditor
                 }
 
                 // 删除表格模型中的数据
-                ((DefaultTableModel) sourceTable.getModel()).removeRow(viewRow);
+                ((DefaultTableModel) sourceTable.getModel()).removeRow(modelRow);
 
                 // 在删除行之后，重新验证和重绘表格
                 sourceTable.revalidate();
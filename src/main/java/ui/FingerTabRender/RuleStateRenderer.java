@@ -0,0 +1,39 @@
+package ui.FingerTabRender;
+
+import burp.BurpExtender;
+import model.FingerPrintRule;
+import model.RuleRuntimeState;
+import ui.RuleConfigPanel;
+import utils.RuleGuardUtils;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * 标记已被隔离的规则 正则多次超出执行预算的规则显示为红色, 鼠标悬停显示原因
+ */
+public class RuleStateRenderer extends LeftRenderer {
+    @Override
+    public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
+        Component component = super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+
+        RuleRuntimeState state = getRuleState(table, row);
+        if (state != null && state.isQuarantined()) {
+            component.setForeground(Color.RED);
+            setToolTipText(String.format("已隔离: 正则超出执行预算 %s 次 %s", state.getStrikes(), state.getLastStrikeReason()));
+        } else {
+            component.setForeground(isSelected ? table.getSelectionForeground() : table.getForeground());
+            setToolTipText(null);
+        }
+        return component;
+    }
+
+    private static RuleRuntimeState getRuleState(JTable table, int viewRow) {
+        int modelRow = table.convertRowIndexToModel(viewRow);
+        if (modelRow < 0 || modelRow >= RuleConfigPanel.tableToModelIndexMap.size()) return null;
+        int dataIndex = RuleConfigPanel.tableToModelIndexMap.get(modelRow);
+        if (dataIndex < 0 || dataIndex >= BurpExtender.fingerprintRules.size()) return null;
+        FingerPrintRule rule = BurpExtender.fingerprintRules.get(dataIndex);
+        return RuleGuardUtils.isQuarantined(rule) ? RuleGuardUtils.getRuleState(rule) : null;
+    }
+}
@@ -4,11 +4,13 @@ import EnumType.LocationType;
 import EnumType.MatchType;
 import EnumType.RiskLevel;
 import burp.BurpExtender;
+import burp.RuleRescanJob;
 import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.JSONWriter;
 import database.Constants;
 import model.FingerPrintRule;
 import model.FingerPrintRulesWrapper;
+import model.RuleRuntimeState;
 import ui.FingerTabRender.*;
 import ui.MainTabRender.TableHeaderWithTips;
 import utils.*;
@@ -42,6 +44,10 @@ public class RuleConfigPanel extends JPanel {
     private static JComboBox<String> accuracyFiled;
 
     public static List<Integer> tableToModelIndexMap = new ArrayList<>();
+    //性能统计列的起始索引 位于操作列之后
+    private static final int PROFILE_COLUMN_START = 9;
+    //定时刷新性能统计列的定时器
+    private static javax.swing.Timer ruleProfileTimer;
     public static Set<String> uniqueTypes = new LinkedHashSet<>();
 
     public static final String String_All_Type = "全部类型";
@@ -79,6 +85,15 @@ public class RuleConfigPanel extends JPanel {
         // 调整 centerPanel 的位置
         int leftPadding = 150;  // 调整这个值来改变左边距
         centerPanel.setBorder(new EmptyBorder(0, leftPadding, 0, 0));
+        // 重新扫描历史流量的进度和取消按钮 扫描时显示
+        JProgressBar rescanProgressBar = new JProgressBar();
+        rescanProgressBar.setStringPainted(true);
+        rescanProgressBar.setVisible(false);
+        JButton cancelRescanButton = new JButton("取消扫描");
+        cancelRescanButton.setToolTipText("取消重新扫描 已合并的结果会保留");
+        cancelRescanButton.setVisible(false);
+        centerPanel.add(rescanProgressBar);
+        centerPanel.add(cancelRescanButton);
 
         // 创建一个面板来放置放在最右边的按钮
         JPanel rightPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
@@ -126,12 +141,27 @@ public class RuleConfigPanel extends JPanel {
         exportItem.setIcon(UiUtils.getImageIcon("/icon/exportItem.png"));
         exportItem.setToolTipText("导出当前规则到文件");
 
+        JMenuItem exportProfileItem = new JMenuItem("导出统计");
+        exportProfileItem.setIcon(UiUtils.getImageIcon("/icon/exportItem.png"));
+        exportProfileItem.setToolTipText("导出每条规则的执行次数、耗时、命中次数等性能统计");
+
+        JMenuItem resetProfileItem = new JMenuItem("清空统计");
+        resetProfileItem.setIcon(UiUtils.getImageIcon("/icon/resetItem.png"));
+        resetProfileItem.setToolTipText("清空所有规则的性能统计");
+
+        JMenuItem rescanItem = new JMenuItem("重新扫描");
+        rescanItem.setIcon(UiUtils.getImageIcon("/icon/refreshButton2.png"));
+        rescanItem.setToolTipText("使用新增或修改过的规则重新扫描已存储的流量 新增信息合并到分析结果中");
+
         JMenuItem resetItem = new JMenuItem("重置");
         resetItem.setIcon(UiUtils.getImageIcon("/icon/resetItem.png"));
         resetItem.setToolTipText("初始为插件内置规则");
         popupMenu.add(saveItem);
         popupMenu.add(importItem);
         popupMenu.add(exportItem);
+        popupMenu.add(exportProfileItem);
+        popupMenu.add(resetProfileItem);
+        popupMenu.add(rescanItem);
         popupMenu.add(resetItem);
 
         // 布局
@@ -284,6 +314,8 @@ public class RuleConfigPanel extends JPanel {
                     });
                     counter ++;
                 }
+                //重新编译生效的指纹规则
+                ConfigUtils.reloadConfigArrayListFromRules(BurpExtender.fingerprintRules);
                 ruleTableUI.repaint();
             }
         });
@@ -318,6 +350,8 @@ public class RuleConfigPanel extends JPanel {
                     });
                     counter ++;
                 }
+                //重新编译生效的指纹规则
+                ConfigUtils.reloadConfigArrayListFromRules(BurpExtender.fingerprintRules);
                 ruleTableUI.repaint();
             }
         });
@@ -356,6 +390,8 @@ public class RuleConfigPanel extends JPanel {
                     });
                     counter ++;
                 }
+                //重新编译生效的指纹规则
+                ConfigUtils.reloadConfigArrayListFromRules(BurpExtender.fingerprintRules);
                 ruleTableUI.repaint();
             }
         });
@@ -423,6 +459,100 @@ public class RuleConfigPanel extends JPanel {
         });
 
 
+        // 点击导出统计按钮
+        exportProfileItem.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                String profileToJson = RuleProfileUtils.profilesToJsonString(BurpExtender.fingerprintRules);
+
+                JFileChooser fileChooser = new JFileChooser();
+                fileChooser.setDialogTitle("保存为");
+                fileChooser.setFileFilter(new FileNameExtensionFilter("JSON文件 (*.json)", "json"));
+                int userSelection = fileChooser.showSaveDialog(RuleConfigPanel.this);
+
+                if (userSelection == JFileChooser.APPROVE_OPTION) {
+                    File fileToSave = fileChooser.getSelectedFile();
+                    // 确保文件有.json扩展名
+                    if (!fileToSave.getAbsolutePath().endsWith(".json")) {
+                        fileToSave = new File(fileToSave + ".json");
+                    }
+
+                    try {
+                        BurpFileUtils.writeToFile(fileToSave, profileToJson);
+                        JOptionPane.showMessageDialog(RuleConfigPanel.this, "统计已导出至: " + fileToSave.getAbsolutePath(), "导出成功", JOptionPane.INFORMATION_MESSAGE);
+                    } catch (IOException ex) {
+                        JOptionPane.showMessageDialog(RuleConfigPanel.this, "写入文件时发生错误: " + ex.getMessage(), "导出失败", JOptionPane.ERROR_MESSAGE);
+                    }
+                }
+            }
+        });
+
+        // 点击清空统计按钮
+        resetProfileItem.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                RuleProfileUtils.resetProfiles(BurpExtender.fingerprintRules);
+                ruleTableUI.repaint();
+            }
+        });
+
+        // 点击重新扫描按钮
+        rescanItem.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (RuleRescanJob.isRunning()) {
+                    JOptionPane.showMessageDialog(RuleConfigPanel.this, "重新扫描正在执行", "重新扫描", JOptionPane.INFORMATION_MESSAGE);
+                    return;
+                }
+
+                List<FingerPrintRule> changedRules = RuleRescanJob.getChangedRules(BurpExtender.fingerprintRules);
+                if (changedRules.isEmpty()) {
+                    JOptionPane.showMessageDialog(RuleConfigPanel.this, "没有新增或修改过的规则", "重新扫描", JOptionPane.INFORMATION_MESSAGE);
+                    return;
+                }
+
+                int confirm = JOptionPane.showConfirmDialog(RuleConfigPanel.this,
+                        String.format("使用 %s 条新增或修改过的规则重新扫描已存储的流量?", changedRules.size()), "重新扫描", JOptionPane.YES_NO_OPTION);
+                if (confirm != JOptionPane.YES_OPTION) return;
+
+                rescanProgressBar.setValue(0);
+                rescanProgressBar.setString("准备中");
+                rescanProgressBar.setVisible(true);
+                cancelRescanButton.setEnabled(true);
+                cancelRescanButton.setVisible(true);
+
+                RuleRescanJob.start(changedRules, new RuleRescanJob.RescanListener() {
+                    @Override
+                    public void onProgress(int scanned, int total, int merged) {
+                        SwingUtilities.invokeLater(() -> {
+                            rescanProgressBar.setMaximum(total);
+                            rescanProgressBar.setValue(scanned);
+                            rescanProgressBar.setString(String.format("%s/%s 新增 %s", scanned, total, merged));
+                        });
+                    }
+
+                    @Override
+                    public void onFinished(boolean cancelled, int scanned, int merged) {
+                        SwingUtilities.invokeLater(() -> {
+                            rescanProgressBar.setVisible(false);
+                            cancelRescanButton.setVisible(false);
+                            String message = String.format("%s 已扫描 %s 个请求, %s 个请求新增了信息", cancelled ? "重新扫描已取消," : "重新扫描完成,", scanned, merged);
+                            JOptionPane.showMessageDialog(RuleConfigPanel.this, message, "重新扫描", JOptionPane.INFORMATION_MESSAGE);
+                        });
+                    }
+                });
+            }
+        });
+
+        // 点击取消扫描按钮
+        cancelRescanButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                RuleRescanJob.cancelCurrent();
+                cancelRescanButton.setEnabled(false);
+            }
+        });
+
         // 点击导入按钮
         importItem.addActionListener(new ActionListener() {
             @Override
@@ -449,6 +579,8 @@ public class RuleConfigPanel extends JPanel {
                             BurpExtender.fingerprintRules.clear();
                             BurpExtender.fingerprintRules.addAll(rulesWrapper.getFingerprint());
                         }
+                        //重新加载配置并编译指纹规则
+                        ConfigUtils.reloadConfigArrayListFromRules(BurpExtender.fingerprintRules);
 
                         // 清除表格的所有行
                         ruleTableModel.setRowCount(0);
@@ -496,6 +628,8 @@ public class RuleConfigPanel extends JPanel {
                         BurpExtender.fingerprintRules.clear();
                         BurpExtender.fingerprintRules.addAll(rulesWrapper.getFingerprint());
                     }
+                    //重新加载配置并编译指纹规则
+                    ConfigUtils.reloadConfigArrayListFromRules(BurpExtender.fingerprintRules);
 
                     // 清除表格的所有行
                     ruleTableModel.setRowCount(0);
@@ -553,6 +687,31 @@ public class RuleConfigPanel extends JPanel {
     }
 
 
+    /**
+     * 获取表格模型行对应规则的运行状态
+     */
+    private static RuleRuntimeState getRuleStateAtModelRow(int modelRow) {
+        if (modelRow < 0 || modelRow >= tableToModelIndexMap.size()) return null;
+        int dataIndex = tableToModelIndexMap.get(modelRow);
+        if (dataIndex < 0 || dataIndex >= BurpExtender.fingerprintRules.size()) return null;
+        return RuleGuardUtils.getRuleState(BurpExtender.fingerprintRules.get(dataIndex));
+    }
+
+    /**
+     * 重绘规则表格 规则隔离状态变化时调用
+     */
+    public static void repaintRuleTable() {
+        if (ruleTableUI != null) SwingUtilities.invokeLater(() -> ruleTableUI.repaint());
+    }
+
+    // 停止性能统计列的定时刷新
+    public static void stopTimerRuleProfile() {
+        if (ruleProfileTimer != null && ruleProfileTimer.isRunning()) {
+            ruleProfileTimer.stop();
+            stdout_println(LOG_DEBUG, "[*] Stop Timer Rule Profile");
+        }
+    }
+
     /**
      * 保存指纹的函数,不进行弹框提示
      */
@@ -592,13 +751,18 @@ public class RuleConfigPanel extends JPanel {
         String[] colHeaderTooltips = new String[]{
                 "规则ID",
                 "规则类型",
-                "规则描述",
+                "规则描述 红色表示正则多次超出执行预算已被隔离",
                 "是否重要",
                 "准确度",
                 "匹配方式",
                 "匹配位置",
                 "规则内容",
-                "开关|编辑|删除"
+                "开关|编辑|删除",
+                "规则执行次数",
+                "规则执行总耗时(毫秒)",
+                "规则单次执行耗时的P99(毫秒)",
+                "规则命中次数",
+                "规则正则扫描的字符数"
         };
         TableHeaderWithTips headerWithTooltips = new TableHeaderWithTips(ruleTableUI.getColumnModel(), colHeaderTooltips);
         ruleTableUI.setTableHeader(headerWithTooltips);
@@ -616,7 +780,8 @@ public class RuleConfigPanel extends JPanel {
         ruleTableUI.getColumnModel().getColumn(1).setPreferredWidth(250);
         ruleTableUI.getColumnModel().getColumn(1).setMaxWidth(300);
 
-        ruleTableUI.getColumnModel().getColumn(2).setCellRenderer(leftRenderer);
+        //被隔离的规则 描述标红显示
+        ruleTableUI.getColumnModel().getColumn(2).setCellRenderer(new RuleStateRenderer());
         ruleTableUI.getColumnModel().getColumn(2).setPreferredWidth(250);
         ruleTableUI.getColumnModel().getColumn(2).setMaxWidth(300);
 
@@ -646,6 +811,30 @@ public class RuleConfigPanel extends JPanel {
         ruleTableUI.getColumnModel().getColumn(8).setCellRenderer(new ButtonRenderer());
         ruleTableUI.getColumnModel().getColumn(8).setCellEditor(new ButtonEditor(ruleTableUI));
 
+        //性能统计列 可点击表头排序
+        int profileColumnWidth = 90;
+        for (int i = PROFILE_COLUMN_START; i < ruleTableUI.getColumnCount(); i++) {
+            ruleTableUI.getColumnModel().getColumn(i).setCellRenderer(centerRenderer);
+            ruleTableUI.getColumnModel().getColumn(i).setPreferredWidth(profileColumnWidth);
+            ruleTableUI.getColumnModel().getColumn(i).setMaxWidth(profileColumnWidth + 30);
+        }
+        //操作列保持在最右侧
+        ruleTableUI.moveColumn(8, ruleTableUI.getColumnCount() - 1);
+
+        //只允许按性能统计列排序 类型列的表头点击用于筛选
+        TableRowSorter<TableModel> rowSorter = new TableRowSorter<>(ruleTableUI.getModel());
+        for (int i = 0; i < PROFILE_COLUMN_START; i++) {
+            rowSorter.setSortable(i, false);
+        }
+        ruleTableUI.setRowSorter(rowSorter);
+
+        //定时刷新性能统计列
+        stopTimerRuleProfile();
+        ruleProfileTimer = new javax.swing.Timer(3000, e -> {
+            if (ruleTableUI.isShowing()) ruleTableUI.repaint();
+        });
+        ruleProfileTimer.start();
+
         // 在FingerConfigTab构造函数中设置表头渲染器和监听器的代码
         //JTableHeader是JTable顶部显示列名的部分，允许用户对列进行排序、调整列宽等 自定义设置
         JTableHeader tableHeader = ruleTableUI.getTableHeader();
@@ -730,22 +919,60 @@ public class RuleConfigPanel extends JPanel {
                 "matchType",
                 "location",
                 "matchKeys",
-                "Action"
+                "Action",
+                "invocations",
+                "totalMs",
+                "p99Ms",
+                "hits",
+                "scannedChars"
         }, 0) {
             @Override
             public Class<?> getColumnClass(int columnIndex) {
                 switch (columnIndex) {
                     case 8:
                         return JButton.class;
+                    case 9:
+                    case 12:
+                    case 13:
+                        return Long.class;
+                    case 10:
+                    case 11:
+                        return Double.class;
                     default:
                         return super.getColumnClass(columnIndex);
                 }
             }
+
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return column < PROFILE_COLUMN_START && super.isCellEditable(row, column);
+            }
+
+            //性能统计列 直接读取规则的实时统计
+            @Override
+            public Object getValueAt(int row, int column) {
+                if (column < PROFILE_COLUMN_START) return super.getValueAt(row, column);
+
+                RuleRuntimeState state = getRuleStateAtModelRow(row);
+                switch (column) {
+                    case 9:
+                        return state == null ? 0L : state.getInvocations();
+                    case 10:
+                        return state == null ? 0D : RuleProfileUtils.nanosToMillis(state.getTotalNanos());
+                    case 11:
+                        return state == null ? 0D : RuleProfileUtils.nanosToMillis(state.getP99Nanos());
+                    case 12:
+                        return state == null ? 0L : state.getHits();
+                    default:
+                        return state == null ? 0L : state.getScannedChars();
+                }
+            }
         };
         //创建了一个新的DefaultTableModel实例，它将用于存储表格的数据和定义列的属性
         //指定列名分别是 "#", "type", "describe", "isImportant", "accuracy", "MatchType", "location", "MatchKey", "Action"，而0表示初始时不创建任何行。
         //匿名内部类的方式去扩展DefaultTableModel，目的是为了重写getColumnClass方法，实现自定义列的行为
         //表示第9列 Action 的数据类型被指定为JButton.class。这意味着这一列的每个单元格都可以显示一个按钮。 对于其他列，使用默认的行为，即根据数据的实际类型来决定。
+        //第10列开始为性能统计列 不存储数据, 显示时从规则的运行状态中读取
 
         int counter = 1;
         tableToModelIndexMap.clear();
@@ -930,18 +1157,24 @@ public class RuleConfigPanel extends JPanel {
                     rule.setMatchType(method);
                     rule.setLocation(location);
                     rule.setMatchKeys(matchKeys);
+                    //规则被修改后 重新学习子条件执行顺序
+                    rule.setMatchOrder(null);
+                    //规则被修改后 重新计算超时次数并解除隔离
+                    RuleGuardUtils.resetRuleState(rule);
 
                     // 更新表格模型
-                    ruleTableModel.setValueAt(type, ruleTableUI.getSelectedRow(), 1);
-                    ruleTableModel.setValueAt(describe, ruleTableUI.getSelectedRow(), 2);
-                    ruleTableModel.setValueAt(isImportant, ruleTableUI.getSelectedRow(), 3);
-                    ruleTableModel.setValueAt(accuracy, ruleTableUI.getSelectedRow(), 4);
-                    ruleTableModel.setValueAt(method, ruleTableUI.getSelectedRow(), 5); // 假设Method列是第3列
-                    ruleTableModel.setValueAt(location, ruleTableUI.getSelectedRow(), 6); // 假设Location列是第4列
-                    ruleTableModel.setValueAt(CastUtils.listToString(matchKeys), ruleTableUI.getSelectedRow(), 7); // 假设Keyword列是第5列
+                    //表格可能已排序 通过规则索引查找模型行
+                    int selectedModelRow = tableToModelIndexMap.indexOf(editingRow);
+                    ruleTableModel.setValueAt(type, selectedModelRow, 1);
+                    ruleTableModel.setValueAt(describe, selectedModelRow, 2);
+                    ruleTableModel.setValueAt(isImportant, selectedModelRow, 3);
+                    ruleTableModel.setValueAt(accuracy, selectedModelRow, 4);
+                    ruleTableModel.setValueAt(method, selectedModelRow, 5); // 假设Method列是第3列
+                    ruleTableModel.setValueAt(location, selectedModelRow, 6); // 假设Location列是第4列
+                    ruleTableModel.setValueAt(CastUtils.listToString(matchKeys), selectedModelRow, 7); // 假设Keyword列是第5列
 
                     // 通知模型数据已更新，触发表格重绘
-                    ruleTableModel.fireTableRowsUpdated(ruleTableUI.getSelectedRow(), ruleTableUI.getSelectedRow());
+                    ruleTableModel.fireTableRowsUpdated(selectedModelRow, selectedModelRow);
                     // 关闭编辑面板
                     editRulePanel.setVisible(false);
 
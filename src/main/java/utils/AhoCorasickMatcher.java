@@ -0,0 +1,243 @@
+package utils;
+
+import java.util.*;
+
+/**
+ * 多关键字 Aho-Corasick 自动机 构建后只读, 可多线程共享
+ * 关键字与待匹配文本都需要提前格式化为小写, 一次扫描即可得到所有命中的关键字
+ */
+public class AhoCorasickMatcher {
+    private static final int ROOT = 0;
+    private static final int ASCII_SIZE = 128;
+
+    //关键字 -> 关键字编号
+    private final Map<String, Integer> keywordIndexMap;
+
+    //根节点ASCII字符的直接跳转表
+    private final int[] rootAsciiNext;
+    //压缩存储的子节点 节点i的子节点范围为 [childStart[i], childStart[i+1])
+    private final int[] childStart;
+    private final char[] childChars;
+    private final int[] childNodes;
+    //失败指针
+    private final int[] fail;
+    //节点结束的关键字编号 没有时为-1
+    private final int[] nodeKeyword;
+    //沿失败指针最近的一个结束节点 没有时为ROOT
+    private final int[] outputLink;
+    //最长关键字的长度 分窗口扫描时相邻窗口需要重叠 最长长度-1 个字符
+    private final int maxKeywordLength;
+
+    public AhoCorasickMatcher(Collection<String> keywords) {
+        //关键字去重编号 空关键字不需要匹配
+        keywordIndexMap = new LinkedHashMap<>();
+        for (String keyword : keywords) {
+            if (keyword != null && !keyword.isEmpty() && !keywordIndexMap.containsKey(keyword)) {
+                keywordIndexMap.put(keyword, keywordIndexMap.size());
+            }
+        }
+
+        int maxLength = 0;
+        for (String keyword : keywordIndexMap.keySet()) {
+            maxLength = Math.max(maxLength, keyword.length());
+        }
+        maxKeywordLength = maxLength;
+
+        //构建字典树
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> trieKeyword = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        trieKeyword.add(-1);
+        for (Map.Entry<String, Integer> entry : keywordIndexMap.entrySet()) {
+            int node = ROOT;
+            String keyword = entry.getKey();
+            for (int i = 0; i < keyword.length(); i++) {
+                Integer next = trie.get(node).get(keyword.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    trieKeyword.add(-1);
+                    trie.get(node).put(keyword.charAt(i), next);
+                }
+                node = next;
+            }
+            trieKeyword.set(node, entry.getValue());
+        }
+
+        //转换为数组结构
+        int nodeCount = trie.size();
+        childStart = new int[nodeCount + 1];
+        int edgeCount = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            childStart[i] = edgeCount;
+            edgeCount += trie.get(i).size();
+        }
+        childStart[nodeCount] = edgeCount;
+        childChars = new char[edgeCount];
+        childNodes = new int[edgeCount];
+        nodeKeyword = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            int index = childStart[i];
+            for (Map.Entry<Character, Integer> child : trie.get(i).entrySet()) {
+                childChars[index] = child.getKey();
+                childNodes[index] = child.getValue();
+                index++;
+            }
+            nodeKeyword[i] = trieKeyword.get(i);
+        }
+
+        rootAsciiNext = new int[ASCII_SIZE];
+        Arrays.fill(rootAsciiNext, -1);
+        for (int i = childStart[ROOT]; i < childStart[ROOT + 1]; i++) {
+            if (childChars[i] < ASCII_SIZE) rootAsciiNext[childChars[i]] = childNodes[i];
+        }
+
+        //广度优先计算失败指针和输出链接
+        fail = new int[nodeCount];
+        outputLink = new int[nodeCount];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int i = childStart[ROOT]; i < childStart[ROOT + 1]; i++) {
+            queue.add(childNodes[i]);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = childStart[node]; i < childStart[node + 1]; i++) {
+                char c = childChars[i];
+                int child = childNodes[i];
+                int state = fail[node];
+                int next;
+                while ((next = findChild(state, c)) < 0 && state != ROOT) {
+                    state = fail[state];
+                }
+                fail[child] = next < 0 ? ROOT : next;
+                outputLink[child] = nodeKeyword[fail[child]] >= 0 ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 查找节点的子节点 没有时返回-1
+     */
+    private int findChild(int node, char c) {
+        if (node == ROOT) {
+            if (c < ASCII_SIZE) return rootAsciiNext[c];
+        }
+
+        int low = childStart[node];
+        int high = childStart[node + 1] - 1;
+        //多数节点只有一个子节点
+        if (low == high) return childChars[low] == c ? childNodes[low] : -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = childChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return childNodes[mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 扫描已格式化的文本一次, 返回命中的关键字编号集合
+     */
+    public BitSet match(String textFormat) {
+        return scan(textFormat, 0, textFormat == null ? 0 : textFormat.length(), false);
+    }
+
+    /**
+     * 只扫描文本的 [start, end) 范围 用于分窗口并行扫描, 只返回完整位于范围内的关键字
+     */
+    public BitSet match(String textFormat, int start, int end, boolean foldAsciiCase) {
+        return scan(textFormat, start, end, foldAsciiCase);
+    }
+
+    /**
+     * 扫描原始文本一次 扫描时将ASCII字母转为小写, 不需要复制文本
+     */
+    public BitSet matchIgnoreAsciiCase(String text) {
+        return scan(text, 0, text == null ? 0 : text.length(), true);
+    }
+
+    /**
+     * 判断已格式化的文本是否包含任意关键字 命中第一个关键字时立即返回
+     */
+    public boolean containsAny(String textFormat) {
+        if (keywordIndexMap.isEmpty() || textFormat == null) return false;
+
+        int state = ROOT;
+        for (int i = 0; i < textFormat.length(); i++) {
+            char c = textFormat.charAt(i);
+            int next;
+            while ((next = findChild(state, c)) < 0 && state != ROOT) {
+                state = fail[state];
+            }
+            state = next < 0 ? ROOT : next;
+            if (nodeKeyword[state] >= 0 || outputLink[state] != ROOT) return true;
+        }
+        return false;
+    }
+
+    private BitSet scan(String textFormat, int start, int end, boolean foldAsciiCase) {
+        int keywordCount = keywordIndexMap.size();
+        BitSet hits = new BitSet(keywordCount);
+        if (keywordCount == 0 || textFormat == null || start >= end) return hits;
+
+        //已输出过的节点, 其输出链上的关键字也已全部记录
+        BitSet emitted = new BitSet(nodeKeyword.length);
+        int hitCount = 0;
+        int state = ROOT;
+        for (int i = start; i < end; i++) {
+            char c = textFormat.charAt(i);
+            if (foldAsciiCase && c >= 'A' && c <= 'Z') c += 32;
+            int next;
+            while ((next = findChild(state, c)) < 0 && state != ROOT) {
+                state = fail[state];
+            }
+            state = next < 0 ? ROOT : next;
+
+            int output = nodeKeyword[state] >= 0 ? state : outputLink[state];
+            while (output != ROOT && !emitted.get(output)) {
+                emitted.set(output);
+                hits.set(nodeKeyword[output]);
+                hitCount++;
+                output = outputLink[output];
+            }
+
+            //所有关键字都已命中时提前结束
+            if (hitCount == keywordCount) break;
+        }
+        return hits;
+    }
+
+    /**
+     * 判断关键字是否在命中集合中 空关键字视为总是包含
+     */
+    public boolean isHit(BitSet hits, String keywordFormat) {
+        if (keywordFormat.isEmpty()) return true;
+        Integer index = keywordIndexMap.get(keywordFormat);
+        return index != null && hits.get(index);
+    }
+
+    /**
+     * 判断关键字列表中是否有任意一个在命中集合中
+     */
+    public boolean isHitAny(BitSet hits, List<String> keywordFormats) {
+        for (String keywordFormat : keywordFormats) {
+            if (isHit(hits, keywordFormat)) return true;
+        }
+        return false;
+    }
+
+    public int getKeywordCount() {
+        return keywordIndexMap.size();
+    }
+
+    public int getMaxKeywordLength() {
+        return maxKeywordLength;
+    }
+}
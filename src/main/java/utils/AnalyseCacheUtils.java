@@ -0,0 +1,129 @@
+package utils;
+
+import burp.IProxyScanner;
+import com.alibaba.fastjson2.JSON;
+import database.AnalyseCacheTable;
+import model.AnalyseCacheModel;
+import model.FingerPrintRule;
+import model.HttpMsgInfo;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static utils.BurpPrintUtils.*;
+
+/**
+ * 按响应体哈希缓存分析结果 相同的响应体(如CDN上的公共JS)在不同URL和主机间只分析一次
+ * 内存中保留最近使用的结果, 数据库中保留更多结果, 内存未命中时从数据库读取
+ */
+public class AnalyseCacheUtils {
+    //小于该长度的响应体分析很快 不进行缓存
+    private static final int MIN_CACHE_BODY_LEN = 1024;
+    //数据库中保留的条目数为内存条目数的倍数
+    private static final int DB_CACHE_MULTIPLE = 10;
+    //每写入多少次清理一次数据库
+    private static final int DB_TRIM_INTERVAL = 200;
+
+    //缓存内容的格式版本 缓存内容的范围变化时更新, 使数据库中旧格式的条目失效
+    private static final String CACHE_FORMAT_VERSION = "2";
+
+    //当前规则的版本 规则内容变化时更新
+    private static volatile String rulesVersion = "";
+    private static int putCount = 0;
+
+    //按访问顺序排列 超出容量时移除最久未使用的条目
+    private static final LinkedHashMap<String, AnalyseCacheModel> MEMORY_CACHE = new LinkedHashMap<String, AnalyseCacheModel>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, AnalyseCacheModel> eldest) {
+            return size() > IProxyScanner.analyseCacheSize;
+        }
+    };
+
+    public static boolean isEnabled() {
+        return IProxyScanner.analyseCacheSize > 0;
+    }
+
+    /**
+     * 根据规则内容更新规则版本 版本变化时清空内存缓存, 学习到的子条件执行顺序不影响版本
+     */
+    public static void updateRulesVersion(List<FingerPrintRule> fingerprintRules) {
+        String newVersion = fingerprintRules == null ? "" : RespHashUtils.calcSHA256(JSON.toJSONString(fingerprintRules, FingerPrintRule.IGNORE_MATCH_ORDER)).substring(0, 16);
+        if (newVersion.equals(rulesVersion)) return;
+
+        rulesVersion = newVersion;
+        synchronized (MEMORY_CACHE) {
+            MEMORY_CACHE.clear();
+        }
+        stdout_println(LOG_DEBUG, String.format("[+] analyse cache rules version: [%s]", newVersion));
+    }
+
+    /**
+     * 当前生效的结果版本 包含缓存格式、规则版本和影响提取结果的分块参数、正则引擎
+     */
+    public static String getRulesVersion() {
+        return String.format("%s:%s:%s:%s:%s:%s:%s", CACHE_FORMAT_VERSION, rulesVersion, IProxyScanner.maxPatterChunkSize, IProxyScanner.maxPatterChunkOverlap, IProxyScanner.linearRegexEngine, IProxyScanner.uriLexerExtract, IProxyScanner.sourceMapExtract);
+    }
+
+    /**
+     * 计算响应体的缓存键 响应体过短时返回null
+     * 除响应体外 还包含影响提取结果的解码方式、MIME类型和是否为JS文件
+     */
+    public static String calcBodyHash(HttpMsgInfo msgInfo, boolean decodeBody) {
+        ByteSlice bodySlice = msgInfo.getRespInfo().getBodySlice();
+        if (bodySlice.getLength() < MIN_CACHE_BODY_LEN) return null;
+
+        String context = String.format("%s|%s|%s|%s|",
+                decodeBody,
+                msgInfo.getRespInfo().getStatedMimeType(),
+                msgInfo.getRespInfo().getInferredMimeType(),
+                "js".equals(msgInfo.getUrlInfo().getSuffix()));
+        return RespHashUtils.calcSHA256(context, bodySlice.getArray(), bodySlice.getOffset(), bodySlice.getLength());
+    }
+
+    /**
+     * 获取缓存的分析结果 内存未命中时查询数据库, 不存在时返回null
+     */
+    public static AnalyseCacheModel getCache(String bodyHash, String version) {
+        String cacheKey = bodyHash + "|" + version;
+        synchronized (MEMORY_CACHE) {
+            AnalyseCacheModel cacheModel = MEMORY_CACHE.get(cacheKey);
+            if (cacheModel != null) return cacheModel;
+        }
+
+        AnalyseCacheModel cacheModel = AnalyseCacheTable.fetchAnalyseCache(bodyHash, version);
+        if (cacheModel != null) {
+            synchronized (MEMORY_CACHE) {
+                MEMORY_CACHE.put(cacheKey, cacheModel);
+            }
+        }
+        return cacheModel;
+    }
+
+    /**
+     * 保存分析结果到内存和数据库 定期清理数据库中过期和超出数量的条目
+     */
+    public static void putCache(AnalyseCacheModel cacheModel) {
+        String cacheKey = cacheModel.getBodyHash() + "|" + cacheModel.getRulesVersion();
+        boolean needTrim;
+        synchronized (MEMORY_CACHE) {
+            MEMORY_CACHE.put(cacheKey, cacheModel);
+            needTrim = ++putCount % DB_TRIM_INTERVAL == 0;
+        }
+
+        AnalyseCacheTable.insertOrUpdateAnalyseCache(cacheModel);
+        if (needTrim) {
+            int count = AnalyseCacheTable.trimAnalyseCache(cacheModel.getRulesVersion(), IProxyScanner.analyseCacheSize * DB_CACHE_MULTIPLE);
+            stdout_println(LOG_DEBUG, String.format("[*] trim analyse cache: [%s]", count));
+        }
+    }
+
+    /**
+     * 清空内存缓存
+     */
+    public static void clearMemoryCache() {
+        synchronized (MEMORY_CACHE) {
+            MEMORY_CACHE.clear();
+        }
+    }
+}
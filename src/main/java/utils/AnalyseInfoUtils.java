@@ -25,48 +25,65 @@ public class AnalyseInfoUtils {
      * @return
      */
     public static Set<String> extractInfoWithChunk(String text, String patter, int chunkSize) {
-        Set<String> groups = new HashSet<>();
         try{
-            for (int start = 0; start < text.length(); start += chunkSize) {
-                int end = Math.min(start + chunkSize, text.length());
-                String beFindContentChunk = text.substring(start, end);
-
-                Pattern pattern = Pattern.compile(patter, Pattern.CASE_INSENSITIVE);
-                Matcher matcher = pattern.matcher(beFindContentChunk);
-                while (matcher.find()) {
-                    int groupCount = matcher.groupCount();
-
-                    String group;
-                    // 检查是否有至少一个捕获组
-                    if (groupCount > 0) {
-//                        // 如果有多个捕获组，处理多个捕获组
-//                        List<String> groupList = new ArrayList<>();
-//                        for (int i = 1; i <= groupCount; i++) { groupList.add(matcher.group(i)); }
-//                        group = String.join("|", groupList);
-                        //如果有多个捕获组，仅保留第一个捕获组
-                        group = matcher.group(1);
-                    } else {
-                        // 如果没有捕获组，处理整个匹配
-                        group = matcher.group();
-                        // 处理 group
-                    }
-
-                    //格式化响应
-                    //group = formatSensitiveInfo(group);
-
-                    //响应超过长度时 截断
-                    if (group.length() > RESULT_SIZE)
-                        group = group.substring(0, RESULT_SIZE);
-
-                    //判断group是否存在价值
-                    if (isUsefulValue(formatSensitiveInfo(group)))
-                        groups.add(group);
-                }
-            }
+            Pattern pattern = Pattern.compile(patter, Pattern.CASE_INSENSITIVE);
+            return extractInfoWithChunk(text, pattern.matcher(""), chunkSize, 0);
         } catch (PatternSyntaxException e) {
             stderr_println("[!] 正则表达式语法错误: " + patter);
         } catch (NullPointerException e) {
             stderr_println("[!] 正则表达式传入null: " + patter);
+        }
+        return new HashSet<>();
+    }
+
+    /**
+     * 支持自动分窗口的正则提取文本中的内容 复用传入的预编译Matcher
+     * 相邻窗口重叠 overlap 个字符, 跨越窗口边界的内容不会丢失
+     * 文本为 DeadlineCharSequence 时 超出执行预算会抛出 BudgetExceededException 由调用方处理
+     * @param text
+     * @param matcher
+     * @param chunkSize
+     * @param overlap
+     * @return
+     */
+    public static Set<String> extractInfoWithChunk(CharSequence text, Matcher matcher, int chunkSize, int overlap) {
+        Set<String> groups = new HashSet<>();
+        try{
+            RegularUtils.findInWindows(text, matcher, chunkSize, overlap, windowMatcher -> {
+                // 检查是否有至少一个捕获组 如果有多个捕获组，仅保留第一个捕获组
+                String group = windowMatcher.groupCount() > 0 ? windowMatcher.group(1) : windowMatcher.group();
+                addUsefulGroup(groups, group);
+            });
+        } catch (DeadlineCharSequence.BudgetExceededException e){
+            throw e;
+        } catch (Exception e){
+            stderr_println("[!] 匹配出现其他报错: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            //释放对文本的引用
+            matcher.reset("");
+        }
+        return groups;
+    }
+
+    /**
+     * 使用线性时间的正则引擎提取文本中的内容 匹配耗时与文本长度成线性关系, 不需要分块
+     * 文本为 DeadlineCharSequence 时 超出执行预算会抛出 BudgetExceededException 由调用方处理
+     * @param text
+     * @param pattern
+     * @return
+     */
+    public static Set<String> extractInfoLinear(CharSequence text, com.google.re2j.Pattern pattern) {
+        Set<String> groups = new HashSet<>();
+        try{
+            com.google.re2j.Matcher matcher = pattern.matcher(text);
+            while (matcher.find()) {
+                // 检查是否有至少一个捕获组 如果有多个捕获组，仅保留第一个捕获组
+                String group = matcher.groupCount() > 0 ? matcher.group(1) : matcher.group();
+                addUsefulGroup(groups, group);
+            }
+        } catch (DeadlineCharSequence.BudgetExceededException e){
+            throw e;
         } catch (Exception e){
             stderr_println("[!] 匹配出现其他报错: " + e.getMessage());
             e.printStackTrace();
@@ -74,6 +91,22 @@ public class AnalyseInfoUtils {
         return groups;
     }
 
+    /**
+     * 截断过长的匹配内容 保留有价值的内容
+     */
+    private static void addUsefulGroup(Set<String> groups, String group) {
+        //捕获组未参与匹配时跳过
+        if (group == null) return;
+
+        //响应超过长度时 截断
+        if (group.length() > RESULT_SIZE)
+            group = group.substring(0, RESULT_SIZE);
+
+        //判断group是否存在价值
+        if (isUsefulValue(formatSensitiveInfo(group)))
+            groups.add(group);
+    }
+
 
     /**
      * 判断提取的信息是否是有效的 需要持续更新
@@ -112,33 +145,40 @@ public class AnalyseInfoUtils {
     }
 
     /**
-     * 最新实现的分块正则匹配常规版本
+     * 最新实现的分块正则匹配常规版本 相邻窗口重叠 overlap 个字符
      */
-    public static Set<String> extractUriMode1(String text, Pattern pattern, int chunkSize) {
+    public static Set<String> extractUriMode1(CharSequence text, Pattern pattern, int chunkSize, int overlap) {
         Set<String> matches = new HashSet<>();
-        int textLength = text.length();
-        for (int start = 0; start < textLength; start += chunkSize) {
-            int end = Math.min(start + chunkSize, textLength);
-            String jsChunk = text.substring(start, end);
-            Matcher matcher = pattern.matcher(jsChunk);
+        RegularUtils.findInWindows(text, pattern.matcher(""), chunkSize, overlap, matcher -> addMatchGroups(matcher, matches));
+        return matches;
+    }
 
-            while (matcher.find()) {
-                if (matcher.groupCount() > 0) {
-                    for (int i = 1; i <= matcher.groupCount(); i++) {
-                        String match = matcher.group(i);
-                        if (match != null) { // Check for non-null value before adding
-                            matches.add(match);
-                        }
-                    }
-                } else {
-                    String match = matcher.group();
-                    if (match != null) { // Check for non-null value before adding
-                        matches.add(match);
-                    }
+    /**
+     * 只在词法分析得到的片段内进行分块正则匹配 片段以 [起始位置, 结束位置) 成对保存
+     */
+    public static Set<String> extractUriBySegments(CharSequence text, Pattern pattern, int[] segments, int chunkSize, int overlap) {
+        Set<String> matches = new HashSet<>();
+        RegularUtils.findInSegments(text, pattern.matcher(""), segments, chunkSize, overlap, matcher -> addMatchGroups(matcher, matches));
+        return matches;
+    }
+
+    /**
+     * 保存匹配结果 有分组时保存所有非空分组, 否则保存整个匹配
+     */
+    private static void addMatchGroups(Matcher matcher, Set<String> matches) {
+        if (matcher.groupCount() > 0) {
+            for (int i = 1; i <= matcher.groupCount(); i++) {
+                String match = matcher.group(i);
+                if (match != null) { // Check for non-null value before adding
+                    matches.add(match);
                 }
             }
+        } else {
+            String match = matcher.group();
+            if (match != null) { // Check for non-null value before adding
+                matches.add(match);
+            }
         }
-        return matches;
     }
 
     /**
@@ -223,6 +263,22 @@ public class AnalyseInfoUtils {
      * @return
      */
     public static String concatUrlAddPath(String reqUrl, String path){
+        return concatUrlAddPath(UrlPathResolver.parse(reqUrl), reqUrl, path);
+    }
+
+    /**
+     * 计算URl和路径拼接 使用已解析的基础URL, 无法快速拼接时使用 URI 计算
+     * @param resolver reqUrl 的解析结果 为null时直接使用 URI 计算
+     */
+    private static String concatUrlAddPath(UrlPathResolver resolver, String reqUrl, String path){
+        String newUrl = resolver == null ? null : resolver.resolve(path);
+        return newUrl != null ? newUrl : concatUrlAddPathByUri(reqUrl, path);
+    }
+
+    /**
+     * 使用 URI 计算URl和路径拼接 失败时使用字符串拼接
+     */
+    private static String concatUrlAddPathByUri(String reqUrl, String path){
         String newUrl;
         try {
             //使用当前请求的reqUrl创建URI对象
@@ -250,8 +306,10 @@ public class AnalyseInfoUtils {
      */
     public static List<String> concatUrlAddPath(String reqUrl, List<String> pathList){
         List<String> urlList = new ArrayList<>();
+        //基础URL只解析一次
+        UrlPathResolver resolver = UrlPathResolver.parse(reqUrl);
         for(String path : pathList){
-            String newUrl = concatUrlAddPath(reqUrl, path);
+            String newUrl = concatUrlAddPath(resolver, reqUrl, path);
             if (isNotEmptyObj(newUrl))
                 urlList.add(newUrl);
         }
@@ -0,0 +1,65 @@
+package utils;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * 字节数组的只读视图 只记录起始位置和长度, 不复制数据
+ * 用于响应头和响应体等共享同一个响应数组的部分, 需要独立数组时再调用 toByteArray
+ */
+public final class ByteSlice {
+    public static final ByteSlice EMPTY = new ByteSlice(new byte[0], 0, 0);
+
+    private final byte[] array;
+    private final int offset;
+    private final int length;
+
+    private ByteSlice(byte[] array, int offset, int length) {
+        this.array = array;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * 创建视图 起始位置和长度超出数组范围时截断
+     */
+    public static ByteSlice of(byte[] array, int offset, int length) {
+        if (array == null) return EMPTY;
+        int start = Math.min(Math.max(0, offset), array.length);
+        int end = Math.min(start + Math.max(0, length), array.length);
+        return new ByteSlice(array, start, end - start);
+    }
+
+    /**
+     * 底层数组 只能读取 [offset, offset + length) 范围, 不能修改
+     */
+    public byte[] getArray() {
+        return array;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * 复制为独立的数组 只在接口需要完整数组时使用
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOfRange(array, offset, offset + length);
+    }
+
+    /**
+     * 按指定编码直接从视图范围解码
+     */
+    public String toString(Charset charset) {
+        return new String(array, offset, length, charset);
+    }
+}
@@ -196,7 +196,7 @@ public class CastUtils {
         //0、获取所有rootUrl
         Set<String> rootUrlSet = new HashSet<>();
         for (String url: newUrlList){
-            HttpUrlInfo urlInfo = new HttpUrlInfo(url);
+            HttpUrlInfo urlInfo = UrlInfoCacheUtils.getUrlInfo(url);
             rootUrlSet.add(urlInfo.getRootUrlUsual());
         }
         //1、加入到黑名单列表
@@ -210,7 +210,7 @@ public class CastUtils {
         //0、获取所有rootUrl
         Set<String> rootUrlSet = new HashSet<>();
         for (String url: newUrlList){
-            HttpUrlInfo urlInfo = new HttpUrlInfo(url);
+            HttpUrlInfo urlInfo = UrlInfoCacheUtils.getUrlInfo(url);
             rootUrlSet.add(urlInfo.getRootUrlUsual());
         }
         return new ArrayList<>(rootUrlSet);
@@ -115,6 +115,19 @@ public class ConfigUtils {
         //重新编译正则表达式
         BurpExtender.URI_MATCH_REGULAR_COMPILE = RegularUtils.compileUriMatchRegular(BurpExtender.CONF_REGULAR_EXTRACT_URIS);
 
+        //重新编译指纹规则 整体替换快照,正在进行的匹配不受影响
+        BurpExtender.FINGER_RULES_COMPILE = RuleCompileUtils.compileFingerRules(fingerprintRules);
+
+        //重新编译URL|PATH过滤链
+        BurpExtender.URI_FILTER_COMPILE = UriFilterChain.compile();
+
+        //重新编译RootUrl黑白名单匹配器
+        BurpExtender.WHITE_ROOT_URL_COMPILE = RootUrlMatcher.compile(BurpExtender.CONF_WHITE_ROOT_URL);
+        BurpExtender.BLACK_ROOT_URL_COMPILE = RootUrlMatcher.compile(BurpExtender.CONF_BLACK_ROOT_URL);
+
+        //规则变化后 旧的分析结果缓存不再命中
+        AnalyseCacheUtils.updateRulesVersion(fingerprintRules);
+
         //处理必须有内容的列
 
         //设置默认请求方法
@@ -146,6 +159,58 @@ public class ConfigUtils {
                         BurpExtender.maxPatterChunkSizeDefault = Integer.parseInt(value);
                         stdout_println(LOG_DEBUG, String.format("[+] maxPatterChunkSizeDefault: [%s]", Integer.parseInt(value)));
                         break;
+                    case "maxPatterChunkOverlapDefault":
+                        BurpExtender.maxPatterChunkOverlapDefault = Integer.parseInt(value);
+                        stdout_println(LOG_DEBUG, String.format("[+] maxPatterChunkOverlapDefault: [%s]", Integer.parseInt(value)));
+                        break;
+                    case "regexMatchTimeoutDefault":
+                        BurpExtender.regexMatchTimeoutDefault = Integer.parseInt(value);
+                        stdout_println(LOG_DEBUG, String.format("[+] regexMatchTimeoutDefault: [%s]", Integer.parseInt(value)));
+                        break;
+                    case "regexMatchMaxStepsDefault":
+                        BurpExtender.regexMatchMaxStepsDefault = Long.parseLong(value);
+                        stdout_println(LOG_DEBUG, String.format("[+] regexMatchMaxStepsDefault: [%s]", Long.parseLong(value)));
+                        break;
+                    case "regexMaxStrikesDefault":
+                        BurpExtender.regexMaxStrikesDefault = Integer.parseInt(value);
+                        stdout_println(LOG_DEBUG, String.format("[+] regexMaxStrikesDefault: [%s]", Integer.parseInt(value)));
+                        break;
+                    case "parallelAnalyseThresholdDefault":
+                        BurpExtender.parallelAnalyseThresholdDefault = Integer.parseInt(value);
+                        stdout_println(LOG_DEBUG, String.format("[+] parallelAnalyseThresholdDefault: [%s]", Integer.parseInt(value)));
+                        break;
+                    case "analyseCacheSizeDefault":
+                        BurpExtender.analyseCacheSizeDefault = Integer.parseInt(value);
+                        stdout_println(LOG_DEBUG, String.format("[+] analyseCacheSizeDefault: [%s]", Integer.parseInt(value)));
+                        break;
+                    case "seenUriHostSizeDefault":
+                        BurpExtender.seenUriHostSizeDefault = Integer.parseInt(value);
+                        stdout_println(LOG_DEBUG, String.format("[+] seenUriHostSizeDefault: [%s]", Integer.parseInt(value)));
+                        break;
+                    case "urlInfoCacheSizeDefault":
+                        BurpExtender.urlInfoCacheSizeDefault = Integer.parseInt(value);
+                        stdout_println(LOG_DEBUG, String.format("[+] urlInfoCacheSizeDefault: [%s]", Integer.parseInt(value)));
+                        break;
+                    case "proxyIngestQueueSizeDefault":
+                        BurpExtender.proxyIngestQueueSizeDefault = Integer.parseInt(value);
+                        stdout_println(LOG_DEBUG, String.format("[+] proxyIngestQueueSizeDefault: [%s]", Integer.parseInt(value)));
+                        break;
+                    case "linearRegexEngineDefault":
+                        BurpExtender.linearRegexEngineDefault = Boolean.parseBoolean(value);
+                        stdout_println(LOG_DEBUG, String.format("[+] linearRegexEngineDefault: [%s]", Boolean.parseBoolean(value)));
+                        break;
+                    case "combinedRegexScanDefault":
+                        BurpExtender.combinedRegexScanDefault = Boolean.parseBoolean(value);
+                        stdout_println(LOG_DEBUG, String.format("[+] combinedRegexScanDefault: [%s]", Boolean.parseBoolean(value)));
+                        break;
+                    case "uriLexerExtractDefault":
+                        BurpExtender.uriLexerExtractDefault = Boolean.parseBoolean(value);
+                        stdout_println(LOG_DEBUG, String.format("[+] uriLexerExtractDefault: [%s]", Boolean.parseBoolean(value)));
+                        break;
+                    case "sourceMapExtractDefault":
+                        BurpExtender.sourceMapExtractDefault = Boolean.parseBoolean(value);
+                        stdout_println(LOG_DEBUG, String.format("[+] sourceMapExtractDefault: [%s]", Boolean.parseBoolean(value)));
+                        break;
                     case "maxStoreRespBodyLenDefault":
                         BurpExtender.maxStoreRespBodyLenDefault = Integer.parseInt(value);
                         stdout_println(LOG_DEBUG, String.format("[+] maxStoreRespBodyLenDefault: [%s]", Integer.parseInt(value)));
@@ -0,0 +1,75 @@
+package utils;
+
+/**
+ * 带执行预算的文本包装 用于限制单次正则匹配的耗时
+ * 正则引擎通过 charAt 读取文本, 读取次数即回溯步数, 超过步数或超过截止时间时抛出 BudgetExceededException 中止匹配
+ * 每个对象只在单个线程的单次匹配中使用
+ */
+public class DeadlineCharSequence implements CharSequence {
+    //每读取多少次检查一次时间 避免频繁调用 nanoTime
+    private static final int CHECK_INTERVAL_MASK = 0xFFF;
+
+    private final CharSequence text;
+    private final long deadlineNanos;
+    private final long maxSteps;
+    private final long timeoutMillis;
+    private long steps;
+
+    /**
+     * @param text 原始文本
+     * @param timeoutMillis 最大耗时 小于等于0时不限制
+     * @param maxSteps 最大读取次数 小于等于0时不限制
+     */
+    public DeadlineCharSequence(CharSequence text, long timeoutMillis, long maxSteps) {
+        this.text = text;
+        this.timeoutMillis = timeoutMillis;
+        this.deadlineNanos = timeoutMillis > 0 ? System.nanoTime() + timeoutMillis * 1000000L : 0;
+        this.maxSteps = maxSteps > 0 ? maxSteps : Long.MAX_VALUE;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if ((++steps & CHECK_INTERVAL_MASK) == 0) checkBudget();
+        return text.charAt(index);
+    }
+
+    private void checkBudget() {
+        if (steps > maxSteps) {
+            throw new BudgetExceededException(String.format("steps > %s", maxSteps));
+        }
+        if (deadlineNanos != 0 && System.nanoTime() - deadlineNanos > 0) {
+            throw new BudgetExceededException(String.format("time > %sms (steps %s)", timeoutMillis, steps));
+        }
+    }
+
+    @Override
+    public int length() {
+        return text.length();
+    }
+
+    /**
+     * 提取匹配结果时调用 直接返回原始文本的子串, 不计入预算
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return text.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+
+    public long getSteps() {
+        return steps;
+    }
+
+    /**
+     * 正则匹配超出执行预算
+     */
+    public static class BudgetExceededException extends RuntimeException {
+        public BudgetExceededException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package utils;
+
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 基于 java.util.regex 的规则正则 按窗口分块匹配
+ */
+public class JdkRuleRegex implements RuleRegex {
+    private final Pattern pattern;
+    //每个线程复用的Matcher对象,避免每次匹配都创建
+    private final ThreadLocal<Matcher> threadMatcher;
+
+    public JdkRuleRegex(Pattern pattern) {
+        this.pattern = pattern;
+        this.threadMatcher = ThreadLocal.withInitial(() -> pattern.matcher(""));
+    }
+
+    @Override
+    public String pattern() {
+        return pattern.pattern();
+    }
+
+    @Override
+    public boolean isLinear() {
+        return false;
+    }
+
+    @Override
+    public Set<String> extractInfo(CharSequence text, int chunkSize, int overlap) {
+        return AnalyseInfoUtils.extractInfoWithChunk(text, threadMatcher.get(), chunkSize, overlap);
+    }
+}
@@ -0,0 +1,304 @@
+package utils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 单次遍历JS|HTML文本 输出可能包含URL|PATH的文本片段, 片段以 [起始位置, 结束位置) 成对保存
+ * JS: 输出字符串字面量(包含引号)、模板字符串的文本部分和注释, 跳过代码和正则字面量
+ * HTML: 输出标签、文本和注释, script 标签的内容按JS处理
+ * 注释中常有被注释掉的接口地址 因此整体保留
+ * 只是词法上的近似处理 字符串和正则字面量不会跨行, 识别错误时影响范围限制在一行内
+ */
+public class JsLiteralLexer {
+    //之后出现的 / 是正则字面量的关键字
+    private static final Set<String> REGEX_PREFIX_KEYWORDS = new HashSet<>(Arrays.asList(
+            "return", "typeof", "instanceof", "in", "of", "new", "delete", "void", "throw", "case", "do", "else", "yield", "await"
+    ));
+
+    //模板字符串 ${ 表达式的大括号层级标记
+    private static final int BRACE_CODE = 0;
+    private static final int BRACE_TEMPLATE = 1;
+
+    /**
+     * 提取JS文本中的字符串字面量 模板字符串文本和注释片段
+     */
+    public static int[] lexJs(String text) {
+        Segments segments = new Segments();
+        lexJs(text, 0, text.length(), segments);
+        return segments.toArray();
+    }
+
+    /**
+     * 提取HTML文本中的标签 文本和注释片段, script 标签的内容按JS处理
+     */
+    public static int[] lexHtml(String text) {
+        Segments segments = new Segments();
+        int length = text.length();
+        int textStart = 0;
+        int i = 0;
+        while (i < length) {
+            if (text.charAt(i) != '<' || i + 1 >= length) {
+                i++;
+                continue;
+            }
+
+            char next = text.charAt(i + 1);
+            if (!(isAsciiLetter(next) || next == '/' || next == '!')) {
+                i++;
+                continue;
+            }
+
+            segments.add(textStart, i);
+
+            //注释
+            if (text.startsWith("<!--", i)) {
+                int end = text.indexOf("-->", i + 4);
+                end = end < 0 ? length : end + 3;
+                segments.add(i, end);
+                i = textStart = end;
+                continue;
+            }
+
+            int tagEnd = findTagEnd(text, i + 1, length);
+            segments.add(i, tagEnd);
+
+            //script 标签的内容按JS处理
+            if (regionMatchesTag(text, i + 1, "script") && text.charAt(tagEnd - 1) == '>' && text.charAt(tagEnd - 2) != '/') {
+                int scriptEnd = indexOfIgnoreCase(text, "</script", tagEnd);
+                if (scriptEnd < 0) scriptEnd = length;
+                lexJs(text, tagEnd, scriptEnd, segments);
+                i = textStart = scriptEnd;
+                continue;
+            }
+
+            i = textStart = tagEnd;
+        }
+        segments.add(textStart, length);
+        return segments.toArray();
+    }
+
+    /**
+     * 提取 [from, to) 范围内的JS片段
+     */
+    private static void lexJs(String text, int from, int to, Segments segments) {
+        //当前位置的 / 是否是正则字面量的开始
+        boolean regexAllowed = true;
+        //大括号层级 用于识别模板字符串 ${} 表达式的结束
+        IntStack braces = new IntStack();
+
+        int i = from;
+        while (i < to) {
+            char c = text.charAt(i);
+
+            if (c == '"' || c == '\'') {
+                int end = skipQuoted(text, i, to, c);
+                segments.add(i, end);
+                i = end;
+                regexAllowed = false;
+            } else if (c == '`') {
+                i = lexTemplate(text, i, to, segments, braces);
+                regexAllowed = false;
+            } else if (c == '}' && braces.size() > 0 && braces.peek() == BRACE_TEMPLATE) {
+                //模板字符串 ${} 表达式结束 继续模板字符串的文本部分
+                braces.pop();
+                i = lexTemplate(text, i, to, segments, braces);
+                regexAllowed = false;
+            } else if (c == '/' && i + 1 < to && text.charAt(i + 1) == '/') {
+                int end = indexOfLineEnd(text, i + 2, to);
+                segments.add(i, end);
+                i = end;
+            } else if (c == '/' && i + 1 < to && text.charAt(i + 1) == '*') {
+                int end = text.indexOf("*/", i + 2);
+                end = end < 0 || end + 2 > to ? to : end + 2;
+                segments.add(i, end);
+                i = end;
+            } else if (c == '/') {
+                int end = regexAllowed ? skipRegexLiteral(text, i, to) : -1;
+                //不是正则字面量时作为除号处理
+                i = end < 0 ? i + 1 : end;
+                regexAllowed = end < 0;
+            } else if (isIdentifierStart(c)) {
+                int end = i + 1;
+                while (end < to && isIdentifierPart(text.charAt(end))) end++;
+                regexAllowed = REGEX_PREFIX_KEYWORDS.contains(text.substring(i, end));
+                i = end;
+            } else if (c >= '0' && c <= '9') {
+                i++;
+                while (i < to && (isIdentifierPart(text.charAt(i)) || text.charAt(i) == '.')) i++;
+                regexAllowed = false;
+            } else if (Character.isWhitespace(c)) {
+                i++;
+            } else {
+                if (c == '{') braces.push(BRACE_CODE);
+                else if (c == '}' && braces.size() > 0) braces.pop();
+                regexAllowed = c != ')' && c != ']';
+                i++;
+            }
+        }
+    }
+
+    /**
+     * 从反引号或 ${} 表达式结束的 } 开始提取模板字符串的文本部分, 遇到 ${ 时压入层级并返回表达式的起始位置
+     */
+    private static int lexTemplate(String text, int start, int to, Segments segments, IntStack braces) {
+        int i = start + 1;
+        while (i < to) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '`') {
+                segments.add(start, i + 1);
+                return i + 1;
+            } else if (c == '$' && i + 1 < to && text.charAt(i + 1) == '{') {
+                segments.add(start, i);
+                braces.push(BRACE_TEMPLATE);
+                return i + 2;
+            } else {
+                i++;
+            }
+        }
+        segments.add(start, to);
+        return to;
+    }
+
+    /**
+     * 跳过引号字符串 返回结束引号之后的位置, 字符串不能跨行, 未闭合时返回行尾
+     */
+    private static int skipQuoted(String text, int start, int to, char quote) {
+        int i = start + 1;
+        while (i < to) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                return i + 1;
+            } else if (c == '\n' || c == '\r') {
+                return i;
+            } else {
+                i++;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * 跳过正则字面量 返回标志位之后的位置, 在行内没有闭合时返回-1
+     */
+    private static int skipRegexLiteral(String text, int start, int to) {
+        boolean inClass = false;
+        int i = start + 1;
+        while (i < to) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                return -1;
+            } else if (c == '\\') {
+                i += 2;
+                continue;
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == ']') {
+                inClass = false;
+            } else if (c == '/' && !inClass) {
+                i++;
+                while (i < to && isIdentifierPart(text.charAt(i))) i++;
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * 查找标签结束的 > 之后的位置 忽略引号属性值中的 >
+     */
+    private static int findTagEnd(String text, int start, int length) {
+        char quote = 0;
+        for (int i = start; i < length; i++) {
+            char c = text.charAt(i);
+            if (quote != 0) {
+                if (c == quote) quote = 0;
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i + 1;
+            }
+        }
+        return length;
+    }
+
+    private static boolean regionMatchesTag(String text, int start, String tagName) {
+        int end = start + tagName.length();
+        if (!text.regionMatches(true, start, tagName, 0, tagName.length())) return false;
+        return end >= text.length() || !isIdentifierPart(text.charAt(end));
+    }
+
+    private static int indexOfIgnoreCase(String text, String target, int from) {
+        for (int i = text.indexOf('<', from); i >= 0; i = text.indexOf('<', i + 1)) {
+            if (text.regionMatches(true, i, target, 0, target.length())) return i;
+        }
+        return -1;
+    }
+
+    private static int indexOfLineEnd(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') return i;
+        }
+        return to;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return isAsciiLetter(c) || c == '_' || c == '$' || c > 0x7F;
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isIdentifierStart(c) || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * 成对保存的片段位置 忽略空片段
+     */
+    private static class Segments {
+        private int[] data = new int[64];
+        private int size;
+
+        private void add(int start, int end) {
+            if (end <= start) return;
+            if (size + 2 > data.length) data = Arrays.copyOf(data, data.length * 2);
+            data[size++] = start;
+            data[size++] = end;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+
+    private static class IntStack {
+        private int[] data = new int[16];
+        private int size;
+
+        private void push(int value) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = value;
+        }
+
+        private int pop() {
+            return data[--size];
+        }
+
+        private int peek() {
+            return data[size - 1];
+        }
+
+        private int size() {
+            return size;
+        }
+    }
+}
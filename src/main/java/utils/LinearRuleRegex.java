@@ -0,0 +1,32 @@
+package utils;
+
+import com.google.re2j.Pattern;
+
+import java.util.Set;
+
+/**
+ * 基于 RE2J 的规则正则 使用自动机模拟匹配, 耗时与文本长度成线性关系, 不会出现灾难性回溯
+ * 不支持反向引用、环视、独占量词等需要回溯的语法, 这些正则编译失败时回退到JDK引擎
+ */
+public class LinearRuleRegex implements RuleRegex {
+    private final Pattern pattern;
+
+    public LinearRuleRegex(Pattern pattern) {
+        this.pattern = pattern;
+    }
+
+    @Override
+    public String pattern() {
+        return pattern.pattern();
+    }
+
+    @Override
+    public boolean isLinear() {
+        return true;
+    }
+
+    @Override
+    public Set<String> extractInfo(CharSequence text, int chunkSize, int overlap) {
+        return AnalyseInfoUtils.extractInfoLinear(text, pattern);
+    }
+}
@@ -0,0 +1,82 @@
+package utils;
+
+/**
+ * 开放寻址的 long 集合 线性探测, 不支持删除
+ * 每个元素只占用8字节 适合保存大量字符串的64位哈希, 非线程安全
+ */
+public class LongHashSet {
+    //0 作为空槽位标记 值为0的元素单独记录
+    private static final long EMPTY = 0L;
+    //装载因子上限 1/2
+    private static final int LOAD_FACTOR_SHIFT = 1;
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(8, expectedSize) << LOAD_FACTOR_SHIFT);
+        if (capacity < (expectedSize << LOAD_FACTOR_SHIFT)) capacity <<= 1;
+        table = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * 添加元素 返回集合是否发生变化
+     */
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (hasZero) return false;
+            hasZero = true;
+            size++;
+            return true;
+        }
+
+        int index = indexOf(value);
+        if (table[index] == value) return false;
+        table[index] = value;
+        size++;
+        if ((size << LOAD_FACTOR_SHIFT) > table.length) resize();
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) return hasZero;
+        return table[indexOf(value)] == value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 查找元素所在的槽位 不存在时返回探测到的第一个空槽位
+     */
+    private int indexOf(long value) {
+        int index = (int) mix(value) & mask;
+        while (table[index] != EMPTY && table[index] != value) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void resize() {
+        long[] oldTable = table;
+        table = new long[oldTable.length << 1];
+        mask = table.length - 1;
+        for (long value : oldTable) {
+            if (value != EMPTY) table[indexOf(value)] = value;
+        }
+    }
+
+    /**
+     * 打散哈希值的高低位 避免相近的值聚集在相邻槽位
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,111 @@
+package utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 有界的多生产者单消费者环形队列 生产者只做一次CAS, 队列满时直接返回false不阻塞
+ * 每个槽位记录序号, 生产者写入元素后发布序号, 消费者看到序号后才读取, 不需要加锁
+ * 只允许一个线程调用 poll/take
+ */
+public class MpscRingBuffer<T> {
+    private final int mask;
+    private final AtomicReferenceArray<T> elements;
+    //槽位序号 等于写入位置时可写, 等于写入位置+1时可读
+    private final AtomicLongArray sequences;
+    //下一个写入位置
+    private final AtomicLong tail = new AtomicLong();
+    //下一个读取位置 只有消费者修改
+    private volatile long head = 0;
+
+    //消费者正在等待时 生产者写入后唤醒
+    private volatile Thread waitingConsumer;
+
+    /**
+     * @param capacity 队列容量 向上取整为2的幂
+     */
+    public MpscRingBuffer(int capacity) {
+        int size = 1;
+        while (size < Math.max(capacity, 2)) size <<= 1;
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) sequences.set(i, i);
+    }
+
+    /**
+     * 写入元素 队列已满时返回false
+     */
+    public boolean offer(T element) {
+        if (element == null) throw new NullPointerException();
+
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff < 0) return false;
+            if (diff == 0 && tail.compareAndSet(position, position + 1)) break;
+        }
+        elements.lazySet(index, element);
+        sequences.set(index, position + 1);
+
+        Thread consumer = waitingConsumer;
+        if (consumer != null) LockSupport.unpark(consumer);
+        return true;
+    }
+
+    /**
+     * 读取元素 队列为空时返回null
+     */
+    public T poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) return null;
+
+        T element = elements.get(index);
+        elements.lazySet(index, null);
+        head = position + 1;
+        //释放槽位 供下一圈写入
+        sequences.set(index, position + mask + 1);
+        return element;
+    }
+
+    /**
+     * 读取元素 队列为空时等待, 超时返回null
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        T element = poll();
+        if (element != null) return element;
+
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        waitingConsumer = Thread.currentThread();
+        try {
+            while (true) {
+                //登记等待后重新检查 避免错过登记前写入的元素
+                element = poll();
+                if (element != null) return element;
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) return null;
+                LockSupport.parkNanos(this, remaining);
+                if (Thread.interrupted()) throw new InterruptedException();
+            }
+        } finally {
+            waitingConsumer = null;
+        }
+    }
+
+    public int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
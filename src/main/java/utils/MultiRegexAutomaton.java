@@ -0,0 +1,907 @@
+package utils;
+
+import java.util.*;
+import java.util.function.IntPredicate;
+
+/**
+ * 同一位置所有规则正则合并后的自动机 扫描一次文本即可得到可能命中的正则
+ * 每个正则编译为 Thompson NFA, 匹配状态带有正则序号, 扫描时按需生成 DFA 状态(惰性DFA), 每个字符只需一次查表
+ * 环视、反向引用等无法用自动机表示的语法按更宽松的语法处理, 扫描结果是实际命中正则的超集, 不会漏报
+ * 文本按 UTF-16 字符扫描, 原引擎按码点匹配: 可能匹配增补字符的字符类同时接受一个代理对, 注释模式(?x)的正则不参与合并
+ * 命中的正则再由原引擎提取捕获组, 没有命中的正则直接跳过
+ */
+public class MultiRegexAutomaton {
+    //计数重复展开的最大次数 超过时按无限重复处理
+    private static final int MAX_REPEAT_COPIES = 16;
+    //单个正则的最大NFA状态数 超过时该正则不参与合并, 总是视为命中
+    private static final int MAX_NFA_STATES_PER_REGEX = 5000;
+    //每个线程缓存的最大DFA状态数 超过时清空缓存
+    private static final int MAX_DFA_STATES = 2048;
+    //两次清空缓存之间扫描的字符数少于该倍数的状态数时 认为DFA效率过低, 放弃扫描
+    private static final int MIN_CHARS_PER_STATE = 8;
+
+    private static final int TYPE_CHAR = 0;
+    private static final int TYPE_SPLIT = 1;
+    private static final int TYPE_EMPTY = 2;
+    private static final int TYPE_MATCH = 3;
+
+    //正则 -> 序号
+    private final Map<String, Integer> regexIndexMap = new HashMap<>();
+    //无法合并的正则序号 总是视为命中
+    private final BitSet unsupported = new BitSet();
+    private final int regexCount;
+
+    //NFA 状态
+    private int stateCount = 0;
+    private int[] stateTypes = new int[64];
+    private int[] stateOut = new int[64];
+    private int[] stateOut1 = new int[64];
+    //字符状态的判断条件 匹配状态的正则序号
+    private final List<IntPredicate> predicates = new ArrayList<>(Arrays.asList(c -> Character.isHighSurrogate((char) c), c -> Character.isLowSurrogate((char) c)));
+    private static final int HIGH_SURROGATE_PREDICATE = 0;
+    private static final int LOW_SURROGATE_PREDICATE = 1;
+    private int[] statePredicate = new int[64];
+    private int[] stateSlot = new int[64];
+    //所有正则的起始状态
+    private final int[] startStates;
+
+    //每个线程独立的DFA缓存
+    private final ThreadLocal<DfaCache> threadCache = ThreadLocal.withInitial(DfaCache::new);
+
+    public MultiRegexAutomaton(Collection<String> regexes) {
+        List<Integer> starts = new ArrayList<>();
+        for (String regex : regexes) {
+            if (regex == null || regexIndexMap.containsKey(regex)) continue;
+            int slot = regexIndexMap.size();
+            regexIndexMap.put(regex, slot);
+
+            int savedStateCount = stateCount;
+            int savedPredicateCount = predicates.size();
+            try {
+                Node node = new Parser(regex).parse();
+                Fragment fragment = compile(node, savedStateCount);
+                int match = addState(TYPE_MATCH, -1, -1, -1, slot);
+                setOut(fragment.end, match);
+                starts.add(fragment.start);
+            } catch (RuntimeException e) {
+                //语法无法解析或状态过多 回滚已生成的状态
+                stateCount = savedStateCount;
+                while (predicates.size() > savedPredicateCount) predicates.remove(predicates.size() - 1);
+                unsupported.set(slot);
+            }
+        }
+
+        this.regexCount = regexIndexMap.size();
+        this.startStates = new int[starts.size()];
+        for (int i = 0; i < starts.size(); i++) startStates[i] = starts.get(i);
+    }
+
+    /**
+     * 扫描文本 返回可能命中的正则序号集合, DFA效率过低放弃扫描时返回null
+     */
+    public BitSet scan(CharSequence text) {
+        BitSet hits = new BitSet();
+        if (startStates.length == 0) return hits;
+
+        DfaCache cache = threadCache.get();
+        DState state = cache.getStart();
+        int supportedCount = startStates.length;
+        int hitCount = recordAccepts(state, hits, 0);
+
+        int length = text.length();
+        int segmentStart = 0;
+        int i = 0;
+        for (; i < length && hitCount < supportedCount; i++) {
+            char c = foldCase(text.charAt(i));
+            DState next = c < 128 ? state.asciiNext[c] : (state.otherNext == null ? null : state.otherNext.get(c));
+            if (next == null) {
+                if (cache.size() >= MAX_DFA_STATES) {
+                    //状态过多 清空缓存后从当前状态继续, 上次清空后扫描的字符过少时放弃
+                    cache.scannedSinceReset += i - segmentStart;
+                    segmentStart = i;
+                    if (cache.scannedSinceReset < (long) MAX_DFA_STATES * MIN_CHARS_PER_STATE) return null;
+                    state = cache.reset(state);
+                }
+                next = cache.step(state, c);
+            }
+            state = next;
+            if (state.accepts.length > 0) hitCount = recordAccepts(state, hits, hitCount);
+        }
+        cache.scannedSinceReset += i - segmentStart;
+        return hits;
+    }
+
+    private static int recordAccepts(DState state, BitSet hits, int hitCount) {
+        for (int slot : state.accepts) {
+            if (!hits.get(slot)) {
+                hits.set(slot);
+                hitCount++;
+            }
+        }
+        return hitCount;
+    }
+
+    /**
+     * 判断正则是否可能命中 扫描被放弃、正则未参与合并或不在自动机中时返回true
+     */
+    public boolean isHit(BitSet hits, String regex) {
+        if (hits == null) return true;
+        Integer slot = regexIndexMap.get(regex);
+        if (slot == null || unsupported.get(slot)) return true;
+        return hits.get(slot);
+    }
+
+    public int getRegexCount() {
+        return regexCount;
+    }
+
+    /**
+     * 参与合并的正则数量
+     */
+    public int getSupportedCount() {
+        return regexCount - unsupported.cardinality();
+    }
+
+    /**
+     * 与 CASE_INSENSITIVE 一致 只转换ASCII字母
+     */
+    private static char foldCase(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + 32) : c;
+    }
+
+    // ---------------- NFA 构建 ----------------
+
+    private int addState(int type, int out, int out1, int predicate, int slot) {
+        if (stateCount == stateTypes.length) {
+            int newLength = stateTypes.length * 2;
+            stateTypes = Arrays.copyOf(stateTypes, newLength);
+            stateOut = Arrays.copyOf(stateOut, newLength);
+            stateOut1 = Arrays.copyOf(stateOut1, newLength);
+            statePredicate = Arrays.copyOf(statePredicate, newLength);
+            stateSlot = Arrays.copyOf(stateSlot, newLength);
+        }
+        stateTypes[stateCount] = type;
+        stateOut[stateCount] = out;
+        stateOut1[stateCount] = out1;
+        statePredicate[stateCount] = predicate;
+        stateSlot[stateCount] = slot;
+        return stateCount++;
+    }
+
+    private void setOut(int state, int out) {
+        stateOut[state] = out;
+    }
+
+    private Fragment compile(Node node, int baseStateCount) {
+        if (stateCount - baseStateCount > MAX_NFA_STATES_PER_REGEX) {
+            throw new IllegalStateException("too many states");
+        }
+
+        if (node instanceof CharNode) {
+            //匹配时文本已转为小写 判断条件同时检查大小写变体
+            IntPredicate predicate = ((CharNode) node).predicate;
+            predicates.add(c -> predicate.test(c) || predicate.test(Character.toUpperCase(c)) || predicate.test(Character.toLowerCase(c)));
+            int end = addState(TYPE_EMPTY, -1, -1, -1, -1);
+            int start = addState(TYPE_CHAR, end, -1, predicates.size() - 1, -1);
+            if (!((CharNode) node).supplementary) return new Fragment(start, end);
+
+            //原引擎中一个增补字符只占一个位置 同时接受完整的代理对
+            int low = addState(TYPE_CHAR, end, -1, LOW_SURROGATE_PREDICATE, -1);
+            int high = addState(TYPE_CHAR, low, -1, HIGH_SURROGATE_PREDICATE, -1);
+            return new Fragment(addState(TYPE_SPLIT, start, high, -1, -1), end);
+        }
+
+        if (node instanceof ConcatNode) {
+            List<Node> items = ((ConcatNode) node).items;
+            if (items.isEmpty()) return emptyFragment();
+            Fragment fragment = compile(items.get(0), baseStateCount);
+            for (int i = 1; i < items.size(); i++) {
+                Fragment next = compile(items.get(i), baseStateCount);
+                setOut(fragment.end, next.start);
+                fragment = new Fragment(fragment.start, next.end);
+            }
+            return fragment;
+        }
+
+        if (node instanceof AltNode) {
+            List<Node> branches = ((AltNode) node).branches;
+            int end = addState(TYPE_EMPTY, -1, -1, -1, -1);
+            Fragment first = compile(branches.get(0), baseStateCount);
+            setOut(first.end, end);
+            int start = first.start;
+            for (int i = 1; i < branches.size(); i++) {
+                Fragment branch = compile(branches.get(i), baseStateCount);
+                setOut(branch.end, end);
+                start = addState(TYPE_SPLIT, start, branch.start, -1, -1);
+            }
+            return new Fragment(start, end);
+        }
+
+        if (node instanceof RepeatNode) {
+            RepeatNode repeat = (RepeatNode) node;
+            int min = Math.min(repeat.min, MAX_REPEAT_COPIES);
+            //重复次数过多时按无限重复处理 匹配范围只会更宽
+            int max = (repeat.max < 0 || repeat.max > MAX_REPEAT_COPIES || repeat.min > MAX_REPEAT_COPIES) ? -1 : repeat.max;
+
+            Fragment fragment = emptyFragment();
+            for (int i = 0; i < min; i++) {
+                Fragment copy = compile(repeat.node, baseStateCount);
+                setOut(fragment.end, copy.start);
+                fragment = new Fragment(fragment.start, copy.end);
+            }
+
+            if (max < 0) {
+                //无限重复 x*
+                Fragment copy = compile(repeat.node, baseStateCount);
+                int end = addState(TYPE_EMPTY, -1, -1, -1, -1);
+                int split = addState(TYPE_SPLIT, copy.start, end, -1, -1);
+                setOut(copy.end, split);
+                setOut(fragment.end, split);
+                return new Fragment(fragment.start, end);
+            }
+
+            //可选重复 x?x?...
+            int end = addState(TYPE_EMPTY, -1, -1, -1, -1);
+            for (int i = min; i < max; i++) {
+                Fragment copy = compile(repeat.node, baseStateCount);
+                int split = addState(TYPE_SPLIT, copy.start, end, -1, -1);
+                setOut(fragment.end, split);
+                fragment = new Fragment(fragment.start, copy.end);
+            }
+            setOut(fragment.end, end);
+            return new Fragment(fragment.start, end);
+        }
+
+        return emptyFragment();
+    }
+
+    private Fragment emptyFragment() {
+        int state = addState(TYPE_EMPTY, -1, -1, -1, -1);
+        return new Fragment(state, state);
+    }
+
+    private static class Fragment {
+        private final int start;
+        private final int end;
+
+        private Fragment(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    // ---------------- 惰性 DFA ----------------
+
+    /**
+     * DFA 状态 对应一组NFA字符状态和匹配状态
+     */
+    private static class DState {
+        private final int[] nfaStates;
+        private final int[] accepts;
+        private final DState[] asciiNext = new DState[128];
+        private Map<Character, DState> otherNext;
+
+        private DState(int[] nfaStates, int[] accepts) {
+            this.nfaStates = nfaStates;
+            this.accepts = accepts;
+        }
+    }
+
+    private class DfaCache {
+        private final Map<StateKey, DState> states = new HashMap<>();
+        private int[] marks = new int[0];
+        private int markGeneration = 0;
+        private int[] stack = new int[64];
+        private int[] buffer = new int[64];
+        private DState start;
+        //上次清空缓存后扫描的字符数
+        private long scannedSinceReset = 0;
+
+        private int size() {
+            return states.size();
+        }
+
+        private DState getStart() {
+            if (start == null) start = intern(closure(new int[0], 0, -1));
+            return start;
+        }
+
+        /**
+         * 清空缓存 保留当前状态
+         */
+        private DState reset(DState current) {
+            states.clear();
+            scannedSinceReset = 0;
+            start = null;
+            DState state = new DState(current.nfaStates, current.accepts);
+            states.put(new StateKey(state.nfaStates), state);
+            return state;
+        }
+
+        private DState step(DState state, char c) {
+            DState next = intern(closure(state.nfaStates, state.nfaStates.length, c));
+            if (c < 128) {
+                state.asciiNext[c] = next;
+            } else {
+                if (state.otherNext == null) state.otherNext = new HashMap<>();
+                state.otherNext.put(c, next);
+            }
+            return next;
+        }
+
+        /**
+         * 对当前状态集合中能接受字符c的状态转移, 加上所有正则的起始状态, 求 epsilon 闭包
+         * c 小于0时只求起始状态的闭包
+         */
+        private int[] closure(int[] current, int currentLength, int c) {
+            if (marks.length < stateCount) marks = new int[stateCount];
+            if (++markGeneration == Integer.MAX_VALUE) {
+                Arrays.fill(marks, 0);
+                markGeneration = 1;
+            }
+            int size = 0;
+            int top = 0;
+
+            //任意位置都可以开始匹配
+            for (int startState : startStates) top = push(top, startState);
+            if (c >= 0) {
+                for (int i = 0; i < currentLength; i++) {
+                    int nfaState = current[i];
+                    if (stateTypes[nfaState] == TYPE_CHAR && predicates.get(statePredicate[nfaState]).test(c)) {
+                        top = push(top, stateOut[nfaState]);
+                    }
+                }
+            }
+
+            while (top > 0) {
+                int nfaState = stack[--top];
+                if (nfaState < 0 || marks[nfaState] == markGeneration) continue;
+                marks[nfaState] = markGeneration;
+                switch (stateTypes[nfaState]) {
+                    case TYPE_SPLIT:
+                        top = push(top, stateOut1[nfaState]);
+                        top = push(top, stateOut[nfaState]);
+                        break;
+                    case TYPE_EMPTY:
+                        top = push(top, stateOut[nfaState]);
+                        break;
+                    default:
+                        if (size == buffer.length) buffer = Arrays.copyOf(buffer, size * 2);
+                        buffer[size++] = nfaState;
+                        break;
+                }
+            }
+
+            int[] result = Arrays.copyOf(buffer, size);
+            Arrays.sort(result);
+            return result;
+        }
+
+        private int push(int top, int nfaState) {
+            if (top == stack.length) stack = Arrays.copyOf(stack, top * 2);
+            stack[top] = nfaState;
+            return top + 1;
+        }
+
+        private DState intern(int[] nfaStates) {
+            StateKey key = new StateKey(nfaStates);
+            DState state = states.get(key);
+            if (state != null) return state;
+
+            int acceptCount = 0;
+            for (int nfaState : nfaStates) {
+                if (stateTypes[nfaState] == TYPE_MATCH) acceptCount++;
+            }
+            int[] accepts = new int[acceptCount];
+            int index = 0;
+            for (int nfaState : nfaStates) {
+                if (stateTypes[nfaState] == TYPE_MATCH) accepts[index++] = stateSlot[nfaState];
+            }
+
+            state = new DState(nfaStates, accepts);
+            states.put(key, state);
+            return state;
+        }
+    }
+
+    private static class StateKey {
+        private final int[] nfaStates;
+        private final int hash;
+
+        private StateKey(int[] nfaStates) {
+            this.nfaStates = nfaStates;
+            this.hash = Arrays.hashCode(nfaStates);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof StateKey && Arrays.equals(nfaStates, ((StateKey) o).nfaStates);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // ---------------- 正则语法解析 ----------------
+
+    private interface Node {
+    }
+
+    private static class CharNode implements Node {
+        private final IntPredicate predicate;
+        //原语法可能匹配增补字符 需要同时接受代理对
+        private final boolean supplementary;
+
+        private CharNode(IntPredicate predicate) {
+            this(predicate, false);
+        }
+
+        private CharNode(IntPredicate predicate, boolean supplementary) {
+            this.predicate = predicate;
+            this.supplementary = supplementary;
+        }
+
+        private CharNode(ClassItem item) {
+            this(item.predicate, item.supplementary);
+        }
+    }
+
+    private static class ConcatNode implements Node {
+        private final List<Node> items;
+
+        private ConcatNode(List<Node> items) {
+            this.items = items;
+        }
+    }
+
+    private static class AltNode implements Node {
+        private final List<Node> branches;
+
+        private AltNode(List<Node> branches) {
+            this.branches = branches;
+        }
+    }
+
+    private static class RepeatNode implements Node {
+        private final Node node;
+        private final int min;
+        private final int max;
+
+        private RepeatNode(Node node, int min, int max) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+        }
+    }
+
+    private static final IntPredicate ANY = c -> true;
+    private static final IntPredicate DIGIT = c -> c >= '0' && c <= '9';
+    private static final IntPredicate WORD = c -> (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    private static final IntPredicate SPACE = c -> c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    private static final Node EMPTY = new ConcatNode(Collections.emptyList());
+    private static final Node ANY_STRING = new RepeatNode(new CharNode(ANY, true), 0, -1);
+
+    /**
+     * 将 java.util.regex 语法解析为语法树 无法精确表示的结构按更宽松的语法处理
+     * 环视、单词边界、行首行尾等零宽断言视为空, 反向引用视为任意字符串, Unicode属性视为任意字符
+     */
+    private static class Parser {
+        private final String regex;
+        private int pos = 0;
+        private boolean dotAll;
+
+        private Parser(String regex) {
+            this.regex = regex;
+            //内联开启 DOTALL 时 . 可以匹配换行
+            this.dotAll = regex.matches("(?s).*\\(\\?[a-zA-Z-]*s.*");
+        }
+
+        private Node parse() {
+            Node node = parseAlt();
+            if (pos < regex.length()) throw new IllegalArgumentException("unexpected ) at " + pos);
+            return node;
+        }
+
+        private Node parseAlt() {
+            List<Node> branches = new ArrayList<>();
+            branches.add(parseConcat());
+            while (pos < regex.length() && regex.charAt(pos) == '|') {
+                pos++;
+                branches.add(parseConcat());
+            }
+            return branches.size() == 1 ? branches.get(0) : new AltNode(branches);
+        }
+
+        private Node parseConcat() {
+            List<Node> items = new ArrayList<>();
+            while (pos < regex.length()) {
+                char c = regex.charAt(pos);
+                if (c == '|' || c == ')') break;
+                items.add(parseRepeat());
+            }
+            return items.size() == 1 ? items.get(0) : new ConcatNode(items);
+        }
+
+        private Node parseRepeat() {
+            Node node = parseAtom();
+            while (pos < regex.length()) {
+                char c = regex.charAt(pos);
+                int min;
+                int max;
+                if (c == '*') {
+                    min = 0;
+                    max = -1;
+                    pos++;
+                } else if (c == '+') {
+                    min = 1;
+                    max = -1;
+                    pos++;
+                } else if (c == '?') {
+                    min = 0;
+                    max = 1;
+                    pos++;
+                } else if (c == '{' && isRepeatBrace()) {
+                    int close = regex.indexOf('}', pos);
+                    String[] bounds = regex.substring(pos + 1, close).split(",", -1);
+                    min = Integer.parseInt(bounds[0].trim());
+                    max = bounds.length == 1 ? min : (bounds[1].trim().isEmpty() ? -1 : Integer.parseInt(bounds[1].trim()));
+                    pos = close + 1;
+                } else {
+                    break;
+                }
+                //懒惰和独占量词匹配的字符串范围不会超过贪婪量词
+                if (pos < regex.length() && (regex.charAt(pos) == '?' || regex.charAt(pos) == '+')) pos++;
+                node = new RepeatNode(node, min, max);
+            }
+            return node;
+        }
+
+        private boolean isRepeatBrace() {
+            int close = regex.indexOf('}', pos);
+            return close > 0 && regex.substring(pos + 1, close).matches("\\s*\\d+\\s*(,\\s*\\d*\\s*)?");
+        }
+
+        private Node parseAtom() {
+            char c = regex.charAt(pos);
+            switch (c) {
+                case '(':
+                    return parseGroup();
+                case '[':
+                    pos++;
+                    return new CharNode(parseClass());
+                case '.':
+                    pos++;
+                    return new CharNode(dotAll ? ANY : ch -> ch != '\n', true);
+                case '^':
+                case '$':
+                    pos++;
+                    return EMPTY;
+                case '\\':
+                    pos++;
+                    return parseEscape();
+                default:
+                    pos++;
+                    //增补字符的代理对作为一个整体 量词作用于完整字符
+                    if (Character.isHighSurrogate(c) && pos < regex.length() && Character.isLowSurrogate(regex.charAt(pos))) {
+                        return surrogatePair(c, regex.charAt(pos++));
+                    }
+                    return literal(c);
+            }
+        }
+
+        private Node surrogatePair(char high, char low) {
+            return new ConcatNode(Arrays.asList(literal(high), literal(low)));
+        }
+
+        private Node parseGroup() {
+            pos++;
+            boolean discard = false;
+            if (regex.startsWith("?", pos)) {
+                if (regex.startsWith("?:", pos) || regex.startsWith("?>", pos)) {
+                    pos += 2;
+                } else if (regex.startsWith("?=", pos) || regex.startsWith("?!", pos)) {
+                    pos += 2;
+                    discard = true;
+                } else if (regex.startsWith("?<=", pos) || regex.startsWith("?<!", pos)) {
+                    pos += 3;
+                    discard = true;
+                } else if (regex.startsWith("?<", pos)) {
+                    //命名捕获组
+                    pos = regex.indexOf('>', pos) + 1;
+                    if (pos == 0) throw new IllegalArgumentException("bad named group");
+                } else {
+                    //内联标记 (?i) (?i:...)
+                    pos++;
+                    boolean enable = true;
+                    while (pos < regex.length() && (Character.isLetter(regex.charAt(pos)) || regex.charAt(pos) == '-')) {
+                        char flag = regex.charAt(pos++);
+                        if (flag == '-') enable = false;
+                        //注释模式中空白和#注释不是字面量 不参与合并
+                        if (flag == 'x' && enable) throw new IllegalArgumentException("comments mode");
+                    }
+                    if (pos >= regex.length()) throw new IllegalArgumentException("bad flags");
+                    if (regex.charAt(pos) == ')') {
+                        pos++;
+                        return EMPTY;
+                    }
+                    if (regex.charAt(pos) != ':') throw new IllegalArgumentException("bad flags");
+                    pos++;
+                }
+            }
+
+            Node node = parseAlt();
+            if (pos >= regex.length() || regex.charAt(pos) != ')') throw new IllegalArgumentException("missing )");
+            pos++;
+            //环视是零宽断言 视为总是成立
+            return discard ? EMPTY : node;
+        }
+
+        private Node parseEscape() {
+            if (pos >= regex.length()) throw new IllegalArgumentException("trailing \\");
+            char c = regex.charAt(pos++);
+            switch (c) {
+                case 'b':
+                case 'B':
+                case 'A':
+                case 'z':
+                case 'Z':
+                case 'G':
+                    return EMPTY;
+                case 'Q':
+                    int end = regex.indexOf("\\E", pos);
+                    String quoted = end < 0 ? regex.substring(pos) : regex.substring(pos, end);
+                    pos = end < 0 ? regex.length() : end + 2;
+                    List<Node> items = new ArrayList<>();
+                    for (char q : quoted.toCharArray()) items.add(literal(q));
+                    return new ConcatNode(items);
+                case 'k':
+                    pos = regex.indexOf('>', pos) + 1;
+                    if (pos == 0) throw new IllegalArgumentException("bad backreference");
+                    return ANY_STRING;
+                case 'R':
+                    return new RepeatNode(new CharNode(ANY, true), 1, 2);
+                case 'X':
+                    return new RepeatNode(new CharNode(ANY, true), 1, -1);
+                case 'x':
+                    //增补字符 \x{1F600} 匹配完整的代理对
+                    if (regex.startsWith("{", pos)) {
+                        int close = regex.indexOf('}', pos);
+                        int codePoint = Integer.parseInt(regex.substring(pos + 1, close), 16);
+                        if (Character.isSupplementaryCodePoint(codePoint)) {
+                            pos = close + 1;
+                            return surrogatePair(Character.highSurrogate(codePoint), Character.lowSurrogate(codePoint));
+                        }
+                    }
+                    return new CharNode(escapeItem(c));
+                case 'u':
+                    //连续的高低代理转义 在原引擎中是一个增补字符
+                    ClassItem unicode = escapeItem(c);
+                    if (Character.isHighSurrogate(unicode.single) && regex.startsWith("\\u", pos)) {
+                        int saved = pos;
+                        pos += 2;
+                        ClassItem next = escapeItem('u');
+                        if (Character.isLowSurrogate(next.single)) return surrogatePair(unicode.single, next.single);
+                        pos = saved;
+                    }
+                    return new CharNode(unicode);
+                default:
+                    if (c >= '1' && c <= '9') {
+                        //反向引用 视为任意字符串
+                        while (pos < regex.length() && Character.isDigit(regex.charAt(pos))) pos++;
+                        return ANY_STRING;
+                    }
+                    return new CharNode(escapeItem(c));
+            }
+        }
+
+        /**
+         * 解析转义字符 pos 指向转义字母之后
+         */
+        private ClassItem escapeItem(char c) {
+            switch (c) {
+                case 'd':
+                    return new ClassItem(DIGIT, true);
+                case 'D':
+                    return new ClassItem(DIGIT.negate(), true, true);
+                case 'w':
+                    return new ClassItem(WORD, true);
+                case 'W':
+                    return new ClassItem(WORD.negate(), true, true);
+                case 's':
+                    return new ClassItem(SPACE, true);
+                case 'S':
+                    return new ClassItem(SPACE.negate(), true, true);
+                case 't':
+                    return charItem('\t');
+                case 'n':
+                    return charItem('\n');
+                case 'r':
+                    return charItem('\r');
+                case 'f':
+                    return charItem('\f');
+                case 'a':
+                    return charItem('\u0007');
+                case 'e':
+                    return charItem('\u001B');
+                case 'c':
+                    return charItem((char) (regex.charAt(pos++) ^ 64));
+                case 'x':
+                    if (regex.startsWith("{", pos)) {
+                        int close = regex.indexOf('}', pos);
+                        int codePoint = Integer.parseInt(regex.substring(pos + 1, close), 16);
+                        pos = close + 1;
+                        return codePoint > 0xFFFF ? new ClassItem(ANY, false, true) : charItem((char) codePoint);
+                    }
+                    char hex = (char) Integer.parseInt(regex.substring(pos, pos + 2), 16);
+                    pos += 2;
+                    return charItem(hex);
+                case 'u':
+                    char unicode = (char) Integer.parseInt(regex.substring(pos, pos + 4), 16);
+                    pos += 4;
+                    return charItem(unicode);
+                case '0':
+                    int value = 0;
+                    int digits = 0;
+                    while (digits < 3 && pos < regex.length() && regex.charAt(pos) >= '0' && regex.charAt(pos) <= '7') {
+                        value = value * 8 + (regex.charAt(pos++) - '0');
+                        digits++;
+                    }
+                    return charItem((char) value);
+                case 'p':
+                case 'P':
+                    //Unicode属性 视为任意字符
+                    if (regex.startsWith("{", pos)) {
+                        pos = regex.indexOf('}', pos) + 1;
+                        if (pos == 0) throw new IllegalArgumentException("bad property");
+                    } else {
+                        pos++;
+                    }
+                    return new ClassItem(ANY, false, true);
+                case 'h':
+                case 'H':
+                case 'v':
+                case 'V':
+                    return new ClassItem(ANY, false, true);
+                default:
+                    if (Character.isLetter(c)) return new ClassItem(ANY, false, true);
+                    return charItem(c);
+            }
+        }
+
+        /**
+         * 解析字符类 pos 指向 [ 之后
+         */
+        private ClassItem parseClass() {
+            boolean negated = false;
+            if (pos < regex.length() && regex.charAt(pos) == '^') {
+                negated = true;
+                pos++;
+            }
+
+            List<IntPredicate> members = new ArrayList<>();
+            boolean exact = true;
+            //包含代理字符或可能匹配增补字符的成员
+            boolean supplementary = false;
+            boolean first = true;
+            while (true) {
+                if (pos >= regex.length()) throw new IllegalArgumentException("missing ]");
+                char c = regex.charAt(pos);
+                if (c == ']' && !first) {
+                    pos++;
+                    break;
+                }
+                first = false;
+
+                if (c == '[') {
+                    pos++;
+                    ClassItem nested = parseClass();
+                    members.add(nested.predicate);
+                    exact &= nested.exact;
+                    supplementary |= nested.supplementary;
+                    continue;
+                }
+                if (c == '&' && regex.startsWith("&&", pos)) {
+                    //交集 按并集处理
+                    pos += 2;
+                    exact = false;
+                    continue;
+                }
+
+                ClassItem item;
+                Character single = null;
+                if (c == '\\') {
+                    pos++;
+                    char escaped = regex.charAt(pos++);
+                    if (escaped == 'Q') {
+                        int end = regex.indexOf("\\E", pos);
+                        String quoted = end < 0 ? regex.substring(pos) : regex.substring(pos, end);
+                        pos = end < 0 ? regex.length() : end + 2;
+                        for (char q : quoted.toCharArray()) {
+                            members.add(charItem(q).predicate);
+                            supplementary |= Character.isSurrogate(q);
+                        }
+                        continue;
+                    }
+                    item = escapeItem(escaped);
+                    single = item.single;
+                } else {
+                    pos++;
+                    item = charItem(c);
+                    single = c;
+                }
+
+                //字符范围 a-z
+                if (single != null && pos + 1 < regex.length() && regex.charAt(pos) == '-' && regex.charAt(pos + 1) != ']') {
+                    pos++;
+                    char high;
+                    if (regex.charAt(pos) == '\\') {
+                        pos++;
+                        ClassItem highItem = escapeItem(regex.charAt(pos++));
+                        if (highItem.single == null) throw new IllegalArgumentException("bad range");
+                        high = highItem.single;
+                    } else {
+                        high = regex.charAt(pos++);
+                    }
+                    char low = single;
+                    members.add(ch -> ch >= low && ch <= high);
+                    supplementary |= low <= Character.MAX_SURROGATE && high >= Character.MIN_SURROGATE;
+                    continue;
+                }
+
+                members.add(item.predicate);
+                exact &= item.exact;
+                supplementary |= item.supplementary || (single != null && Character.isSurrogate(single));
+            }
+
+            IntPredicate union = ch -> {
+                for (IntPredicate member : members) {
+                    if (member.test(ch)) return true;
+                }
+                return false;
+            };
+            if (!negated) return new ClassItem(union, exact, supplementary);
+            //不精确的集合取反后会漏报 视为任意字符
+            return exact ? new ClassItem(union.negate(), true, true) : new ClassItem(ANY, false, true);
+        }
+
+        private Node literal(char c) {
+            return new CharNode(charItem(c).predicate);
+        }
+
+        private static ClassItem charItem(char c) {
+            return new ClassItem(ch -> ch == c, true, c);
+        }
+    }
+
+    /**
+     * 字符类的组成部分 exact 表示是否精确表示原语法
+     */
+    private static class ClassItem {
+        private final IntPredicate predicate;
+        private final boolean exact;
+        private final Character single;
+        //可能匹配增补字符
+        private final boolean supplementary;
+
+        private ClassItem(IntPredicate predicate, boolean exact) {
+            this(predicate, exact, false);
+        }
+
+        private ClassItem(IntPredicate predicate, boolean exact, boolean supplementary) {
+            this(predicate, exact, null, supplementary);
+        }
+
+        private ClassItem(IntPredicate predicate, boolean exact, Character single) {
+            this(predicate, exact, single, false);
+        }
+
+        private ClassItem(IntPredicate predicate, boolean exact, Character single, boolean supplementary) {
+            this.predicate = predicate;
+            this.exact = exact;
+            this.single = single;
+            this.supplementary = supplementary;
+        }
+    }
+}
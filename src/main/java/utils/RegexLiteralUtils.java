@@ -0,0 +1,425 @@
+package utils;
+
+import java.util.*;
+
+/**
+ * 正则必需字面量分析 用于在执行正则前快速判断文本是否可能命中
+ * 返回的字面量集合满足: 正则的任意一次匹配内容中, 至少包含集合中的一个字面量
+ * 字面量按 ASCII 忽略大小写格式化(与 Pattern.CASE_INSENSITIVE 一致), 无法分析时返回null表示必须执行正则
+ */
+public class RegexLiteralUtils {
+    //精确字符串集合的最大数量
+    private static final int MAX_EXACT_SIZE = 16;
+    //必需字面量集合的最大数量
+    private static final int MAX_REQUIRED_SIZE = 64;
+    //字符类最多展开的字符数量
+    private static final int MAX_CLASS_SIZE = 4;
+
+    /**
+     * 提取正则的必需字面量集合, 没有可用字面量或正则语法不支持分析时返回null
+     */
+    public static List<String> extractRequiredLiterals(String regex) {
+        if (regex == null || regex.isEmpty()) return null;
+        try {
+            Parser parser = new Parser(regex);
+            Info info = parser.parseAlternation();
+            if (parser.pos != regex.length()) return null;
+
+            Set<String> required = info.toRequired();
+            if (required == null) return null;
+            return Collections.unmodifiableList(new ArrayList<>(required));
+        } catch (UnsupportedOperationException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    /**
+     * ASCII 字母转小写 其他字符保持不变
+     */
+    public static char foldAsciiCase(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + 32) : c;
+    }
+
+    /**
+     * 正则节点的分析结果
+     * exact: 节点可能匹配的全部字符串(有限且较少时), 否则为null
+     * required: 节点匹配内容必定包含其中之一的字面量集合, 没有约束时为null
+     */
+    private static class Info {
+        private static final Info ANY = new Info(null, null);
+        private static final Info EMPTY = new Info(Collections.singleton(""), null);
+
+        private final Set<String> exact;
+        private final Set<String> required;
+
+        private Info(Set<String> exact, Set<String> required) {
+            this.exact = exact;
+            this.required = required;
+        }
+
+        private static Info exact(Set<String> exact) {
+            return new Info(exact, null);
+        }
+
+        private static Info required(Set<String> required) {
+            return required == null ? ANY : new Info(null, required);
+        }
+
+        /**
+         * 转换为必需字面量集合 包含空字符串时没有约束
+         */
+        private Set<String> toRequired() {
+            Set<String> set = exact != null ? exact : required;
+            if (set == null || set.isEmpty() || set.contains("")) return null;
+            return set;
+        }
+    }
+
+    private static class Parser {
+        private final String regex;
+        private int pos = 0;
+
+        private Parser(String regex) {
+            this.regex = regex;
+        }
+
+        private boolean hasMore() {
+            return pos < regex.length();
+        }
+
+        private char peek() {
+            return regex.charAt(pos);
+        }
+
+        private boolean startsWith(String prefix) {
+            return regex.startsWith(prefix, pos);
+        }
+
+        /**
+         * 解析 a|b|c
+         */
+        private Info parseAlternation() {
+            List<Info> branches = new ArrayList<>();
+            branches.add(parseConcat());
+            while (hasMore() && peek() == '|') {
+                pos++;
+                branches.add(parseConcat());
+            }
+            if (branches.size() == 1) return branches.get(0);
+
+            //所有分支都是精确字符串时合并
+            Set<String> exactUnion = new LinkedHashSet<>();
+            for (Info branch : branches) {
+                if (branch.exact == null) {
+                    exactUnion = null;
+                    break;
+                }
+                exactUnion.addAll(branch.exact);
+            }
+            if (exactUnion != null && exactUnion.size() <= MAX_EXACT_SIZE) return Info.exact(exactUnion);
+
+            //否则每个分支都必须提供必需字面量
+            Set<String> requiredUnion = new LinkedHashSet<>();
+            for (Info branch : branches) {
+                Set<String> required = branch.toRequired();
+                if (required == null) return Info.ANY;
+                requiredUnion.addAll(required);
+            }
+            return requiredUnion.size() <= MAX_REQUIRED_SIZE ? Info.required(requiredUnion) : Info.ANY;
+        }
+
+        /**
+         * 解析连续的节点 相邻的精确字符串进行拼接
+         */
+        private Info parseConcat() {
+            List<Set<String>> candidates = new ArrayList<>();
+            Set<String> run = Collections.singleton("");
+            boolean allExact = true;
+
+            while (hasMore() && peek() != '|' && peek() != ')') {
+                Info info = parseQuantified();
+                if (info.exact != null) {
+                    Set<String> product = crossProduct(run, info.exact);
+                    if (product == null) {
+                        allExact = false;
+                        candidates.add(run);
+                        run = info.exact;
+                    } else {
+                        run = product;
+                    }
+                } else {
+                    allExact = false;
+                    candidates.add(run);
+                    if (info.required != null) candidates.add(info.required);
+                    run = Collections.singleton("");
+                }
+            }
+
+            if (allExact) return Info.exact(run);
+            candidates.add(run);
+            return Info.required(bestCandidate(candidates));
+        }
+
+        /**
+         * 解析单个节点及其量词
+         */
+        private Info parseQuantified() {
+            Info atom = parseAtom();
+            if (!hasMore()) return atom;
+
+            char c = peek();
+            int minRepeat;
+            int maxRepeat;
+            if (c == '*') {
+                pos++;
+                minRepeat = 0;
+                maxRepeat = -1;
+            } else if (c == '+') {
+                pos++;
+                minRepeat = 1;
+                maxRepeat = -1;
+            } else if (c == '?') {
+                pos++;
+                minRepeat = 0;
+                maxRepeat = 1;
+            } else if (c == '{' && isRepeatBrace()) {
+                int end = regex.indexOf('}', pos);
+                String[] range = regex.substring(pos + 1, end).split(",", -1);
+                minRepeat = Integer.parseInt(range[0].trim());
+                maxRepeat = range.length == 1 ? minRepeat : (range[1].trim().isEmpty() ? -1 : Integer.parseInt(range[1].trim()));
+                pos = end + 1;
+            } else {
+                return atom;
+            }
+
+            //跳过懒惰和占有量词后缀
+            if (hasMore() && (peek() == '?' || peek() == '+')) pos++;
+
+            if (minRepeat == 1 && maxRepeat == 1) return atom;
+            if (minRepeat == 0) {
+                if (maxRepeat == 1 && atom.exact != null && atom.exact.size() < MAX_EXACT_SIZE) {
+                    Set<String> optional = new LinkedHashSet<>(atom.exact);
+                    optional.add("");
+                    return Info.exact(optional);
+                }
+                return Info.ANY;
+            }
+            return Info.required(atom.toRequired());
+        }
+
+        private boolean isRepeatBrace() {
+            int end = regex.indexOf('}', pos);
+            return end > pos + 1 && regex.substring(pos + 1, end).matches("\\s*\\d+\\s*(,\\s*\\d*\\s*)?");
+        }
+
+        private Info parseAtom() {
+            char c = peek();
+            switch (c) {
+                case '(':
+                    return parseGroup();
+                case '[':
+                    return parseClass();
+                case '\\':
+                    return parseEscape();
+                case '.':
+                    pos++;
+                    return Info.ANY;
+                case '^':
+                case '$':
+                    pos++;
+                    return Info.EMPTY;
+                case '*':
+                case '+':
+                case '?':
+                    throw new UnsupportedOperationException("dangling quantifier");
+                default:
+                    pos++;
+                    return literal(c);
+            }
+        }
+
+        private Info parseGroup() {
+            pos++;
+            boolean zeroWidth = false;
+            if (startsWith("?")) {
+                if (startsWith("?:") || startsWith("?>")) {
+                    pos += 2;
+                } else if (startsWith("?=") || startsWith("?!")) {
+                    pos += 2;
+                    zeroWidth = true;
+                } else if (startsWith("?<=") || startsWith("?<!")) {
+                    pos += 3;
+                    zeroWidth = true;
+                } else if (startsWith("?<")) {
+                    int end = regex.indexOf('>', pos);
+                    if (end < 0) throw new UnsupportedOperationException("bad group name");
+                    pos = end + 1;
+                } else {
+                    //内联标志 (?i) (?i:...) 只支持不影响字面量的标志
+                    int flagStart = ++pos;
+                    while (hasMore() && peek() != ')' && peek() != ':') pos++;
+                    if (!regex.substring(flagStart, pos).matches("[imsd-]*")) {
+                        throw new UnsupportedOperationException("unsupported flags");
+                    }
+                    if (peek() == ')') {
+                        pos++;
+                        return Info.EMPTY;
+                    }
+                    pos++;
+                }
+            }
+
+            Info inner = parseAlternation();
+            if (!hasMore() || peek() != ')') throw new UnsupportedOperationException("unclosed group");
+            pos++;
+            return zeroWidth ? Info.EMPTY : inner;
+        }
+
+        /**
+         * 解析字符类 只展开由少量普通字符组成的字符类
+         */
+        private Info parseClass() {
+            pos++;
+            boolean simple = true;
+            if (hasMore() && peek() == '^') {
+                simple = false;
+                pos++;
+            }
+
+            Set<String> chars = new LinkedHashSet<>();
+            boolean first = true;
+            while (true) {
+                char c = peek();
+                if (c == ']' && !first) {
+                    pos++;
+                    break;
+                }
+                first = false;
+                if (c == '[' || startsWith("&&")) {
+                    throw new UnsupportedOperationException("nested class");
+                }
+                if (c == '\\') {
+                    char escaped = regex.charAt(pos + 1);
+                    if (Character.isLetterOrDigit(escaped)) {
+                        //\d \w \p{..} \x.. 等不展开
+                        simple = false;
+                        if (escaped == 'Q') throw new UnsupportedOperationException("quote in class");
+                        if ((escaped == 'p' || escaped == 'P') && regex.charAt(pos + 2) == '{') {
+                            pos = regex.indexOf('}', pos) + 1;
+                        } else {
+                            pos += 2;
+                        }
+                    } else {
+                        chars.add(String.valueOf(foldAsciiCase(escaped)));
+                        pos += 2;
+                    }
+                    continue;
+                }
+                if (c == '-' && chars.size() > 0 && regex.charAt(pos + 1) != ']') {
+                    //字符范围
+                    simple = false;
+                }
+                chars.add(String.valueOf(foldAsciiCase(c)));
+                pos++;
+            }
+
+            if (simple && !chars.isEmpty() && chars.size() <= MAX_CLASS_SIZE) return Info.exact(chars);
+            return Info.ANY;
+        }
+
+        private Info parseEscape() {
+            char c = regex.charAt(pos + 1);
+            pos += 2;
+            switch (c) {
+                case 'd': case 'D': case 'w': case 'W': case 's': case 'S':
+                case 'h': case 'H': case 'v': case 'V': case 'R': case 'X':
+                    return Info.ANY;
+                case 'b': case 'B': case 'A': case 'z': case 'Z': case 'G':
+                    return Info.EMPTY;
+                case 'p': case 'P':
+                    if (hasMore() && peek() == '{') pos = regex.indexOf('}', pos) + 1;
+                    else pos++;
+                    return Info.ANY;
+                case 'k':
+                    pos = regex.indexOf('>', pos) + 1;
+                    return Info.ANY;
+                case 'Q': {
+                    int end = regex.indexOf("\\E", pos);
+                    if (end < 0) end = regex.length();
+                    StringBuilder quoted = new StringBuilder();
+                    for (int i = pos; i < end; i++) quoted.append(foldAsciiCase(regex.charAt(i)));
+                    pos = Math.min(regex.length(), end + 2);
+                    return Info.exact(Collections.singleton(quoted.toString()));
+                }
+                case 't': return literal('\t');
+                case 'n': return literal('\n');
+                case 'r': return literal('\r');
+                case 'f': return literal('\f');
+                case 'a': return literal('\u0007');
+                case 'e': return literal('\u001B');
+                case 'x': {
+                    if (hasMore() && peek() == '{') {
+                        int end = regex.indexOf('}', pos);
+                        int codePoint = Integer.parseInt(regex.substring(pos + 1, end), 16);
+                        pos = end + 1;
+                        if (codePoint > Character.MAX_VALUE) return Info.ANY;
+                        return literal((char) codePoint);
+                    }
+                    char hex = (char) Integer.parseInt(regex.substring(pos, pos + 2), 16);
+                    pos += 2;
+                    return literal(hex);
+                }
+                case 'u': {
+                    char unicode = (char) Integer.parseInt(regex.substring(pos, pos + 4), 16);
+                    pos += 4;
+                    return literal(unicode);
+                }
+                default:
+                    if (Character.isDigit(c)) {
+                        //反向引用或八进制
+                        while (hasMore() && Character.isDigit(peek())) pos++;
+                        return Info.ANY;
+                    }
+                    if (Character.isLetter(c)) throw new UnsupportedOperationException("unknown escape");
+                    return literal(c);
+            }
+        }
+
+        private Info literal(char c) {
+            return Info.exact(Collections.singleton(String.valueOf(foldAsciiCase(c))));
+        }
+    }
+
+    /**
+     * 两个精确集合的笛卡尔积 超过数量限制时返回null
+     */
+    private static Set<String> crossProduct(Set<String> left, Set<String> right) {
+        if ((long) left.size() * right.size() > MAX_EXACT_SIZE) return null;
+        Set<String> product = new LinkedHashSet<>();
+        for (String l : left) {
+            for (String r : right) {
+                product.add(l + r);
+            }
+        }
+        return product;
+    }
+
+    /**
+     * 选择最有区分度的字面量集合: 最短字面量越长越好, 相同时集合越小越好
+     */
+    private static Set<String> bestCandidate(List<Set<String>> candidates) {
+        Set<String> best = null;
+        int bestMinLength = 0;
+        for (Set<String> candidate : candidates) {
+            if (candidate == null || candidate.isEmpty()) continue;
+            int minLength = Integer.MAX_VALUE;
+            for (String literal : candidate) minLength = Math.min(minLength, literal.length());
+            if (minLength == 0) continue;
+            if (best == null || minLength > bestMinLength || (minLength == bestMinLength && candidate.size() < best.size())) {
+                best = candidate;
+                bestMinLength = minLength;
+            }
+        }
+        return best;
+    }
+}
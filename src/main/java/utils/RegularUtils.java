@@ -2,6 +2,8 @@ package utils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -20,6 +22,9 @@ public class RegularUtils {
                     Pattern pattern = Pattern.compile(regular);
                     patternList.add(pattern);
                     stdout_println(LOG_DEBUG, String.format("[+] compile regular success: [%s]", regular));
+                    //提示可能存在灾难性回溯的正则
+                    String risk = RuleGuardUtils.findBacktrackingRisk(regular);
+                    if (risk != null) stderr_println(LOG_INFO, String.format("[!] regular may cause catastrophic backtracking: [%s] -> [%s]", regular, risk));
                 } catch (PatternSyntaxException e) {
                     // 处理正则表达式语法错误
                     stderr_println(LOG_ERROR, String.format("[!] Invalid regular expression: [%s] -> [%s]", regular, e.getMessage()));
@@ -37,4 +42,72 @@ public class RegularUtils {
 
         return patternList;
     }
+
+    /**
+     * 分窗口正则匹配 直接在原文本上通过 region 匹配, 不复制文本
+     * 每个窗口长度为 windowSize + overlap, 相邻窗口重叠 overlap 个字符, 跨越窗口边界(不超过overlap)的内容也能完整匹配
+     * 每个窗口只报告起始位置在 [windowStart, windowStart + windowSize) 内的结果, 且从上一个结果的结束位置继续查找, 同一个结果只会报告一次
+     * @param text 原始文本 可以是带执行预算的 DeadlineCharSequence
+     * @param matcher 复用的Matcher对象 会被重置为匹配text
+     * @param windowSize 窗口步长 即原来的分块大小
+     * @param overlap 窗口重叠长度
+     * @param consumer 处理每个匹配结果
+     */
+    public static void findInWindows(CharSequence text, Matcher matcher, int windowSize, int overlap, Consumer<Matcher> consumer) {
+        matcher.reset(text);
+        findInRange(matcher, 0, text.length(), windowSize, overlap, consumer);
+    }
+
+    /**
+     * 只在文本的指定片段中分窗口查找正则匹配结果 片段以 [起始位置, 结束位置) 成对保存
+     * 匹配结果不会跨越片段边界, 片段内的分窗口规则与 findInWindows 一致
+     */
+    public static void findInSegments(CharSequence text, Matcher matcher, int[] segments, int windowSize, int overlap, Consumer<Matcher> consumer) {
+        matcher.reset(text);
+        for (int i = 0; i + 1 < segments.length; i += 2) {
+            findInRange(matcher, segments[i], segments[i + 1], windowSize, overlap, consumer);
+        }
+    }
+
+    /**
+     * 在已设置文本的 matcher 的 [from, to) 范围内分窗口查找
+     */
+    private static void findInRange(Matcher matcher, int from, int to, int windowSize, int overlap, Consumer<Matcher> consumer) {
+        windowSize = windowSize > 0 ? windowSize : to - from;
+        overlap = Math.max(0, overlap);
+
+        int searchFrom = from;
+        for (int windowStart = from; windowStart < to; windowStart += windowSize) {
+            int ownedEnd = Math.min(windowStart + windowSize, to);
+            int windowEnd = (int) Math.min((long) ownedEnd + overlap, to);
+            int regionStart = Math.max(windowStart, searchFrom);
+            //上一个窗口的结果已经覆盖本窗口
+            if (regionStart >= ownedEnd) continue;
+
+            matcher.region(regionStart, windowEnd);
+            while (matcher.find()) {
+                //起始位置在下一个窗口内的结果交给下一个窗口处理
+                if (matcher.start() >= ownedEnd) break;
+                consumer.accept(matcher);
+                searchFrom = matcher.end();
+            }
+        }
+    }
+
+    /**
+     * 分窗口判断文本中是否存在正则匹配结果
+     */
+    public static boolean isFindInWindows(CharSequence text, Matcher matcher, int windowSize, int overlap) {
+        int textLength = text.length();
+        windowSize = windowSize > 0 ? windowSize : textLength;
+        overlap = Math.max(0, overlap);
+
+        matcher.reset(text);
+        for (int windowStart = 0; windowStart < textLength; windowStart += windowSize) {
+            int windowEnd = (int) Math.min((long) windowStart + windowSize + overlap, textLength);
+            matcher.region(windowStart, windowEnd);
+            if (matcher.find()) return true;
+        }
+        return false;
+    }
 }
@@ -1,6 +1,9 @@
 package utils;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -9,7 +12,15 @@ import java.util.zip.CRC32;
 public class RespHashUtils {
 
     public static String getFaviconHash(byte[] body) {
-        String base64Favicon = Base64.getEncoder().encodeToString(body);
+        return getFaviconHash(body, 0, body.length);
+    }
+
+    /**
+     * 计算字节数组指定范围的 favicon hash 直接编码该范围, 不复制数组
+     */
+    public static String getFaviconHash(byte[] bytes, int offset, int length) {
+        ByteBuffer encoded = Base64.getEncoder().encode(ByteBuffer.wrap(bytes, offset, length));
+        String base64Favicon = new String(encoded.array(), encoded.arrayOffset() + encoded.position(), encoded.remaining(), StandardCharsets.ISO_8859_1);
         // 格式化base64字符串
         String formattedBase64Favicon = formatBase64(base64Favicon);
         // 计算格式化后base64字符串的murmurHash3值
@@ -95,12 +106,45 @@ public class RespHashUtils {
      * 字符Byte[]转 CRC32
      */
     public static String calcCRC32(byte[] inputBytes) {
+        return calcCRC32(inputBytes, 0, inputBytes.length);
+    }
+
+    /**
+     * 字符Byte[]指定范围转 CRC32
+     */
+    public static String calcCRC32(byte[] inputBytes, int offset, int length) {
         // 初始化CRC32对象
         CRC32 crc32 = new CRC32();
         // 更新CRC值
-        crc32.update(inputBytes, 0, inputBytes.length);
+        crc32.update(inputBytes, offset, length);
         // 将计算后的CRC32值转换为十六进制字符串并返回
         return Long.toHexString(crc32.getValue()).toLowerCase();
     }
-}
 
+    /**
+     * 计算 SHA-256 先写入前缀字符串, 再写入字节数组的指定范围, 返回十六进制字符串
+     */
+    public static String calcSHA256(String prefix, byte[] inputBytes, int offset, int length) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        if (prefix != null) digest.update(prefix.getBytes(StandardCharsets.UTF_8));
+        if (inputBytes != null) digest.update(inputBytes, offset, length);
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * 字符串转 SHA-256
+     */
+    public static String calcSHA256(String string) {
+        return calcSHA256(string, null, 0, 0);
+    }
+}
@@ -1,28 +1,32 @@
 package utils;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class RespTitleUtils {
+    //匹配<title>标签内的内容
+    private static final Pattern TEXT_TITLE_PATTERN = Pattern.compile("<title>(.*?)</title>", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    //只在前10000字节中查找标题
+    private static final int MAX_TITLE_PARSE_LEN = 10000;
+
     /**
      * 从HTML文档中提取<title>标签的内容。
      */
     public static String parseTextTitle(byte[] bodyBytes) {
+        return parseTextTitle(bodyBytes, 0, bodyBytes.length);
+    }
+
+    /**
+     * 从字节数组的指定范围中提取<title>标签的内容 直接解码该范围, 不复制数组
+     */
+    public static String parseTextTitle(byte[] bytes, int offset, int length) {
         String title = null;
-        if (bodyBytes.length>0){
-            byte[] bytesToParse = bodyBytes;
-            // 如果bodyBytes长度大于10000，仅取前10000字节
-            if (bodyBytes.length > 10000) {
-                bytesToParse = Arrays.copyOfRange(bodyBytes, 0, 10000);
-            }
-            // 将字节数组转换为字符串
-            String htmlContent = new String(bytesToParse, StandardCharsets.UTF_8);
-            // 定义一个正则表达式来匹配<title>标签内的内容
-            Pattern pattern = Pattern.compile("<title>(.*?)</title>", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+        if (length>0){
+            // 将前10000字节转换为字符串
+            String htmlContent = new String(bytes, offset, Math.min(length, MAX_TITLE_PARSE_LEN), StandardCharsets.UTF_8);
             // 创建一个Matcher对象
-            Matcher matcher = pattern.matcher(htmlContent);
+            Matcher matcher = TEXT_TITLE_PATTERN.matcher(htmlContent);
             // 检查是否找到了匹配项
             if (matcher.find()) {
                 title = matcher.group(1).trim();
@@ -1,69 +1,631 @@
 package utils;
 
 
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.IOException;
-import java.util.HashSet;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+/**
+ * 解析 webpack|Vite|Rollup 运行时中的懒加载 chunk 地址, 输出完整的 chunk URL
+ * webpack 4/5: 从以 ".js" 字符串结尾的拼接表达式(__webpack_require__.u 或 jsonp 的 src 函数)中解析 chunk 名称表和哈希表,
+ *   例如 n.p+"js/"+({12:"about"}[e]||e)+"."+{12:"a1b2c3d4"}[e]+".js", 结合 .p 的 publicPath 计算地址
+ * Vite|Rollup: 解析 __vite__mapDeps|__vite__fileDeps 的文件列表和相对路径的动态 import()
+ * 字符串字面量的位置来自 JsLiteralLexer, 每个拼接表达式只从结尾向前解析一次, 整体为线性扫描
+ */
 public class RespWebpackJsParser {
+    //Vite 预加载依赖的文件列表 变量名之后的第一个数组
+    private static final String[] VITE_DEPS_NAMES = {"__vite__fileDeps=", "__vite__mapDeps="};
 
+    //chunk 文件后缀
+    private static final String[] CHUNK_SUFFIXES = {".js", ".mjs"};
 
-    //aaaaaaa.aaaa.js //0.690fe1e4ceaf45313632.js
-    //private static final String WEBPACK_JS_PATTERN_CHECK = "\"([\\w-]+)\":\"(\\w+)\"\\}\\[\\w\\]\\+\".js\"";  //字符型
-    private static final String WEBPACK_JS_PATTERN_CHECK = "[\"]?([\\d\\w-]+)[\"]?:\"(\\w+)\"\\}\\[\\w\\]\\+\".js\""; //字符+数字
-    private static final String WEBPACK_JS_PATTERN_EXTRACT_JS = "([^{^+}]+\\}[\\[\\]\\w\\+\\\"]{5}.js\")";
-    //private static final String WEBPACK_JS_PATTERN_EXTRACT_KV = "\"([\\w-]+)\":\"(\\w+)\"";  //字符型
-    private static final String WEBPACK_JS_PATTERN_EXTRACT_KV = "[\"]?([\\d\\w-]+)[\"]?:\"(\\w+)\""; //字符+数字
-    private static final Pattern patternCheck = Pattern.compile(WEBPACK_JS_PATTERN_CHECK);
-    private static final Pattern patternExtractJS = Pattern.compile(WEBPACK_JS_PATTERN_EXTRACT_JS);
-    private static final Pattern patternExtractKV = Pattern.compile(WEBPACK_JS_PATTERN_EXTRACT_KV);
-
-    public static Set<String> parseWebpackSimple(String text) {
-        Set<String> matches = new LinkedHashSet<>();
-        Matcher matcherCheck = patternCheck.matcher(text);
-        if (matcherCheck.find()) {
-            Matcher matcherJs = patternExtractJS.matcher(text);
-            while (matcherJs.find()) {
-                String extract = matcherJs.group(1);
-                Matcher matcherKV = patternExtractKV.matcher(extract);
-                while (matcherKV.find()) {
-                    String key = matcherKV.group(1);
-                    String value = matcherKV.group(2);
-                    if (!value.isEmpty()) {
-                        matches.add(key + "." + value + ".js");
+    /**
+     * 解析JS文本中的 chunk 地址
+     * @param text JS文本
+     * @param scriptUrl JS文件的URL 用于计算相对地址
+     * @return chunk 的完整URL, scriptUrl 无法解析时为相对地址
+     */
+    public static Set<String> parseChunkUrls(String text, String scriptUrl) {
+        return parseChunkUrls(text, JsLiteralLexer.lexJs(text), scriptUrl);
+    }
+
+    /**
+     * 解析JS文本中的 chunk 地址 复用已有的词法分析结果
+     * @param segments JsLiteralLexer.lexJs 的结果
+     */
+    public static Set<String> parseChunkUrls(String text, int[] segments, String scriptUrl) {
+        Set<String> chunkUrls = new LinkedHashSet<>();
+        String baseUrl = stripQueryAndFragment(scriptUrl);
+
+        //webpack 运行时
+        String publicPath = findPublicPath(text);
+        //webpack 5 的 chunk 文件名函数 __webpack_require__.u
+        boolean hasChunkFilenameFn = text.contains(".u=") || text.contains(".u = ");
+        Set<String> loadedChunkIds = null;
+        for (int i = 0; i + 1 < segments.length; i += 2) {
+            int start = segments[i];
+            int end = segments[i + 1];
+            if (!isChunkSuffixLiteral(text, start, end)) continue;
+
+            ChunkExpression expression = parseExpressionBefore(text, segments, i);
+            if (expression == null) continue;
+
+            //没有名称表和哈希表时 chunk id 来自加载 chunk 的调用, 只处理 webpack 5 的 chunk 文件名函数
+            if (expression.maps.isEmpty()) {
+                if (!hasChunkFilenameFn) continue;
+                if (loadedChunkIds == null) loadedChunkIds = findLoadedChunkIds(text);
+                expression.chunkIds.addAll(loadedChunkIds);
+            }
+            for (String chunkFile : expression.evaluate()) {
+                addIfNotNull(chunkUrls, resolveChunkUrl(baseUrl, publicPath, chunkFile));
+            }
+        }
+
+        //Vite 预加载依赖
+        for (String depFile : findViteDeps(text)) {
+            if (hasChunkSuffix(depFile)) addIfNotNull(chunkUrls, resolveChunkUrl(baseUrl, null, depFile));
+        }
+
+        //相对路径的动态导入 import("./About-abc.js")
+        for (int index = text.indexOf("import("); index >= 0; index = text.indexOf("import(", index + 7)) {
+            if (index > 0 && isIdentifierPart(text.charAt(index - 1))) continue;
+            int[] range = readQuotedArgument(text, index + 7);
+            if (range == null) continue;
+            String path = text.substring(range[0], range[1]);
+            if ((path.startsWith("./") || path.startsWith("../") || path.startsWith("/")) && hasChunkSuffix(path)) {
+                addIfNotNull(chunkUrls, resolveUrl(baseUrl, path));
+            }
+        }
+        return chunkUrls;
+    }
+
+    /**
+     * 查找 publicPath 的字符串赋值 n.p="/static/" 没有时返回null(未设置或自动计算)
+     */
+    private static String findPublicPath(String text) {
+        for (int index = text.indexOf(".p"); index >= 0; index = text.indexOf(".p", index + 2)) {
+            if (index == 0 || !isIdentifierPart(text.charAt(index - 1))) continue;
+            int i = skipWhitespace(text, index + 2);
+            if (i + 1 >= text.length() || text.charAt(i) != '=' || text.charAt(i + 1) == '=') continue;
+            int[] range = readQuoted(text, skipWhitespace(text, i + 1));
+            if (range != null) return text.substring(range[0], range[1]);
+        }
+        return null;
+    }
+
+    /**
+     * 查找加载 chunk 的调用中的 chunk id n.e(12) __webpack_require__.e("about")
+     */
+    private static Set<String> findLoadedChunkIds(String text) {
+        Set<String> chunkIds = new LinkedHashSet<>();
+        for (int index = text.indexOf(".e("); index >= 0; index = text.indexOf(".e(", index + 3)) {
+            if (index == 0 || !isIdentifierPart(text.charAt(index - 1))) continue;
+            int i = skipWhitespace(text, index + 3);
+            int[] range;
+            int after;
+            if (i < text.length() && Character.isDigit(text.charAt(i))) {
+                int end = i;
+                while (end < text.length() && Character.isDigit(text.charAt(end))) end++;
+                range = new int[]{i, end};
+                after = end;
+            } else {
+                range = readQuoted(text, i);
+                if (range == null) continue;
+                after = range[1] + 1;
+            }
+            int close = skipWhitespace(text, after);
+            if (close < text.length() && text.charAt(close) == ')') chunkIds.add(text.substring(range[0], range[1]));
+        }
+        return chunkIds;
+    }
+
+    /**
+     * 读取函数调用中唯一的字符串参数 返回字符串内容的 [起始位置, 结束位置)
+     */
+    private static int[] readQuotedArgument(String text, int start) {
+        int[] range = readQuoted(text, skipWhitespace(text, start));
+        if (range == null) return null;
+        int close = skipWhitespace(text, range[1] + 1);
+        return close < text.length() && text.charAt(close) == ')' ? range : null;
+    }
+
+    /**
+     * 读取不含空白和转义的字符串 返回字符串内容的 [起始位置, 结束位置), 不是字符串时返回null
+     */
+    private static int[] readQuoted(String text, int start) {
+        if (start >= text.length()) return null;
+        char quote = text.charAt(start);
+        if (quote != '"' && quote != '\'') return null;
+        for (int i = start + 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == quote) return new int[]{start + 1, i};
+            if (c == '\\' || Character.isWhitespace(c)) return null;
+        }
+        return null;
+    }
+
+    /**
+     * 查找 Vite 预加载依赖列表中的文件
+     */
+    private static List<String> findViteDeps(String text) {
+        List<String> depFiles = new ArrayList<>();
+        for (String name : VITE_DEPS_NAMES) {
+            int index = text.indexOf(name);
+            if (index < 0) continue;
+            int arrayStart = text.indexOf('[', index + name.length());
+            if (arrayStart < 0) continue;
+
+            int i = arrayStart + 1;
+            while (i < text.length()) {
+                i = skipWhitespace(text, i);
+                if (i >= text.length() || text.charAt(i) == ']') break;
+                char quote = text.charAt(i);
+                if (quote != '"' && quote != '\'') break;
+                int end = text.indexOf(quote, i + 1);
+                if (end < 0) break;
+                depFiles.add(text.substring(i + 1, end));
+                i = skipWhitespace(text, end + 1);
+                if (i < text.length() && text.charAt(i) == ',') i++;
+            }
+            if (!depFiles.isEmpty()) break;
+        }
+        return depFiles;
+    }
+
+    /**
+     * 从以 chunk 后缀结尾的字符串字面量(第 segmentIndex 个片段)向前解析 + 拼接表达式
+     * 遇到无法识别的内容时, 只保留其后能够完整解析的部分, 不包含 chunk id 时返回null
+     */
+    private static ChunkExpression parseExpressionBefore(String text, int[] segments, int segmentIndex) {
+        List<Token> tokens = new ArrayList<>();
+        tokens.add(Token.string(text.substring(segments[segmentIndex] + 1, segments[segmentIndex + 1] - 1)));
+
+        int depth = 0;
+        int i = segments[segmentIndex] - 1;
+        while (true) {
+            i = skipWhitespaceBackward(text, i);
+            if (i < 0) break;
+            char c = text.charAt(i);
+
+            if (c == '+') {
+                if (i > 0 && text.charAt(i - 1) == '+') break;
+                tokens.add(Token.of(TokenType.PLUS));
+                i--;
+            } else if (c == '|' && i > 0 && text.charAt(i - 1) == '|') {
+                tokens.add(Token.of(TokenType.OR));
+                i -= 2;
+            } else if (c == ')') {
+                depth++;
+                tokens.add(Token.of(TokenType.RPAREN));
+                i--;
+            } else if (c == '(') {
+                //表达式的开始 例如 return(...) 或函数调用的参数
+                if (depth == 0) break;
+                depth--;
+                tokens.add(Token.of(TokenType.LPAREN));
+                i--;
+            } else if (c == '"' || c == '\'') {
+                int literalIndex = findSegmentEndingAt(segments, i + 1);
+                if (literalIndex < 0 || text.charAt(segments[literalIndex]) != c) break;
+                tokens.add(Token.string(text.substring(segments[literalIndex] + 1, i)));
+                i = segments[literalIndex] - 1;
+            } else if (c == ']') {
+                int mapStart = parseMapLookupBackward(text, segments, i, tokens);
+                if (mapStart < 0) break;
+                i = mapStart - 1;
+            } else if (isIdentifierPart(c)) {
+                int end = i + 1;
+                while (i >= 0 && (isIdentifierPart(text.charAt(i)) || text.charAt(i) == '.')) i--;
+                String identifier = text.substring(i + 1, end);
+                if ("return".equals(identifier) || identifier.startsWith(".") || Character.isDigit(identifier.charAt(0))) break;
+                tokens.add(Token.identifier(identifier));
+            } else {
+                break;
+            }
+        }
+
+        //向前解析得到的是倒序的token
+        Collections.reverse(tokens);
+
+        //从最长的部分开始 尝试在每个 + 之后重新解析
+        for (int start = 0; start < tokens.size(); start++) {
+            if (start > 0 && tokens.get(start - 1).type != TokenType.PLUS) continue;
+            ChunkExpression expression = new ExpressionParser(tokens, start).parse();
+            if (expression != null) return expression.hasChunkId() ? expression : null;
+        }
+        return null;
+    }
+
+    /**
+     * 在 ] 处向前解析 {key:"value",...}[e] 形式的查表, 返回 { 的位置, 不是查表时返回-1
+     */
+    private static int parseMapLookupBackward(String text, int[] segments, int closeIndex, List<Token> tokens) {
+        int i = closeIndex - 1;
+        int identifierEnd = i + 1;
+        while (i >= 0 && isIdentifierPart(text.charAt(i))) i--;
+        if (i + 1 == identifierEnd || i < 0 || text.charAt(i) != '[') return -1;
+        String lookupVar = text.substring(i + 1, identifierEnd);
+
+        i = skipWhitespaceBackward(text, i - 1);
+        if (i < 0 || text.charAt(i) != '}') return -1;
+
+        //向前找到对应的 { 跳过字符串字面量, 只支持不嵌套的对象
+        i--;
+        while (i >= 0) {
+            char c = text.charAt(i);
+            if (c == '{') break;
+            if (c == '"' || c == '\'') {
+                int literalIndex = findSegmentEndingAt(segments, i + 1);
+                if (literalIndex < 0 || text.charAt(segments[literalIndex]) != c) return -1;
+                i = segments[literalIndex] - 1;
+                continue;
+            }
+            if (c == '}' || c == ';' || c == '(' || c == ')' || c == '[' || c == ']' || c == '=') return -1;
+            i--;
+        }
+        if (i < 0) return -1;
+
+        Map<String, String> map = parseFlatObject(text, i, closeIndex);
+        if (map == null) return -1;
+        tokens.add(Token.map(map, lookupVar));
+        return i;
+    }
+
+    /**
+     * 解析不嵌套的对象字面量 键为标识符|数字|字符串, 值为字符串|数字, 其他形式返回null
+     */
+    private static Map<String, String> parseFlatObject(String text, int openIndex, int limit) {
+        Map<String, String> map = new LinkedHashMap<>();
+        int i = openIndex + 1;
+        while (true) {
+            i = skipWhitespace(text, i);
+            if (i >= limit) return null;
+            if (text.charAt(i) == '}') return map;
+
+            int[] key = readKeyOrValue(text, i, limit);
+            if (key == null) return null;
+            i = skipWhitespace(text, key[1]);
+            if (i >= limit || text.charAt(i) != ':') return null;
+
+            int[] value = readKeyOrValue(text, skipWhitespace(text, i + 1), limit);
+            if (value == null) return null;
+            map.put(unquote(text, key), unquote(text, value));
+
+            i = skipWhitespace(text, value[1]);
+            if (i < limit && text.charAt(i) == ',') i++;
+        }
+    }
+
+    /**
+     * 读取一个字符串|标识符|数字 返回 [起始位置, 结束位置)
+     */
+    private static int[] readKeyOrValue(String text, int start, int limit) {
+        if (start >= limit) return null;
+        char c = text.charAt(start);
+        if (c == '"' || c == '\'') {
+            int i = start + 1;
+            while (i < limit && text.charAt(i) != c) {
+                if (text.charAt(i) == '\\') i++;
+                i++;
+            }
+            return i < limit ? new int[]{start, i + 1} : null;
+        }
+        int i = start;
+        while (i < limit && (isIdentifierPart(text.charAt(i)) || text.charAt(i) == '-' || text.charAt(i) == '.')) i++;
+        return i > start ? new int[]{start, i} : null;
+    }
+
+    private static String unquote(String text, int[] range) {
+        char c = text.charAt(range[0]);
+        if (c == '"' || c == '\'') return text.substring(range[0] + 1, range[1] - 1);
+        return text.substring(range[0], range[1]);
+    }
+
+    /**
+     * 计算 chunk 文件的URL
+     * publicPath 为绝对地址或以 / 开头时直接拼接, 否则(未设置|自动计算)认为文件相对于构建输出目录,
+     * 输出目录按 JS 文件所在目录推断, 例如 /static/js/main.js 中的 static/js/about.js 对应 /static/js/about.js
+     */
+    private static String resolveChunkUrl(String baseUrl, String publicPath, String chunkFile) {
+        if (chunkFile.isEmpty() || chunkFile.contains("undefined")) return null;
+        if (chunkFile.startsWith("./") || chunkFile.startsWith("../") || chunkFile.startsWith("/") || chunkFile.contains("://")) {
+            return resolveUrl(baseUrl, chunkFile);
+        }
+        if (publicPath != null && !publicPath.isEmpty() && !"auto".equals(publicPath)) {
+            return resolveUrl(baseUrl, publicPath + chunkFile);
+        }
+        return resolveUrl(guessOutputRoot(baseUrl, chunkFile), chunkFile);
+    }
+
+    /**
+     * 按 JS 文件所在目录推断构建输出目录 文件目录的第一级出现在 JS 文件目录中时, 取该位置之前的部分
+     */
+    private static String guessOutputRoot(String baseUrl, String chunkFile) {
+        int urlPathStart = baseUrl.indexOf("://") < 0 ? 0 : baseUrl.indexOf('/', baseUrl.indexOf("://") + 3);
+        if (urlPathStart < 0) return baseUrl + "/";
+        String scriptDir = baseUrl.substring(0, baseUrl.lastIndexOf('/') + 1);
+
+        int slash = chunkFile.indexOf('/');
+        if (slash <= 0) return scriptDir;
+        String firstDir = "/" + chunkFile.substring(0, slash + 1);
+        int index = scriptDir.indexOf(firstDir, urlPathStart);
+        return index < 0 ? scriptDir : scriptDir.substring(0, index + 1);
+    }
+
+    /**
+     * 基于 JS 文件的URL 计算相对地址 无法计算时返回原地址
+     */
+    static String resolveUrl(String baseUrl, String path) {
+        if (path.startsWith("//")) {
+            int schemeEnd = baseUrl.indexOf("://");
+            return schemeEnd < 0 ? "https:" + path : baseUrl.substring(0, schemeEnd + 1) + path;
+        }
+        if (path.contains("://")) return path;
+        try {
+            return URI.create(baseUrl).resolve(path).toString();
+        } catch (IllegalArgumentException e) {
+            return path;
+        }
+    }
+
+    private static String stripQueryAndFragment(String url) {
+        if (url == null) return "";
+        int end = url.length();
+        int query = url.indexOf('?');
+        if (query >= 0) end = query;
+        int fragment = url.indexOf('#');
+        if (fragment >= 0 && fragment < end) end = fragment;
+        return url.substring(0, end);
+    }
+
+    /**
+     * 判断字符串字面量是否以 chunk 后缀结尾且前面是 + 拼接
+     */
+    private static boolean isChunkSuffixLiteral(String text, int start, int end) {
+        char quote = text.charAt(start);
+        if ((quote != '"' && quote != '\'') || end - start < 2 || text.charAt(end - 1) != quote) return false;
+        if (!hasChunkSuffix(text.substring(start + 1, end - 1))) return false;
+        int before = skipWhitespaceBackward(text, start - 1);
+        return before >= 0 && text.charAt(before) == '+';
+    }
+
+    private static boolean hasChunkSuffix(String value) {
+        for (String suffix : CHUNK_SUFFIXES) {
+            if (value.endsWith(suffix)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 二分查找结束位置为 end 的片段 返回片段序号(起始位置的下标), 不存在时返回-1
+     */
+    private static int findSegmentEndingAt(int[] segments, int end) {
+        int low = 0;
+        int high = segments.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int segmentEnd = segments[mid * 2 + 1];
+            if (segmentEnd == end) return mid * 2;
+            if (segmentEnd < end) low = mid + 1;
+            else high = mid - 1;
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(String text, int i) {
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) i++;
+        return i;
+    }
+
+    private static int skipWhitespaceBackward(String text, int i) {
+        while (i >= 0 && Character.isWhitespace(text.charAt(i))) i--;
+        return i;
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '$';
+    }
+
+    private static void addIfNotNull(Set<String> set, String value) {
+        if (value != null) set.add(value);
+    }
+
+    private enum TokenType {STRING, IDENTIFIER, MAP, PLUS, OR, LPAREN, RPAREN}
+
+    private static class Token {
+        private final TokenType type;
+        private final String value;
+        private final Map<String, String> map;
+
+        private Token(TokenType type, String value, Map<String, String> map) {
+            this.type = type;
+            this.value = value;
+            this.map = map;
+        }
+
+        private static Token of(TokenType type) {
+            return new Token(type, null, null);
+        }
+
+        private static Token string(String value) {
+            return new Token(TokenType.STRING, value, null);
+        }
+
+        private static Token identifier(String value) {
+            return new Token(TokenType.IDENTIFIER, value, null);
+        }
+
+        //查表 value 为查表使用的变量名
+        private static Token map(Map<String, String> map, String lookupVar) {
+            return new Token(TokenType.MAP, lookupVar, map);
+        }
+    }
+
+    /**
+     * chunk 文件名的拼接表达式 由字符串、chunk id、查表(可以回退为 chunk id)组成
+     */
+    private static class ChunkExpression {
+        //每个部分: 字符串 | null 表示 chunk id | 查表
+        private final List<Object> parts = new ArrayList<>();
+        private final List<MapLookup> maps = new ArrayList<>();
+        private final Set<String> chunkIds = new LinkedHashSet<>();
+        private boolean hasChunkIdPart;
+
+        private boolean hasChunkId() {
+            return hasChunkIdPart || !maps.isEmpty();
+        }
+
+        /**
+         * 计算所有 chunk 的文件名 存在不能回退的查表(哈希表)时只使用该表中的 chunk id
+         */
+        private List<String> evaluate() {
+            Set<String> ids = new LinkedHashSet<>();
+            MapLookup strictMap = null;
+            for (MapLookup lookup : maps) {
+                if (!lookup.fallbackToId) strictMap = lookup;
+            }
+            if (strictMap != null) {
+                ids.addAll(strictMap.map.keySet());
+            } else {
+                for (MapLookup lookup : maps) ids.addAll(lookup.map.keySet());
+                ids.addAll(chunkIds);
+            }
+
+            List<String> chunkFiles = new ArrayList<>();
+            StringBuilder builder = new StringBuilder();
+            nextId:
+            for (String id : ids) {
+                builder.setLength(0);
+                for (Object part : parts) {
+                    if (part == null) {
+                        builder.append(id);
+                    } else if (part instanceof String) {
+                        builder.append((String) part);
+                    } else {
+                        MapLookup lookup = (MapLookup) part;
+                        String value = lookup.map.get(id);
+                        if (value == null && !lookup.fallbackToId) continue nextId;
+                        builder.append(value == null ? id : value);
                     }
                 }
+                chunkFiles.add(builder.toString());
             }
+            return chunkFiles;
+        }
+    }
+
+    private static class MapLookup {
+        private final Map<String, String> map;
+        private final boolean fallbackToId;
+
+        private MapLookup(Map<String, String> map, boolean fallbackToId) {
+            this.map = map;
+            this.fallbackToId = fallbackToId;
         }
-        return matches;
     }
 
     /**
-     * 最新实现的分块正则匹配常规版本
+     * 按顺序解析token
+     * expr := term ('+' term)*
+     * term := STRING | IDENTIFIER | MAP ('||' IDENTIFIER)? | '(' expr ')' | '(' MAP '||' IDENTIFIER ')'
+     * 以 .p 结尾的标识符为 publicPath, 已在计算地址时处理; 查表使用的变量为 chunk id, 其他标识符不支持
      */
-    public static Set<String> parseWebpackSimpleChunk(String text, int chunkSize) {
-        Set<String> matches = new HashSet<>();
-        int textLength = text.length();
-        for (int start = 0; start < textLength; start += chunkSize) {
-            int end = Math.min(start + chunkSize, textLength);
-            String jsChunk = text.substring(start, end);
-            matches.addAll(parseWebpackSimple(jsChunk));
+    private static class ExpressionParser {
+        private final List<Token> tokens;
+        private int position;
+        private final ChunkExpression expression = new ChunkExpression();
+        private String chunkVar;
+
+        private ExpressionParser(List<Token> tokens, int start) {
+            this.tokens = tokens;
+            this.position = start;
+            for (int i = start; i < tokens.size(); i++) {
+                if (tokens.get(i).type == TokenType.MAP) {
+                    chunkVar = tokens.get(i).value;
+                    break;
+                }
+            }
+        }
+
+        private ChunkExpression parse() {
+            if (!parseExpr() || position != tokens.size()) return null;
+            return expression;
+        }
+
+        private boolean parseExpr() {
+            if (!parseTerm()) return false;
+            while (peek(TokenType.PLUS)) {
+                position++;
+                if (!parseTerm()) return false;
+            }
+            return true;
+        }
+
+        private boolean parseTerm() {
+            if (position >= tokens.size()) return false;
+            Token token = tokens.get(position++);
+            switch (token.type) {
+                case STRING:
+                    expression.parts.add(token.value);
+                    return true;
+                case IDENTIFIER:
+                    return addIdentifier(token.value);
+                case MAP:
+                    boolean fallbackToId = false;
+                    if (peek(TokenType.OR)) {
+                        position++;
+                        if (!peek(TokenType.IDENTIFIER) || !isChunkVar(tokens.get(position).value)) return false;
+                        position++;
+                        fallbackToId = true;
+                    }
+                    MapLookup lookup = new MapLookup(token.map, fallbackToId);
+                    expression.maps.add(lookup);
+                    expression.parts.add(lookup);
+                    return true;
+                case LPAREN:
+                    if (!parseExpr() || !peek(TokenType.RPAREN)) return false;
+                    position++;
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private boolean addIdentifier(String identifier) {
+            //publicPath 在计算地址时拼接
+            if (identifier.endsWith(".p")) return true;
+            if (!isChunkVar(identifier)) return false;
+            expression.parts.add(null);
+            expression.hasChunkIdPart = true;
+            return true;
+        }
+
+        /**
+         * 有查表时 chunk id 为查表使用的变量, 否则为唯一的不含 . 的标识符
+         */
+        private boolean isChunkVar(String identifier) {
+            if (identifier.contains(".")) return false;
+            if (chunkVar == null) chunkVar = identifier;
+            return chunkVar.equals(identifier);
+        }
+
+        private boolean peek(TokenType type) {
+            return position < tokens.size() && tokens.get(position).type == type;
         }
-        return matches;
     }
 
     public static void main(String[] args) {
         String jsFile = "C:\\Users\\WINDOWS\\Desktop\\testdata\\数字型.js";
         String data = BurpFileUtils.readFileToString(jsFile);
         System.out.println(data.length());
-        Set<String> results = parseWebpackSimple(data);
+        Set<String> results = parseChunkUrls(data, "https://www.example.com/static/js/app.js");
         for (String result : results) {
             System.out.println(result);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,164 @@
+package utils;
+
+import com.google.thirdparty.publicsuffix.PublicSuffixPatterns;
+import utilbox.DomainUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 缓存主机对应的主域名 结果与 DomainUtils.getRootDomain 一致
+ * 公共后缀使用 Guava 的后缀数据一次性构建倒序标签字典树, 查询时不再拼接每一级后缀字符串
+ * IP、不在公共后缀下的域名等无法直接计算的主机 交给 DomainUtils.getRootDomain 处理, 结果同样缓存
+ */
+public class RootDomainUtils {
+    //缓存的主机数量上限 超出后整体清空
+    private static final int MAX_CACHE_SIZE = 20000;
+    //结果为null时缓存的占位值
+    private static final String NULL_VALUE = new String();
+
+    //域名各部分的长度限制 与 InternetDomainName 一致
+    private static final int MAX_DOMAIN_LENGTH = 253;
+    private static final int MAX_DOMAIN_PARTS = 127;
+    private static final int MAX_PART_LENGTH = 63;
+
+    private static final byte EXACT = 1;
+    private static final byte UNDER = 2;
+    private static final byte EXCLUDED = 4;
+
+    //读取不加锁
+    private static final ConcurrentHashMap<String, String> ROOT_DOMAIN_CACHE = new ConcurrentHashMap<>();
+    private static final SuffixNode SUFFIX_TRIE = buildSuffixTrie();
+
+    /**
+     * 获取主机的主域名 baidu.com
+     */
+    public static String getRootDomain(String host) {
+        if (host == null) return null;
+
+        String rootDomain = ROOT_DOMAIN_CACHE.get(host);
+        if (rootDomain != null) return rootDomain == NULL_VALUE ? null : rootDomain;
+
+        rootDomain = resolveRootDomain(host);
+        if (ROOT_DOMAIN_CACHE.size() >= MAX_CACHE_SIZE) ROOT_DOMAIN_CACHE.clear();
+        ROOT_DOMAIN_CACHE.put(host, rootDomain == null ? NULL_VALUE : rootDomain);
+        return rootDomain;
+    }
+
+    private static String resolveRootDomain(String host) {
+        String domain = DomainUtils.clearDomainWithoutPort(host);
+        int[] partStarts = splitValidParts(domain);
+        if (partStarts != null) {
+            //公共后缀之前还有部分时 主域名为公共后缀加上前一部分
+            int suffixIndex = findPublicSuffixIndex(domain, partStarts);
+            if (suffixIndex > 0) return domain.substring(partStarts[suffixIndex - 1]);
+        }
+        return DomainUtils.getRootDomain(host);
+    }
+
+    /**
+     * 按 InternetDomainName.findSuffixOfType 的顺序查找公共后缀的起始部分 从最长的后缀开始判断
+     * @return 公共后缀的起始部分序号 没有时返回-1
+     */
+    private static int findPublicSuffixIndex(String domain, int[] partStarts) {
+        int partCount = partStarts.length;
+        //nodes[i] 为 第i部分到末尾 的后缀对应的节点
+        SuffixNode[] nodes = new SuffixNode[partCount];
+        SuffixNode node = SUFFIX_TRIE;
+        int deepest = partCount;
+        for (int i = partCount - 1; i >= 0; i--) {
+            int end = i == partCount - 1 ? domain.length() : partStarts[i + 1] - 1;
+            node = node.getChild(domain.substring(partStarts[i], end));
+            if (node == null) break;
+            nodes[i] = node;
+            deepest = i;
+        }
+
+        for (int i = deepest; i < partCount; i++) {
+            byte flags = nodes[i].flags;
+            if (i > 0 && (flags & UNDER) != 0) return i - 1;
+            if ((flags & EXACT) != 0) return i;
+            if ((flags & EXCLUDED) != 0) return i + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * 校验只包含ASCII字符的域名 返回每一部分的起始位置, 不满足时返回null
+     * 规则与 InternetDomainName 一致: 每部分1-63个字符, 只包含字母数字-_, 不以-_开头结尾, 最后一部分不以数字开头
+     */
+    private static int[] splitValidParts(String domain) {
+        if (domain == null || domain.isEmpty() || domain.length() > MAX_DOMAIN_LENGTH) return null;
+
+        int partCount = 1;
+        for (int i = 0; i < domain.length(); i++) {
+            char c = domain.charAt(i);
+            if (c == '.') {
+                partCount++;
+            } else if (!((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_')) {
+                return null;
+            }
+        }
+        if (partCount > MAX_DOMAIN_PARTS) return null;
+
+        int[] partStarts = new int[partCount];
+        int start = 0;
+        for (int i = 0; i < partCount; i++) {
+            int end = domain.indexOf('.', start);
+            if (end < 0) end = domain.length();
+
+            int length = end - start;
+            if (length < 1 || length > MAX_PART_LENGTH) return null;
+            if (isDash(domain.charAt(start)) || isDash(domain.charAt(end - 1))) return null;
+            if (i == partCount - 1 && Character.isDigit(domain.charAt(start))) return null;
+
+            partStarts[i] = start;
+            start = end + 1;
+        }
+        return partStarts;
+    }
+
+    private static boolean isDash(char c) {
+        return c == '-' || c == '_';
+    }
+
+    /**
+     * 使用 Guava 的公共后缀数据构建倒序标签字典树 com.cn -> cn -> com
+     */
+    private static SuffixNode buildSuffixTrie() {
+        SuffixNode root = new SuffixNode();
+        addSuffixes(root, PublicSuffixPatterns.EXACT.keySet(), EXACT);
+        addSuffixes(root, PublicSuffixPatterns.UNDER.keySet(), UNDER);
+        addSuffixes(root, PublicSuffixPatterns.EXCLUDED.keySet(), EXCLUDED);
+        return root;
+    }
+
+    private static void addSuffixes(SuffixNode root, Iterable<String> suffixes, byte flag) {
+        for (String suffix : suffixes) {
+            SuffixNode node = root;
+            int end = suffix.length();
+            while (end >= 0) {
+                int dot = suffix.lastIndexOf('.', end - 1);
+                node = node.getOrAddChild(suffix.substring(dot + 1, end));
+                end = dot;
+            }
+            node.flags |= flag;
+        }
+    }
+
+    private static class SuffixNode {
+        //没有子节点时为null 减少叶子节点的内存占用
+        private Map<String, SuffixNode> children;
+        private byte flags;
+
+        private SuffixNode getChild(String part) {
+            return children == null ? null : children.get(part);
+        }
+
+        private SuffixNode getOrAddChild(String part) {
+            if (children == null) children = new HashMap<>(4);
+            return children.computeIfAbsent(part, k -> new SuffixNode());
+        }
+    }
+}
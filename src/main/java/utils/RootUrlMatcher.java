@@ -0,0 +1,180 @@
+package utils;
+
+import burp.BurpExtender;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static utils.CastUtils.isEmptyObj;
+
+/**
+ * 按配置预编译的 RootUrl 关键字匹配器 构建后只读, 可多线程共享
+ * 结果与 ElementUtils.isContainOneKey(rootUrl, keys, defaultBool) 一致 (小写后包含任意关键字)
+ * 包含 . 的域名关键字按 . 拆分后倒序存入标签字典树, 其他关键字使用 Aho-Corasick 自动机
+ * 配置列表被整体替换后 下次获取时重新构建, 运行时添加黑名单使用写时复制替换列表
+ */
+public class RootUrlMatcher {
+    private static final RootUrlMatcher EMPTY = new RootUrlMatcher(null);
+
+    //构建时使用的配置列表 用于判断配置是否已被替换
+    private final List<String> keys;
+    //关键字列表为空 返回默认值
+    private final boolean noKeys;
+    //空关键字包含于任意文本
+    private final boolean hasEmptyKey;
+    //不包含 . 的关键字
+    private final AhoCorasickMatcher plainMatcher;
+    //域名关键字的最后一个标签 -> 字典树节点 与文本标签做前缀匹配
+    private final Map<String, LabelNode> rootMap;
+    //最后一个标签的所有长度 从小到大排列, 只需按这些长度截取文本标签的前缀查找
+    private final int[] rootLabelLengths;
+
+    private RootUrlMatcher(List<String> keys) {
+        this.keys = keys;
+        this.noKeys = isEmptyObj(keys);
+
+        boolean emptyKey = false;
+        List<String> plainKeys = new ArrayList<>();
+        Map<String, LabelNode> rootMap = new HashMap<>();
+        if (!noKeys) {
+            for (String key : keys) {
+                if (key == null) continue;
+                String keyFormat = key.toLowerCase();
+                if (keyFormat.isEmpty()) {
+                    emptyKey = true;
+                } else if (keyFormat.indexOf('.') < 0) {
+                    plainKeys.add(keyFormat);
+                } else {
+                    addDomainKey(rootMap, keyFormat);
+                }
+            }
+        }
+
+        this.hasEmptyKey = emptyKey;
+        this.plainMatcher = plainKeys.isEmpty() ? null : new AhoCorasickMatcher(plainKeys);
+        this.rootMap = rootMap;
+        this.rootLabelLengths = rootMap.keySet().stream().mapToInt(String::length).distinct().sorted().toArray();
+    }
+
+    /**
+     * 域名关键字 a.b.c 倒序插入 c -> b, 第一个标签 a 记录在最后的节点上
+     */
+    private static void addDomainKey(Map<String, LabelNode> rootMap, String keyFormat) {
+        String[] labels = splitLabels(keyFormat);
+        LabelNode node = rootMap.computeIfAbsent(labels[labels.length - 1], k -> new LabelNode());
+        for (int i = labels.length - 2; i > 0; i--) {
+            node = node.children.computeIfAbsent(labels[i], k -> new LabelNode());
+        }
+        if (!node.heads.contains(labels[0])) node.heads.add(labels[0]);
+    }
+
+    public static RootUrlMatcher compile(List<String> keys) {
+        return isEmptyObj(keys) ? EMPTY : new RootUrlMatcher(keys);
+    }
+
+    /**
+     * 判断RootUrl是否在白名单中 白名单为空时返回true
+     */
+    public static boolean isWhiteRootUrl(String rootUrl) {
+        RootUrlMatcher matcher = BurpExtender.WHITE_ROOT_URL_COMPILE;
+        if (matcher == null || !matcher.isBuiltFrom(BurpExtender.CONF_WHITE_ROOT_URL)) {
+            matcher = compile(BurpExtender.CONF_WHITE_ROOT_URL);
+            BurpExtender.WHITE_ROOT_URL_COMPILE = matcher;
+        }
+        return matcher.isContainOneKey(rootUrl, true);
+    }
+
+    /**
+     * 判断RootUrl是否在黑名单中 黑名单为空时返回false
+     */
+    public static boolean isBlackRootUrl(String rootUrl) {
+        RootUrlMatcher matcher = BurpExtender.BLACK_ROOT_URL_COMPILE;
+        if (matcher == null || !matcher.isBuiltFrom(BurpExtender.CONF_BLACK_ROOT_URL)) {
+            matcher = compile(BurpExtender.CONF_BLACK_ROOT_URL);
+            BurpExtender.BLACK_ROOT_URL_COMPILE = matcher;
+        }
+        return matcher.isContainOneKey(rootUrl, false);
+    }
+
+    /**
+     * 运行时添加黑名单关键字 复制后整体替换列表, 正在读取旧列表的线程不受影响
+     * @return 是否添加了新的关键字
+     */
+    public static synchronized boolean addBlackRootUrl(String key) {
+        List<String> current = BurpExtender.CONF_BLACK_ROOT_URL;
+        if (isEmptyObj(key) || current.contains(key)) return false;
+
+        List<String> newList = new ArrayList<>(current.size() + 1);
+        newList.addAll(current);
+        newList.add(key);
+        BurpExtender.CONF_BLACK_ROOT_URL = newList;
+        return true;
+    }
+
+    private boolean isBuiltFrom(List<String> currentKeys) {
+        return noKeys ? isEmptyObj(currentKeys) : keys == currentKeys;
+    }
+
+    /**
+     * 判断文本小写后是否包含任意关键字
+     * @param defaultBool 文本或关键字列表为空时返回的默认值
+     */
+    public boolean isContainOneKey(String text, boolean defaultBool) {
+        if (noKeys || isEmptyObj(text)) return defaultBool;
+        if (hasEmptyKey) return true;
+
+        String textFormat = text.toLowerCase();
+        if (plainMatcher != null && plainMatcher.containsAny(textFormat)) return true;
+        return !rootMap.isEmpty() && containsDomainKey(splitLabels(textFormat));
+    }
+
+    /**
+     * 关键字 k1.k2...kn 包含于文本 等价于文本中存在连续标签 s1.s2...sn
+     * 满足 k1 是 s1 的后缀, 中间标签完全相同, kn 是 sn 的前缀
+     */
+    private boolean containsDomainKey(String[] labels) {
+        for (int last = labels.length - 1; last > 0; last--) {
+            String lastLabel = labels[last];
+            for (int length : rootLabelLengths) {
+                if (length > lastLabel.length()) break;
+
+                LabelNode node = rootMap.get(length == lastLabel.length() ? lastLabel : lastLabel.substring(0, length));
+                for (int i = last - 1; i >= 0 && node != null; i--) {
+                    for (String head : node.heads) {
+                        if (labels[i].endsWith(head)) return true;
+                    }
+                    node = node.children.get(labels[i]);
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 按 . 拆分 保留首尾的空标签
+     */
+    private static String[] splitLabels(String text) {
+        int count = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '.') count++;
+        }
+
+        String[] labels = new String[count];
+        int start = 0;
+        for (int i = 0; i < count - 1; i++) {
+            int dot = text.indexOf('.', start);
+            labels[i] = text.substring(start, dot);
+            start = dot + 1;
+        }
+        labels[count - 1] = text.substring(start);
+        return labels;
+    }
+
+    private static class LabelNode {
+        private final Map<String, LabelNode> children = new HashMap<>();
+        //在此节点结束的关键字的第一个标签
+        private final List<String> heads = new ArrayList<>();
+    }
+}
@@ -0,0 +1,165 @@
+package utils;
+
+import EnumType.LocationType;
+import EnumType.MatchType;
+import database.Constants;
+import model.CompiledRule;
+import model.CompiledRule.KeywordGroup;
+import model.CompiledRuleSet;
+import model.FingerPrintRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static utils.BurpPrintUtils.*;
+import static utils.CastUtils.isEmptyObj;
+
+public class RuleCompileUtils {
+    /**
+     * 将指纹规则编译为不可变的 CompiledRuleSet, 忽略关闭的规则和配置规则
+     */
+    public static CompiledRuleSet compileFingerRules(List<FingerPrintRule> fingerprintRules) {
+        List<CompiledRule> compiledRules = new ArrayList<>();
+        if (isEmptyObj(fingerprintRules)) return CompiledRuleSet.EMPTY;
+
+        for (FingerPrintRule rule : fingerprintRules) {
+            //忽略关闭的选项 // 过滤掉配置选项
+            if (!rule.getIsOpen() || rule.getType().startsWith(Constants.RULE_CONF_PREFIX)) {
+                continue;
+            }
+
+            CompiledRule compiledRule = compileFingerRule(rule);
+            if (compiledRule != null) compiledRules.add(compiledRule);
+        }
+
+        stdout_println(LOG_DEBUG, String.format("[+] compile finger rules success: [%s/%s]", compiledRules.size(), fingerprintRules.size()));
+
+        int regexCount = 0;
+        int linearRegexCount = 0;
+        for (CompiledRule compiledRule : compiledRules) {
+            if (!compiledRule.isRegularRule()) continue;
+            regexCount += compiledRule.getRegexCount();
+            linearRegexCount += compiledRule.getLinearRegexCount();
+        }
+        stdout_println(LOG_DEBUG, String.format("[+] linear regex engine support: [%s/%s]", linearRegexCount, regexCount));
+
+        CompiledRuleSet ruleSet = new CompiledRuleSet(compiledRules);
+        for (LocationType locationType : ruleSet.getLocationRules().keySet()) {
+            MultiRegexAutomaton automaton = ruleSet.getRegexAutomaton(locationType);
+            if (automaton != null) stdout_println(LOG_DEBUG, String.format("[+] combined regex scan support: [%s] [%s/%s]", locationType, automaton.getSupportedCount(), automaton.getRegexCount()));
+        }
+        return ruleSet;
+    }
+
+    /**
+     * 编译单条指纹规则, 匹配方式未知时返回null
+     */
+    public static CompiledRule compileFingerRule(FingerPrintRule rule) {
+        MatchType matchType;
+        try {
+            matchType = MatchType.fromValue(rule.getMatchType());
+        } catch (IllegalArgumentException e) {
+            stderr_println(LOG_ERROR, String.format("[!] Error matchType was found!!! %s", e.getMessage()));
+            return null;
+        }
+
+        LocationType locationType;
+        try {
+            locationType = LocationType.fromValue(rule.getLocation());
+        } catch (IllegalArgumentException e) {
+            // 处理未知位置类型，默认为 RESPONSE
+            stderr_println(String.format("Error locationType was found!!! %s", e.getMessage()));
+            locationType = LocationType.RESPONSE;
+        }
+
+        List<String> matchKeys = rule.getMatchKeys() == null ? new ArrayList<>() : rule.getMatchKeys();
+        List<KeywordGroup> keywordGroups = new ArrayList<>();
+        RuleRegex[] regexes = new RuleRegex[0];
+        RuleRegex[] linearRegexes = new RuleRegex[0];
+        List<List<String>> requiredLiterals = new ArrayList<>();
+
+        switch (matchType) {
+            case ANY_KEYWORDS:
+            case ALL_KEYWORDS:
+                for (String matchKey : matchKeys) {
+                    keywordGroups.add(compileKeywordGroup(matchKey));
+                }
+                break;
+            case ANY_REGULAR:
+            case ALL_REGULAR:
+                regexes = new RuleRegex[matchKeys.size()];
+                linearRegexes = new RuleRegex[matchKeys.size()];
+                for (int i = 0; i < matchKeys.size(); i++) {
+                    Pattern pattern = compileRulePattern(matchKeys.get(i));
+                    if (pattern != null) {
+                        regexes[i] = new JdkRuleRegex(pattern);
+                        //语法支持时同时编译线性引擎 匹配时按配置选择
+                        linearRegexes[i] = compileLinearRegex(matchKeys.get(i));
+                    }
+                    //提取正则的必需字面量 用于匹配前的快速过滤
+                    requiredLiterals.add(pattern == null ? null : RegexLiteralUtils.extractRequiredLiterals(matchKeys.get(i)));
+                }
+                break;
+            default:
+                return null;
+        }
+
+        return new CompiledRule(rule, matchType, locationType, keywordGroups, regexes, linearRegexes, requiredLiterals);
+    }
+
+    /**
+     * 解析关键字语法 包含||时按||切割并去除空白, 否则按&&切割, 关键字统一小写
+     */
+    private static KeywordGroup compileKeywordGroup(String matchKey) {
+        //空关键字永远不会命中 使用没有元素的任意匹配模式表示
+        if (isEmptyObj(matchKey)) {
+            return new KeywordGroup(matchKey, true, Collections.emptyList());
+        }
+
+        String matchKeyFormat = matchKey.toLowerCase();
+        if (matchKey.contains("||")) {
+            List<String> keys = new ArrayList<>();
+            for (String element : matchKeyFormat.split(Pattern.quote("||"))) {
+                element = element.trim();
+                if (!element.isEmpty()) keys.add(element);
+            }
+            return new KeywordGroup(matchKey, true, keys);
+        }
+
+        return new KeywordGroup(matchKey, false, Arrays.asList(matchKeyFormat.split(Pattern.quote("&&"))));
+    }
+
+    /**
+     * 编译规则正则 忽略大小写, 编译失败时返回null, 存在回溯风险时输出警告
+     */
+    private static Pattern compileRulePattern(String regular) {
+        try {
+            Pattern pattern = Pattern.compile(regular, Pattern.CASE_INSENSITIVE);
+            //提示可能存在灾难性回溯的正则 运行时由执行预算兜底
+            String risk = RuleGuardUtils.findBacktrackingRisk(regular);
+            if (risk != null) stderr_println(LOG_INFO, String.format("[!] 正则可能存在灾难性回溯: [%s] -> [%s]", regular, risk));
+            return pattern;
+        } catch (PatternSyntaxException e) {
+            stderr_println(LOG_ERROR, "[!] 正则表达式语法错误: " + regular);
+        } catch (NullPointerException e) {
+            stderr_println(LOG_ERROR, "[!] 正则表达式传入null: " + regular);
+        }
+        return null;
+    }
+
+    /**
+     * 使用线性引擎编译规则正则 忽略大小写, 语法不支持(反向引用、环视等)时返回null
+     */
+    private static RuleRegex compileLinearRegex(String regular) {
+        try {
+            return new LinearRuleRegex(com.google.re2j.Pattern.compile(regular, com.google.re2j.Pattern.CASE_INSENSITIVE));
+        } catch (com.google.re2j.PatternSyntaxException e) {
+            stdout_println(LOG_DEBUG, String.format("[*] 正则不支持线性引擎 使用JDK引擎: [%s] -> %s", regular, e.getMessage()));
+        }
+        return null;
+    }
+}
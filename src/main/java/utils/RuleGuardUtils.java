@@ -0,0 +1,264 @@
+package utils;
+
+import model.FingerPrintRule;
+import model.RuleRuntimeState;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+public class RuleGuardUtils {
+    //规则对象 -> 运行状态 规则对象被删除后自动回收
+    private static final Map<FingerPrintRule, RuleRuntimeState> RULE_STATES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    //重复次数上下限相差超过该值时 视为可变长度的大范围重复
+    private static final int LARGE_REPEAT_RANGE = 8;
+
+    /**
+     * 获取规则的运行状态 不存在时创建
+     */
+    public static RuleRuntimeState getRuleState(FingerPrintRule rule) {
+        synchronized (RULE_STATES) {
+            return RULE_STATES.computeIfAbsent(rule, k -> new RuleRuntimeState());
+        }
+    }
+
+    /**
+     * 重置规则的超时次数和隔离状态 规则被修改或重新开启时调用
+     */
+    public static void resetRuleState(FingerPrintRule rule) {
+        RuleRuntimeState state = RULE_STATES.get(rule);
+        if (state != null) state.reset();
+    }
+
+    /**
+     * 判断规则是否已被隔离
+     */
+    public static boolean isQuarantined(FingerPrintRule rule) {
+        RuleRuntimeState state = RULE_STATES.get(rule);
+        return state != null && state.isQuarantined();
+    }
+
+    /**
+     * 静态检查正则是否存在灾难性回溯的结构 存在时返回有风险的片段, 否则返回null
+     * 检查嵌套重复: 一个被大范围重复的分组内部又包含大范围重复, 且分组的每个分支都没有固定的分隔字符
+     * 例如 (a+)+ (.*)* (\w+\s?)* (\d+|\w+)*, 而 ([a-z]+\.)+ 中的 \. 会切断重复的歧义, 不会报告
+     * 仅是启发式检查 不保证覆盖所有情况
+     */
+    public static String findBacktrackingRisk(String regex) {
+        if (regex == null || regex.isEmpty()) return null;
+
+        Deque<GroupState> groups = new ArrayDeque<>();
+        groups.push(new GroupState(0, false));
+
+        //上一个原子的信息 遇到量词时使用
+        GroupState lastGroup = null;
+        boolean lastSeparator = false;
+        boolean hasLastAtom = false;
+
+        int length = regex.length();
+        int i = 0;
+        while (i < length) {
+            char c = regex.charAt(i);
+
+            //量词 作用于上一个原子
+            if (c == '*' || c == '+' || c == '?' || (c == '{' && isRepeatBrace(regex, i))) {
+                int start = i;
+                int min;
+                int max;
+                if (c == '*') {
+                    min = 0;
+                    max = -1;
+                    i++;
+                } else if (c == '+') {
+                    min = 1;
+                    max = -1;
+                    i++;
+                } else if (c == '?') {
+                    min = 0;
+                    max = 1;
+                    i++;
+                } else {
+                    int close = regex.indexOf('}', i);
+                    String[] bounds = regex.substring(i + 1, close).split(",", -1);
+                    min = parseBound(bounds[0], 0);
+                    max = bounds.length == 1 ? min : parseBound(bounds[1], -1);
+                    i = close + 1;
+                }
+
+                //独占量词不会回溯
+                boolean possessive = i < length && regex.charAt(i) == '+';
+                if (i < length && (regex.charAt(i) == '+' || regex.charAt(i) == '?')) i++;
+                if (!hasLastAtom) continue;
+
+                GroupState current = groups.peek();
+                boolean largeRepeat = !possessive && isLargeRepeat(min, max);
+                if (largeRepeat) {
+                    if (lastGroup != null && !lastGroup.atomic && lastGroup.hasRepeat && !lastGroup.hasSeparator()) {
+                        return regex.substring(lastGroup.start, i);
+                    }
+                    current.hasRepeat = true;
+                }
+                if (min == 0 || largeRepeat) lastSeparator = false;
+                continue;
+            }
+
+            //新的原子开始 提交上一个原子
+            commitAtom(groups.peek(), lastGroup, lastSeparator, hasLastAtom);
+            lastGroup = null;
+            lastSeparator = false;
+            hasLastAtom = false;
+
+            switch (c) {
+                case '\\':
+                    if (i + 1 < length && regex.charAt(i + 1) == 'Q') {
+                        int end = regex.indexOf("\\E", i + 2);
+                        i = end < 0 ? length : end + 2;
+                        lastSeparator = true;
+                    } else {
+                        char escaped = i + 1 < length ? regex.charAt(i + 1) : c;
+                        //字符类转义和单词边界等 不是固定的分隔字符
+                        lastSeparator = !Character.isLetter(escaped);
+                        i += 2;
+                    }
+                    hasLastAtom = true;
+                    break;
+                case '[':
+                    i = skipCharClass(regex, i);
+                    lastSeparator = true;
+                    hasLastAtom = true;
+                    break;
+                case '(':
+                    int bodyStart = i + 1;
+                    boolean atomic = false;
+                    if (regex.startsWith("?", bodyStart)) {
+                        //(?i) 这类内联标记不是分组
+                        int flagEnd = bodyStart + 1;
+                        while (flagEnd < length && (Character.isLetter(regex.charAt(flagEnd)) || regex.charAt(flagEnd) == '-')) flagEnd++;
+                        if (flagEnd < length && regex.charAt(flagEnd) == ')' && flagEnd > bodyStart + 1) {
+                            i = flagEnd + 1;
+                            break;
+                        }
+                        atomic = regex.startsWith("?>", bodyStart);
+                    }
+                    groups.push(new GroupState(i, atomic));
+                    i++;
+                    break;
+                case ')':
+                    if (groups.size() > 1) {
+                        lastGroup = groups.pop();
+                        lastGroup.endBranch();
+                        lastSeparator = lastGroup.hasSeparator();
+                        hasLastAtom = true;
+                    }
+                    i++;
+                    break;
+                case '|':
+                    groups.peek().endBranch();
+                    i++;
+                    break;
+                case '^':
+                case '$':
+                    i++;
+                    break;
+                case '.':
+                    hasLastAtom = true;
+                    i++;
+                    break;
+                default:
+                    lastSeparator = true;
+                    hasLastAtom = true;
+                    i++;
+                    break;
+            }
+        }
+        return null;
+    }
+
+    private static void commitAtom(GroupState current, GroupState lastGroup, boolean lastSeparator, boolean hasLastAtom) {
+        if (!hasLastAtom) return;
+        if (lastGroup != null && lastGroup.hasRepeat) current.hasRepeat = true;
+        if (lastSeparator) current.branchSeparator = true;
+    }
+
+    private static boolean isLargeRepeat(int min, int max) {
+        return max < 0 || max - min >= LARGE_REPEAT_RANGE;
+    }
+
+    private static int parseBound(String bound, int defaultValue) {
+        bound = bound.trim();
+        if (bound.isEmpty()) return defaultValue;
+        try {
+            return Integer.parseInt(bound);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 判断 { 是否是 {n} {n,} {n,m} 形式的量词
+     */
+    private static boolean isRepeatBrace(String regex, int index) {
+        int close = regex.indexOf('}', index);
+        if (close < 0) return false;
+        String body = regex.substring(index + 1, close);
+        return body.matches("\\d+(,\\d*)?");
+    }
+
+    /**
+     * 跳过字符类 返回字符类结束后的位置
+     */
+    private static int skipCharClass(String regex, int index) {
+        int depth = 0;
+        int i = index;
+        int length = regex.length();
+        while (i < length) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+                //开头的 ] 和 ^] 是普通字符
+                if (regex.startsWith("]", i + 1)) i++;
+                else if (regex.startsWith("^]", i + 1)) i += 2;
+            } else if (c == ']') {
+                depth--;
+                if (depth == 0) return i + 1;
+            }
+            i++;
+        }
+        return length;
+    }
+
+    /**
+     * 分组的检查状态
+     */
+    private static class GroupState {
+        private final int start;
+        private final boolean atomic;
+        //分组内部存在大范围重复
+        private boolean hasRepeat = false;
+        //当前分支存在固定的分隔字符
+        private boolean branchSeparator = false;
+        //已结束的分支都存在固定的分隔字符
+        private boolean allBranchSeparator = true;
+
+        private GroupState(int start, boolean atomic) {
+            this.start = start;
+            this.atomic = atomic;
+        }
+
+        private void endBranch() {
+            allBranchSeparator = allBranchSeparator && branchSeparator;
+            branchSeparator = false;
+        }
+
+        private boolean hasSeparator() {
+            return allBranchSeparator;
+        }
+    }
+}
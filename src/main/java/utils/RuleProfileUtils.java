@@ -0,0 +1,64 @@
+package utils;
+
+import com.alibaba.fastjson2.JSON;
+import com.alibaba.fastjson2.JSONArray;
+import com.alibaba.fastjson2.JSONObject;
+import com.alibaba.fastjson2.JSONWriter;
+import database.Constants;
+import model.FingerPrintRule;
+import model.RuleRuntimeState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RuleProfileUtils {
+    /**
+     * 纳秒转换为毫秒 保留两位小数
+     */
+    public static double nanosToMillis(long nanos) {
+        return Math.round(nanos / 10000.0) / 100.0;
+    }
+
+    /**
+     * 导出规则的性能统计 按总耗时倒序排列, 忽略配置规则
+     */
+    public static String profilesToJsonString(List<FingerPrintRule> fingerprintRules) {
+        List<FingerPrintRule> rules = new ArrayList<>();
+        for (FingerPrintRule rule : fingerprintRules) {
+            if (!rule.getType().startsWith(Constants.RULE_CONF_PREFIX)) rules.add(rule);
+        }
+        rules.sort((a, b) -> Long.compare(RuleGuardUtils.getRuleState(b).getTotalNanos(), RuleGuardUtils.getRuleState(a).getTotalNanos()));
+
+        JSONArray profiles = new JSONArray();
+        for (FingerPrintRule rule : rules) {
+            RuleRuntimeState state = RuleGuardUtils.getRuleState(rule);
+            long invocations = state.getInvocations();
+
+            JSONObject profile = new JSONObject();
+            profile.put("type", rule.getType());
+            profile.put("describe", rule.getDescribe());
+            profile.put("matchType", rule.getMatchType());
+            profile.put("location", rule.getLocation());
+            profile.put("isOpen", rule.getIsOpen());
+            profile.put("invocations", invocations);
+            profile.put("totalMillis", nanosToMillis(state.getTotalNanos()));
+            profile.put("avgMillis", invocations == 0 ? 0 : nanosToMillis(state.getTotalNanos() / invocations));
+            profile.put("p99Millis", nanosToMillis(state.getP99Nanos()));
+            profile.put("hits", state.getHits());
+            profile.put("scannedChars", state.getScannedChars());
+            profile.put("strikes", state.getStrikes());
+            profile.put("quarantined", state.isQuarantined());
+            profiles.add(profile);
+        }
+        return JSON.toJSONString(profiles, JSONWriter.Feature.PrettyFormat);
+    }
+
+    /**
+     * 清空所有规则的性能统计 不影响隔离状态
+     */
+    public static void resetProfiles(List<FingerPrintRule> fingerprintRules) {
+        for (FingerPrintRule rule : fingerprintRules) {
+            RuleGuardUtils.getRuleState(rule).resetProfile();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package utils;
+
+import java.util.Set;
+
+/**
+ * 规则正则的匹配引擎
+ * JDK引擎支持全部语法但可能回溯, 需要分块匹配; 线性引擎的匹配耗时与文本长度成线性关系, 直接匹配整个文本
+ */
+public interface RuleRegex {
+    /**
+     * 原始正则
+     */
+    String pattern();
+
+    /**
+     * 是否为线性时间的引擎
+     */
+    boolean isLinear();
+
+    /**
+     * 提取文本中所有有价值的匹配内容 有捕获组时只保留第一个捕获组
+     * 文本为 DeadlineCharSequence 时 超出执行预算会抛出 BudgetExceededException 由调用方处理
+     * @param chunkSize 分块大小 线性引擎忽略
+     * @param overlap 相邻分块的重叠长度 线性引擎忽略
+     */
+    Set<String> extractInfo(CharSequence text, int chunkSize, int overlap);
+}
@@ -0,0 +1,133 @@
+package utils;
+
+import burp.IProxyScanner;
+import model.HttpUrlInfo;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static utils.CastUtils.isEmptyObj;
+
+/**
+ * 按主机记录已经提取并通过过滤的URL和PATH 同一主机再次提取到时直接跳过, 不再过滤、拼接和合并到主机结果
+ * 每个URI只保存64位哈希, 主机之间按最近使用淘汰
+ * 相对PATH拼接出的URL与请求目录有关 哈希中包含请求目录, 查询参数开头的PATH包含请求文件
+ */
+public class SeenUriUtils {
+    //单个主机最多记录的URI数量 超出后不再记录新的URI
+    private static final int MAX_HOST_URIS = 1 << 17;
+    private static final int INIT_HOST_URIS = 256;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    //按访问顺序排列 超出容量时移除最久未使用的主机
+    private static final LinkedHashMap<String, LongHashSet> HOST_SEEN_MAP = new LinkedHashMap<String, LongHashSet>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LongHashSet> eldest) {
+            return size() > IProxyScanner.seenUriHostSize;
+        }
+    };
+
+    public static boolean isEnabled() {
+        return IProxyScanner.seenUriHostSize > 0;
+    }
+
+    /**
+     * 获取主机已记录的URI集合 不存在时创建, 未启用时返回null
+     */
+    public static LongHashSet getHostSeenSet(String rootUrl) {
+        if (!isEnabled() || rootUrl == null) return null;
+        synchronized (HOST_SEEN_MAP) {
+            return HOST_SEEN_MAP.computeIfAbsent(rootUrl, k -> new LongHashSet(INIT_HOST_URIS));
+        }
+    }
+
+    /**
+     * 移除主机已经记录的URI
+     * @param seenSet 主机已记录的URI集合 为null时不处理
+     * @param uriList URL列表或PATH列表
+     * @param reqUrlInfo 提取PATH的请求 URL列表时为null
+     * @return 没有记录过的URI
+     */
+    public static List<String> removeSeenUris(LongHashSet seenSet, List<String> uriList, HttpUrlInfo reqUrlInfo) {
+        if (seenSet == null || isEmptyObj(uriList)) return uriList;
+
+        //记录的是过滤后格式化的URL 查询前按相同规则格式化, 解析URL不放在锁内
+        long[] uriKeys = new long[uriList.size()];
+        for (int i = 0; i < uriKeys.length; i++) {
+            String uri = uriList.get(i);
+            if (reqUrlInfo == null) {
+                String formatUrl = UriFilterChain.formatUrl(uri);
+                if (formatUrl != null) uri = formatUrl;
+            }
+            uriKeys[i] = calcUriKey(uri, reqUrlInfo);
+        }
+
+        List<String> newUriList = new ArrayList<>();
+        synchronized (seenSet) {
+            for (int i = 0; i < uriKeys.length; i++) {
+                if (!seenSet.contains(uriKeys[i])) newUriList.add(uriList.get(i));
+            }
+        }
+        return newUriList;
+    }
+
+    /**
+     * 记录通过过滤的URI URL列表已经过格式化
+     */
+    public static void addSeenUris(LongHashSet seenSet, List<String> uriList, HttpUrlInfo reqUrlInfo) {
+        if (seenSet == null || isEmptyObj(uriList)) return;
+
+        synchronized (seenSet) {
+            for (String uri : uriList) {
+                if (seenSet.size() >= MAX_HOST_URIS) return;
+                seenSet.add(calcUriKey(uri, reqUrlInfo));
+            }
+        }
+    }
+
+    /**
+     * 主机结果被删除后 移除对应主机的记录
+     */
+    public static void removeHosts(List<String> rootUrls) {
+        synchronized (HOST_SEEN_MAP) {
+            for (String rootUrl : rootUrls) {
+                HOST_SEEN_MAP.remove(rootUrl);
+            }
+        }
+    }
+
+    /**
+     * 清空所有主机的记录
+     */
+    public static void clear() {
+        synchronized (HOST_SEEN_MAP) {
+            HOST_SEEN_MAP.clear();
+        }
+    }
+
+    /**
+     * 计算URI的哈希 相对PATH依次计算请求目录(或请求文件)和PATH, 不拼接字符串
+     */
+    private static long calcUriKey(String uri, HttpUrlInfo reqUrlInfo) {
+        long hash = FNV_OFFSET;
+        if (reqUrlInfo != null && !uri.startsWith("/")) {
+            boolean fileRelative = uri.startsWith("?") || uri.startsWith("#");
+            hash = updateHash(hash, fileRelative ? reqUrlInfo.getPathToFile() : reqUrlInfo.getPathToDir());
+        }
+        return updateHash(hash, uri);
+    }
+
+    private static long updateHash(long hash, String text) {
+        if (text == null) return hash;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
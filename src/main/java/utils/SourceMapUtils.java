@@ -0,0 +1,223 @@
+package utils;
+
+import com.alibaba.fastjson2.JSONException;
+import com.alibaba.fastjson2.JSONReader;
+import model.HttpMsgInfo;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static utils.BurpPrintUtils.*;
+
+/**
+ * 流式读取 Source Map(.map) 中的原始源码 不构建完整的JSON对象
+ * sourcesContent 中的源码逐个回调处理, 同一时刻只保留一个源文件的文本, mappings 等字段直接跳过
+ * 响应体可能因存储长度限制被截断, 截断前已完整读取的源文件仍会回调
+ */
+public class SourceMapUtils {
+    //脚本末尾指向 Source Map 的注释
+    private static final String[] SOURCE_MAPPING_MARKS = {"//# sourceMappingURL=", "//@ sourceMappingURL="};
+    //防止JSON劫持的前缀 规范允许出现在 Source Map 开头
+    private static final String XSSI_PREFIX = ")]}'";
+
+    /**
+     * 判断响应是否是 Source Map 文件
+     */
+    public static boolean isSourceMapResponse(HttpMsgInfo msgInfo) {
+        if (!"map".equalsIgnoreCase(msgInfo.getUrlInfo().getSuffix())) return false;
+        ByteSlice bodySlice = msgInfo.getRespInfo().getBodySlice();
+        int end = bodySlice.getOffset() + bodySlice.getLength();
+        int start = skipPrefix(bodySlice.getArray(), bodySlice.getOffset(), end);
+        return start < end && bodySlice.getArray()[start] == '{';
+    }
+
+    /**
+     * 查找JS文本末尾注释中的 Source Map 地址 不存在时返回null
+     */
+    public static String findSourceMappingUrl(String jsText) {
+        for (String mark : SOURCE_MAPPING_MARKS) {
+            int index = jsText.lastIndexOf(mark);
+            if (index < 0) continue;
+
+            int start = index + mark.length();
+            int end = start;
+            while (end < jsText.length() && !Character.isWhitespace(jsText.charAt(end))) end++;
+            if (end > start) return jsText.substring(start, end);
+        }
+        return null;
+    }
+
+    /**
+     * 计算 Source Map 的完整地址
+     */
+    public static String resolveSourceMapUrl(String scriptUrl, String sourceMapUrl) {
+        return RespWebpackJsParser.resolveUrl(scriptUrl, sourceMapUrl);
+    }
+
+    /**
+     * 获取源文件名称的小写后缀 忽略 webpack:// 等名称中的查询参数, 没有后缀时返回空字符串
+     */
+    public static String getSourceSuffix(String source) {
+        int end = source.length();
+        int query = source.indexOf('?');
+        if (query >= 0) end = query;
+        int fragment = source.indexOf('#');
+        if (fragment >= 0 && fragment < end) end = fragment;
+
+        int slash = source.lastIndexOf('/', end - 1);
+        int dot = source.lastIndexOf('.', end - 1);
+        return dot > slash ? source.substring(dot + 1, end).toLowerCase() : "";
+    }
+
+    /**
+     * 解码内联在 data: 地址中的 Source Map 不是 data: 地址或解码失败时返回null
+     */
+    public static byte[] decodeDataUrl(String url) {
+        if (!url.regionMatches(true, 0, "data:", 0, 5)) return null;
+        int comma = url.indexOf(',');
+        if (comma < 0) return null;
+
+        String meta = url.substring(5, comma);
+        String data = url.substring(comma + 1);
+        try {
+            if (meta.toLowerCase().endsWith(";base64")) return Base64.getDecoder().decode(data);
+            return URLDecoder.decode(data, "UTF-8").getBytes(StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 逐个读取 Source Map 中的原始源码 支持包含 sections 的索引 Source Map
+     * @param bytes Source Map 数据
+     * @param offset 起始位置
+     * @param length 数据长度
+     * @param consumer 源文件名称和源码 没有对应名称时名称为null
+     * @return 读取的源文件数量
+     */
+    public static int readSources(byte[] bytes, int offset, int length, BiConsumer<String, String> consumer) {
+        int end = offset + length;
+        int start = skipPrefix(bytes, offset, end);
+        int[] count = {0};
+        try (JSONReader reader = JSONReader.of(bytes, start, end - start, StandardCharsets.UTF_8)) {
+            readMapObject(reader, consumer, count);
+        } catch (JSONException e) {
+            //数据被截断或格式错误 保留已读取的源文件
+            stdout_println(LOG_DEBUG, String.format("[-] Source Map 读取中断: [%s] %s", count[0], e.getMessage()));
+        }
+        return count[0];
+    }
+
+    private static void readMapObject(JSONReader reader, BiConsumer<String, String> consumer, int[] count) {
+        if (!reader.nextIfObjectStart()) {
+            reader.skipValue();
+            return;
+        }
+
+        String sourceRoot = "";
+        List<String> sources = Collections.emptyList();
+        while (!reader.nextIfObjectEnd()) {
+            String fieldName = reader.readFieldName();
+            if (fieldName == null) throw new JSONException("unexpected end of source map");
+
+            switch (fieldName) {
+                case "sourceRoot":
+                    String root = reader.readString();
+                    sourceRoot = root == null ? "" : root;
+                    break;
+                case "sources":
+                    sources = readStringArray(reader);
+                    break;
+                case "sourcesContent":
+                    readSourcesContent(reader, sourceRoot, sources, consumer, count);
+                    break;
+                case "sections":
+                    //索引 Source Map 每个 section 中包含完整的 map 对象
+                    if (!reader.nextIfArrayStart()) {
+                        reader.skipValue();
+                        break;
+                    }
+                    while (!reader.nextIfArrayEnd()) {
+                        readSection(reader, consumer, count);
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+    }
+
+    private static void readSection(JSONReader reader, BiConsumer<String, String> consumer, int[] count) {
+        if (!reader.nextIfObjectStart()) {
+            reader.skipValue();
+            return;
+        }
+        while (!reader.nextIfObjectEnd()) {
+            String fieldName = reader.readFieldName();
+            if (fieldName == null) throw new JSONException("unexpected end of source map");
+            if ("map".equals(fieldName)) {
+                readMapObject(reader, consumer, count);
+            } else {
+                reader.skipValue();
+            }
+        }
+    }
+
+    /**
+     * 读取源码数组 sources 出现在 sourcesContent 之后时源文件名称为null
+     */
+    private static void readSourcesContent(JSONReader reader, String sourceRoot, List<String> sources, BiConsumer<String, String> consumer, int[] count) {
+        if (!reader.nextIfArrayStart()) {
+            reader.skipValue();
+            return;
+        }
+
+        int index = 0;
+        while (!reader.nextIfArrayEnd()) {
+            String content = reader.readString();
+            if (content != null && !content.isEmpty()) {
+                String source = index < sources.size() ? sources.get(index) : null;
+                consumer.accept(source == null ? null : sourceRoot + source, content);
+                count[0]++;
+            }
+            index++;
+        }
+    }
+
+    private static List<String> readStringArray(JSONReader reader) {
+        if (!reader.nextIfArrayStart()) {
+            reader.skipValue();
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>();
+        while (!reader.nextIfArrayEnd()) {
+            values.add(reader.readString());
+        }
+        return values;
+    }
+
+    /**
+     * 跳过开头的BOM、空白和防止JSON劫持的前缀行
+     */
+    private static int skipPrefix(byte[] bytes, int start, int end) {
+        int i = start;
+        if (end - i >= 3 && bytes[i] == (byte) 0xEF && bytes[i + 1] == (byte) 0xBB && bytes[i + 2] == (byte) 0xBF) i += 3;
+        i = skipWhitespace(bytes, i, end);
+        if (end - i >= XSSI_PREFIX.length() && new String(bytes, i, XSSI_PREFIX.length(), StandardCharsets.ISO_8859_1).equals(XSSI_PREFIX)) {
+            while (i < end && bytes[i] != '\n') i++;
+            i = skipWhitespace(bytes, i, end);
+        }
+        return i;
+    }
+
+    private static int skipWhitespace(byte[] bytes, int start, int end) {
+        int i = start;
+        while (i < end && (bytes[i] == ' ' || bytes[i] == '\t' || bytes[i] == '\r' || bytes[i] == '\n')) i++;
+        return i;
+    }
+}
@@ -0,0 +1,270 @@
+package utils;
+
+import burp.BurpExtender;
+import model.HttpUrlInfo;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static utils.BurpPrintUtils.*;
+import static utils.CastUtils.isEmptyObj;
+
+/**
+ * 按当前配置预编译的 URL|PATH 过滤链 构建后只读, 可多线程共享
+ * 每个候选URL只解析一次, 一次遍历中依次判断所有过滤条件, 结果与逐个调用 AnalyseUriFilter 的过滤方法一致
+ * 包含关键字使用 Aho-Corasick 自动机, 后缀和完整路径使用哈希集合
+ * 配置列表被整体替换后 下次获取时重新构建
+ */
+public class UriFilterChain {
+    //构建时使用的配置列表 用于判断配置是否已被替换
+    private final List<String> blackRootUrls;
+    private final List<String> blackPathKeys;
+    private final List<String> blackSuffixes;
+    private final List<String> blackPathEquals;
+
+    private final KeywordMatcher blackHostMatcher;
+    private final KeywordMatcher blackPathMatcher;
+    private final Set<String> blackSuffixSet;
+    private final Set<String> blackPathEqualSet;
+
+    private UriFilterChain(List<String> blackRootUrls, List<String> blackPathKeys, List<String> blackSuffixes, List<String> blackPathEquals) {
+        this.blackRootUrls = blackRootUrls;
+        this.blackPathKeys = blackPathKeys;
+        this.blackSuffixes = blackSuffixes;
+        this.blackPathEquals = blackPathEquals;
+
+        this.blackHostMatcher = KeywordMatcher.compile(blackRootUrls);
+        this.blackPathMatcher = KeywordMatcher.compile(blackPathKeys);
+        this.blackSuffixSet = toLowerCaseSet(blackSuffixes);
+        this.blackPathEqualSet = toLowerCaseSet(blackPathEquals);
+    }
+
+    /**
+     * 根据当前的配置列表构建过滤链
+     */
+    public static UriFilterChain compile() {
+        return new UriFilterChain(BurpExtender.CONF_BLACK_ROOT_URL, BurpExtender.CONF_BLACK_URI_PATH_KEYS,
+                BurpExtender.CONF_BLACK_URI_EXT_EQUAL, BurpExtender.CONF_BLACK_EXTRACT_PATH_EQUAL);
+    }
+
+    /**
+     * 获取当前生效的过滤链 配置列表被替换(如界面中添加黑名单主机)后重新构建并替换快照
+     */
+    public static UriFilterChain getCurrent() {
+        UriFilterChain chain = BurpExtender.URI_FILTER_COMPILE;
+        if (chain == null || !chain.isBuiltFromCurrentConfig()) {
+            chain = compile();
+            BurpExtender.URI_FILTER_COMPILE = chain;
+        }
+        return chain;
+    }
+
+    private boolean isBuiltFromCurrentConfig() {
+        return blackRootUrls == BurpExtender.CONF_BLACK_ROOT_URL
+                && blackPathKeys == BurpExtender.CONF_BLACK_URI_PATH_KEYS
+                && blackSuffixes == BurpExtender.CONF_BLACK_URI_EXT_EQUAL
+                && blackPathEquals == BurpExtender.CONF_BLACK_EXTRACT_PATH_EQUAL;
+    }
+
+    /**
+     * 过滤URL列表 去重后对每个URL格式化, 并过滤黑名单主机、路径、后缀, 请求URL自身包含的URL 和非主域名的URL
+     * @param reqUrl 提取URL的请求 为空时不进行自身包含和主域名过滤
+     * @return 格式化后的URL列表
+     */
+    public List<String> filterUrls(String reqUrl, List<String> urlList, boolean onlyScopeDomain) {
+        //跳过空列表的情况
+        if (isEmptyObj(urlList)) return urlList;
+
+        String baseUrl = null;
+        String baseRootDomain = null;
+        if (!isEmptyObj(reqUrl)) {
+            HttpUrlInfo reqUrlInfo = UrlInfoCacheUtils.getUrlInfo(reqUrl);
+            baseUrl = reqUrlInfo.getRawUrlUsual();
+            baseRootDomain = onlyScopeDomain ? reqUrlInfo.getRootDomain() : null;
+        }
+
+        List<String> newUrlList = new ArrayList<>();
+        for (String rawUrl : CastUtils.deduplicateStringList(urlList)) {
+            UrlView urlView = UrlView.parse(rawUrl);
+            //无法解析的URL
+            if (urlView == null) continue;
+
+            //过滤黑名单host
+            if (blackHostMatcher.containsAny(urlView.rootUrlUsual)) continue;
+
+            //过滤黑名单Path
+            if (blackPathMatcher.containsAny(urlView.path)) {
+                stdout_println(LOG_DEBUG, String.format("[*] Black Paths Filter %s", urlView.url));
+                continue;
+            }
+
+            //过滤黑名单suffix
+            if (isBlackSuffix(urlView.url)) continue;
+
+            //过滤自身包含的URL (包含说明相同)
+            if (!isEmptyObj(baseUrl) && baseUrl.contains(urlView.url)) continue;
+
+            //仅保留主域名相关URL
+            if (!isEmptyObj(baseRootDomain) && !urlView.host.contains(baseRootDomain)) continue;
+
+            newUrlList.add(urlView.url);
+        }
+        return newUrlList;
+    }
+
+    /**
+     * 按过滤URL列表时的规则格式化URL 去除默认端口, 没有路径时补充 /, 无法解析时返回null
+     */
+    public static String formatUrl(String rawUrl) {
+        UrlView urlView = UrlView.parse(rawUrl);
+        return urlView == null ? null : urlView.url;
+    }
+
+    /**
+     * 过滤PATH列表 去重后过滤请求路径自身包含的、包含禁止关键字的、等于禁止路径的、黑名单后缀的PATH
+     * @param reqPath 提取PATH的请求路径
+     * @param filterChinese 是否过滤包含中文的PATH
+     */
+    public List<String> filterPaths(String reqPath, List<String> pathList, boolean filterChinese) {
+        //跳过空列表的情况
+        if (isEmptyObj(pathList)) return pathList;
+
+        boolean checkSelfContain = !isEmptyObj(reqPath);
+        List<String> newPathList = new ArrayList<>();
+        for (String path : CastUtils.deduplicateStringList(pathList)) {
+            //过滤自身包含的Path (包含说明相同)
+            if (checkSelfContain && reqPath.contains(path)) continue;
+
+            //过滤包含禁止关键字的PATH
+            if (blackPathMatcher.containsAny(path)) continue;
+
+            //过滤等于禁止PATH的PATH
+            if (!isEmptyObj(path) && blackPathEqualSet.contains(path.toLowerCase())) continue;
+
+            //过滤黑名单suffix
+            if (isBlackSuffix(path)) continue;
+
+            //过滤包含中文的PATH
+            if (filterChinese && containsChinese(path)) continue;
+
+            newPathList.add(path);
+        }
+        return newPathList;
+    }
+
+    /**
+     * 粗略获取URI的后缀并判断是否在黑名单中 与 AnalyseUriFilter.filterBlackSuffixes 一致
+     */
+    private boolean isBlackSuffix(String uri) {
+        if (blackSuffixSet.isEmpty()) return false;
+
+        int end = uri.indexOf('?');
+        if (end < 0) end = uri.length();
+        int dot = uri.lastIndexOf('.', end - 1);
+        if (dot < 0) return false;
+
+        String suffix = uri.substring(dot + 1, end).toLowerCase();
+        return !isEmptyObj(suffix) && blackSuffixSet.contains(suffix);
+    }
+
+    private static boolean containsChinese(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '\u4E00' && c <= '\u9FA5') return true;
+        }
+        return false;
+    }
+
+    private static Set<String> toLowerCaseSet(List<String> elements) {
+        if (isEmptyObj(elements)) return Collections.emptySet();
+        Set<String> set = new HashSet<>();
+        for (String element : elements) {
+            set.add(element.toLowerCase());
+        }
+        return set;
+    }
+
+    /**
+     * 小写后包含任意关键字的判断 空关键字包含于任意文本, 空白文本不包含任何关键字
+     */
+    private static class KeywordMatcher {
+        private static final KeywordMatcher EMPTY = new KeywordMatcher(null, false);
+
+        private final AhoCorasickMatcher matcher;
+        private final boolean hasEmptyKey;
+
+        private KeywordMatcher(AhoCorasickMatcher matcher, boolean hasEmptyKey) {
+            this.matcher = matcher;
+            this.hasEmptyKey = hasEmptyKey;
+        }
+
+        private static KeywordMatcher compile(List<String> keys) {
+            if (isEmptyObj(keys)) return EMPTY;
+
+            List<String> keysFormat = new ArrayList<>();
+            boolean hasEmptyKey = false;
+            for (String key : keys) {
+                if (key.isEmpty()) hasEmptyKey = true;
+                else keysFormat.add(key.toLowerCase());
+            }
+            return new KeywordMatcher(new AhoCorasickMatcher(keysFormat), hasEmptyKey);
+        }
+
+        private boolean containsAny(String text) {
+            if (matcher == null || isEmptyObj(text)) return false;
+            return hasEmptyKey || matcher.containsAny(text.toLowerCase());
+        }
+    }
+
+    /**
+     * 只解析一次的URL视图 格式化规则与 HttpUrlInfo.getRawUrlUsual 一致
+     */
+    private static class UrlView {
+        //格式化后的URL 去除默认端口, 没有路径时补充 /
+        private String url;
+        private String host;
+        private String path;
+        private String rootUrlUsual;
+
+        private static UrlView parse(String rawUrl) {
+            try {
+                URL urlObj = new URL(rawUrl);
+                String proto = urlObj.getProtocol();
+                int port = urlObj.getPort();
+
+                //去除URL中的默认端口 没有路径时补充 /
+                String urlString = rawUrl;
+                if (port < 0 || (port == 80 && proto.equalsIgnoreCase("http")) || (port == 443 && proto.equalsIgnoreCase("https"))) {
+                    urlString = urlString.replaceFirst(urlObj.getHost() + ":" + port, urlObj.getHost());
+                }
+                if (urlObj.getPath().equals("")) {
+                    urlString = urlString + "/";
+                }
+                //格式化后的URL与原URL不同时 重新解析格式化后的URL
+                if (!urlString.equals(rawUrl)) {
+                    urlObj = new URL(urlString);
+                    proto = urlObj.getProtocol();
+                    port = urlObj.getPort();
+                }
+
+                UrlView urlView = new UrlView();
+                urlView.url = urlObj.toString();
+                urlView.host = urlObj.getHost();
+                urlView.path = urlObj.getPath();
+
+                if (port < 0) port = urlObj.getDefaultPort();
+                boolean defaultPort = port < 0 || (port == 80 && proto.equalsIgnoreCase("http")) || (port == 443 && proto.equalsIgnoreCase("https"));
+                urlView.rootUrlUsual = String.format("%s://%s/", proto, defaultPort ? urlView.host : urlView.host + ":" + port);
+                return urlView;
+            } catch (MalformedURLException e) {
+                stderr_println(LOG_DEBUG, String.format("[!] new URL(%s) -> Error: %s", rawUrl, e.getMessage()));
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package utils;
+
+import burp.IProxyScanner;
+import model.HttpUrlInfo;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static utils.BurpPrintUtils.*;
+
+/**
+ * 缓存URL的解析结果 相同的URL(RootUrl、未访问URL等)在多处重复解析时只解析一次
+ * HttpUrlInfo 的格式化字段只与URL有关, 缓存中的对象可以多线程共享
+ */
+public class UrlInfoCacheUtils {
+    //每查询多少次输出一次命中统计
+    private static final long STATS_LOG_INTERVAL = 100000;
+
+    private static long hitCount = 0;
+    private static long missCount = 0;
+
+    //按访问顺序排列 超出容量时移除最久未使用的条目
+    private static final LinkedHashMap<String, HttpUrlInfo> URL_INFO_CACHE = new LinkedHashMap<String, HttpUrlInfo>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, HttpUrlInfo> eldest) {
+            return size() > IProxyScanner.urlInfoCacheSize;
+        }
+    };
+
+    public static boolean isEnabled() {
+        return IProxyScanner.urlInfoCacheSize > 0;
+    }
+
+    /**
+     * 获取URL的解析结果 未命中时解析并加入缓存, 未启用时直接解析
+     */
+    public static HttpUrlInfo getUrlInfo(String url) {
+        if (!isEnabled() || url == null) return new HttpUrlInfo(url);
+
+        boolean logStats;
+        synchronized (URL_INFO_CACHE) {
+            HttpUrlInfo urlInfo = URL_INFO_CACHE.get(url);
+            if (urlInfo != null) {
+                hitCount++;
+                return urlInfo;
+            }
+            missCount++;
+            logStats = (hitCount + missCount) % STATS_LOG_INTERVAL == 0;
+        }
+        if (logStats) stdout_println(LOG_DEBUG, String.format("[*] url info cache: %s", getStatsInfo()));
+
+        //解析不在锁内进行 并发解析同一URL时保留先放入的结果
+        HttpUrlInfo urlInfo = new HttpUrlInfo(url);
+        synchronized (URL_INFO_CACHE) {
+            HttpUrlInfo existing = URL_INFO_CACHE.putIfAbsent(url, urlInfo);
+            return existing != null ? existing : urlInfo;
+        }
+    }
+
+    public static long getHitCount() {
+        synchronized (URL_INFO_CACHE) {
+            return hitCount;
+        }
+    }
+
+    public static long getMissCount() {
+        synchronized (URL_INFO_CACHE) {
+            return missCount;
+        }
+    }
+
+    /**
+     * 命中统计信息 size、hit、miss、命中率
+     */
+    public static String getStatsInfo() {
+        synchronized (URL_INFO_CACHE) {
+            long total = hitCount + missCount;
+            double hitRate = total == 0 ? 0 : hitCount * 100.0 / total;
+            return String.format("size=%s hit=%s miss=%s hitRate=%.2f%%", URL_INFO_CACHE.size(), hitCount, missCount, hitRate);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基础URL只解析一次的URL和路径拼接 结果与 new URI(baseUrl).resolve(path).toString() 一致
+ * 只处理常见的绝对路径和相对路径, 其他情况返回null 由调用方使用 URI 处理:
+ * 包含 URI 不允许或需要转义的字符、带协议或 // 开头的地址、查询参数或锚点开头、连续的 /、超出根目录的 ..
+ */
+public class UrlPathResolver {
+    private static final int ASCII_SIZE = 128;
+    //路径中允许的字符 字母数字 -_.!~*'() ;/:@&=+$, 和 %转义
+    private static final boolean[] PATH_CHARS = new boolean[ASCII_SIZE];
+    //查询参数和锚点中额外允许的字符
+    private static final boolean[] QUERY_CHARS = new boolean[ASCII_SIZE];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) PATH_CHARS[c] = true;
+        for (char c = 'A'; c <= 'Z'; c++) PATH_CHARS[c] = true;
+        for (char c = '0'; c <= '9'; c++) PATH_CHARS[c] = true;
+        for (char c : "-_.!~*'();/:@&=+$,%".toCharArray()) PATH_CHARS[c] = true;
+        System.arraycopy(PATH_CHARS, 0, QUERY_CHARS, 0, ASCII_SIZE);
+        QUERY_CHARS['?'] = true;
+    }
+
+    //协议和主机部分 http://www.baidu.com:8080
+    private final String prefix;
+    //基础路径的目录部分 /path/to/
+    private final String baseDir;
+
+    private UrlPathResolver(String prefix, String baseDir) {
+        this.prefix = prefix;
+        this.baseDir = baseDir;
+    }
+
+    /**
+     * 解析基础URL 不是 协议://主机[:端口]/路径 格式时返回null
+     */
+    public static UrlPathResolver parse(String baseUrl) {
+        if (baseUrl == null) return null;
+
+        int schemeEnd = baseUrl.indexOf("://");
+        if (!isValidScheme(baseUrl, schemeEnd)) return null;
+
+        int authorityStart = schemeEnd + 3;
+        int pathStart = authorityStart;
+        while (pathStart < baseUrl.length() && "/?#".indexOf(baseUrl.charAt(pathStart)) < 0) pathStart++;
+        if (!isValidAuthority(baseUrl, authorityStart, pathStart)) return null;
+        //没有路径时 URI 会把相对路径直接拼接到主机后
+        if (pathStart >= baseUrl.length() || baseUrl.charAt(pathStart) != '/') return null;
+
+        int pathEnd = pathStart;
+        while (pathEnd < baseUrl.length() && "?#".indexOf(baseUrl.charAt(pathEnd)) < 0) pathEnd++;
+        if (!isValidChars(baseUrl, pathStart, pathEnd, PATH_CHARS)) return null;
+
+        //查询参数和锚点不参与拼接 只需要保证 URI 能够解析
+        int fragment = baseUrl.indexOf('#', pathEnd);
+        int queryEnd = fragment < 0 ? baseUrl.length() : fragment;
+        if (!isValidChars(baseUrl, pathEnd, queryEnd, QUERY_CHARS)) return null;
+        if (fragment >= 0 && (baseUrl.indexOf('#', fragment + 1) >= 0 || !isValidChars(baseUrl, fragment + 1, baseUrl.length(), QUERY_CHARS))) return null;
+
+        String path = baseUrl.substring(pathStart, pathEnd);
+        return new UrlPathResolver(baseUrl.substring(0, pathStart), path.substring(0, path.lastIndexOf('/') + 1));
+    }
+
+    /**
+     * 拼接路径 无法快速处理时返回null
+     */
+    public String resolve(String path) {
+        if (path == null || path.isEmpty()) return null;
+        char first = path.charAt(0);
+        //查询参数或锚点开头的引用 以及 //主机 开头的引用
+        if (first == '?' || first == '#' || path.startsWith("//")) return null;
+
+        int length = path.length();
+        int pathEnd = 0;
+        boolean hasSlash = false;
+        while (pathEnd < length) {
+            char c = path.charAt(pathEnd);
+            if (c == '?' || c == '#') break;
+            //第一段中包含 : 时会被 URI 当作协议
+            if (c == ':' && !hasSlash) return null;
+            if (c == '/') hasSlash = true;
+            pathEnd++;
+        }
+        if (!isValidChars(path, 0, pathEnd, PATH_CHARS)) return null;
+
+        int fragment = path.indexOf('#', pathEnd);
+        int queryEnd = fragment < 0 ? length : fragment;
+        if (!isValidChars(path, pathEnd, queryEnd, QUERY_CHARS)) return null;
+        if (fragment >= 0 && (path.indexOf('#', fragment + 1) >= 0 || !isValidChars(path, fragment + 1, length, QUERY_CHARS))) return null;
+
+        String resolvedPath;
+        if (first == '/') {
+            //绝对路径 URI 不会进行规范化
+            resolvedPath = path.substring(0, pathEnd);
+        } else {
+            resolvedPath = removeDotSegments(baseDir + path.substring(0, pathEnd));
+            if (resolvedPath == null) return null;
+        }
+        return pathEnd == length ? prefix + resolvedPath : prefix + resolvedPath + path.substring(pathEnd);
+    }
+
+    /**
+     * 移除路径中的 . 和 .. 段 与 URI.normalize 一致, 包含连续的 / 或 .. 超出根目录时返回null
+     */
+    private static String removeDotSegments(String path) {
+        if (path.contains("//")) return null;
+        if (path.indexOf('.') < 0) return path;
+
+        List<String> segments = new ArrayList<>();
+        boolean trailingSlash = false;
+        int start = 1;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) end = path.length();
+            String segment = path.substring(start, end);
+            boolean last = end == path.length();
+
+            if (segment.equals(".")) {
+                trailingSlash = last;
+            } else if (segment.equals("..")) {
+                if (segments.isEmpty()) return null;
+                segments.remove(segments.size() - 1);
+                trailingSlash = last;
+            } else if (!segment.isEmpty()) {
+                segments.add(segment);
+                trailingSlash = false;
+            } else {
+                trailingSlash = true;
+            }
+            start = end + 1;
+        }
+
+        StringBuilder builder = new StringBuilder(path.length());
+        for (String segment : segments) {
+            builder.append('/').append(segment);
+        }
+        if (trailingSlash || segments.isEmpty()) builder.append('/');
+        return builder.toString();
+    }
+
+    /**
+     * 协议 字母开头, 只包含字母数字+-.
+     */
+    private static boolean isValidScheme(String url, int end) {
+        if (end <= 0 || !isAlpha(url.charAt(0))) return false;
+        for (int i = 1; i < end; i++) {
+            char c = url.charAt(i);
+            if (!isAlpha(c) && !isDigit(c) && c != '+' && c != '-' && c != '.') return false;
+        }
+        return true;
+    }
+
+    /**
+     * 主机只包含字母数字.-, 端口为不以0开头的数字 URI 输出时会格式化的写法(空端口、端口前导0、用户信息等)不处理
+     */
+    private static boolean isValidAuthority(String url, int start, int end) {
+        int colon = url.indexOf(':', start);
+        int hostEnd = colon >= 0 && colon < end ? colon : end;
+        if (hostEnd == start) return false;
+        for (int i = start; i < hostEnd; i++) {
+            char c = url.charAt(i);
+            if (!isAlpha(c) && !isDigit(c) && c != '.' && c != '-') return false;
+        }
+        if (hostEnd == end) return true;
+
+        int portLength = end - hostEnd - 1;
+        if (portLength < 1 || portLength > 5) return false;
+        if (url.charAt(hostEnd + 1) == '0' && portLength > 1) return false;
+        for (int i = hostEnd + 1; i < end; i++) {
+            if (!isDigit(url.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 判断字符是否都在允许的范围内 %后必须是两位十六进制数
+     */
+    private static boolean isValidChars(String text, int start, int end, boolean[] allowed) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= ASCII_SIZE || !allowed[c]) return false;
+            if (c == '%') {
+                if (i + 2 >= end) return false;
+                if (!isHex(text.charAt(i + 1)) || !isHex(text.charAt(i + 2))) return false;
+                i += 2;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAlpha(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHex(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+}
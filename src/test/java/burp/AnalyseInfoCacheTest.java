@@ -0,0 +1,150 @@
+package burp;
+
+import com.alibaba.fastjson2.JSON;
+import model.AnalyseUrlResultModel;
+import model.FingerPrintRulesWrapper;
+import model.HttpMsgInfo;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import utils.AnalyseCacheUtils;
+import utils.BurpPrintUtils;
+import utils.ConfigUtils;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 相同响应体在不同地址上命中分析缓存时 按JS文件地址计算的URL必须使用当前请求的地址
+ */
+public class AnalyseInfoCacheTest {
+    private static final StringBuilder JS_BODY = new StringBuilder();
+
+    static {
+        JS_BODY.append("(function(){var routes=[];");
+        //响应体超过最小缓存长度
+        for (int i = 0; i < 64; i++) JS_BODY.append("routes.push(").append(i).append(");");
+        JS_BODY.append("import(\"./About-a1b2c3.js\");");
+        JS_BODY.append("})();\n//# sourceMappingURL=app.js.map\n");
+    }
+
+    @BeforeClass
+    public static void init() throws Exception {
+        PrintWriter nullWriter = new PrintWriter(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+        });
+        new BurpPrintUtils(nullWriter, nullWriter);
+        BurpExtender.SHOW_MSG_LEVEL = BurpPrintUtils.LOG_ERROR;
+
+        //必须在 HttpMsgInfo 和 HttpRespInfo 加载前设置
+        installHelpers();
+
+        try (InputStream inputStream = AnalyseInfoCacheTest.class.getResourceAsStream("/conf/" + BurpExtender.configName)) {
+            String rulesJson = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+            BurpExtender.fingerprintRules = JSON.parseObject(rulesJson, FingerPrintRulesWrapper.class).getFingerprint();
+        }
+        ConfigUtils.reloadConfigArrayListFromRules(BurpExtender.fingerprintRules);
+
+        IProxyScanner.maxPatterChunkSize = BurpExtender.maxPatterChunkSizeDefault;
+        IProxyScanner.maxPatterChunkOverlap = BurpExtender.maxPatterChunkOverlapDefault;
+        IProxyScanner.regexMatchTimeout = BurpExtender.regexMatchTimeoutDefault;
+        IProxyScanner.regexMatchMaxSteps = BurpExtender.regexMatchMaxStepsDefault;
+        IProxyScanner.regexMaxStrikes = BurpExtender.regexMaxStrikesDefault;
+        IProxyScanner.sourceMapExtract = true;
+        IProxyScanner.analyseCacheSize = 16;
+    }
+
+    @After
+    public void clearCache() {
+        AnalyseCacheUtils.clearMemoryCache();
+    }
+
+    @Test
+    public void chunkUrlsFollowRequestUrlOnCacheHit() {
+        List<String> firstUrls = analyseUrls("https://a.example.com/static/js/app.js");
+        assertTrue(firstUrls.toString(), firstUrls.contains("https://a.example.com/static/js/About-a1b2c3.js"));
+
+        List<String> secondUrls = analyseUrls("https://b.example.com/assets/app.js");
+        assertTrue(secondUrls.toString(), secondUrls.contains("https://b.example.com/assets/About-a1b2c3.js"));
+        assertFalse(secondUrls.toString(), secondUrls.contains("https://a.example.com/static/js/About-a1b2c3.js"));
+    }
+
+    @Test
+    public void sourceMapUrlFollowsRequestUrlOnCacheHit() {
+        List<String> firstUrls = analyseUrls("https://a.example.com/static/js/app.js");
+        assertTrue(firstUrls.toString(), firstUrls.contains("https://a.example.com/static/js/app.js.map"));
+
+        List<String> secondUrls = analyseUrls("https://b.example.com/assets/app.js");
+        assertTrue(secondUrls.toString(), secondUrls.contains("https://b.example.com/assets/app.js.map"));
+        assertFalse(secondUrls.toString(), secondUrls.contains("https://a.example.com/static/js/app.js.map"));
+    }
+
+    /**
+     * 分析JS响应 返回提取和拼接得到的所有URL
+     */
+    private static List<String> analyseUrls(String reqUrl) {
+        byte[] bodyBytes = JS_BODY.toString().getBytes(StandardCharsets.UTF_8);
+        String headers = "HTTP/1.1 200 OK\r\nContent-Type: application/javascript\r\nContent-Length: " + bodyBytes.length + "\r\n\r\n";
+        byte[] headerBytes = headers.getBytes(StandardCharsets.UTF_8);
+        byte[] respBytes = new byte[headerBytes.length + bodyBytes.length];
+        System.arraycopy(headerBytes, 0, respBytes, 0, headerBytes.length);
+        System.arraycopy(bodyBytes, 0, respBytes, headerBytes.length, bodyBytes.length);
+        byte[] reqBytes = ("GET " + reqUrl.substring(reqUrl.indexOf('/', 8)) + " HTTP/1.1\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+
+        AnalyseUrlResultModel result = AnalyseInfo.analyseMsgInfo(new HttpMsgInfo(reqUrl, reqBytes, respBytes, reqUrl));
+        List<String> urls = new ArrayList<>(result.getUrlList());
+        urls.addAll(result.getApiList());
+        return urls;
+    }
+
+    /**
+     * 使用代理对象模拟 Burp 的请求和响应解析 只实现分析流程用到的方法
+     */
+    private static void installHelpers() throws ReflectiveOperationException {
+        IExtensionHelpers helpers = (IExtensionHelpers) Proxy.newProxyInstance(AnalyseInfoCacheTest.class.getClassLoader(), new Class[]{IExtensionHelpers.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "analyzeRequest":
+                    return Proxy.newProxyInstance(AnalyseInfoCacheTest.class.getClassLoader(), new Class[]{IRequestInfo.class},
+                            (p, m, a) -> m.getName().equals("getMethod") ? "GET" : null);
+                case "analyzeResponse":
+                    return analyzeResponse((byte[]) args[0]);
+                default:
+                    return null;
+            }
+        });
+
+        Field helpersField = BurpExtender.class.getDeclaredField("helpers");
+        helpersField.setAccessible(true);
+        helpersField.set(null, helpers);
+    }
+
+    private static IResponseInfo analyzeResponse(byte[] respBytes) {
+        String response = new String(respBytes, StandardCharsets.ISO_8859_1);
+        int bodyOffset = response.indexOf("\r\n\r\n") + 4;
+        return (IResponseInfo) Proxy.newProxyInstance(AnalyseInfoCacheTest.class.getClassLoader(), new Class[]{IResponseInfo.class}, (p, m, a) -> {
+            switch (m.getName()) {
+                case "getStatusCode":
+                    return (short) 200;
+                case "getBodyOffset":
+                    return bodyOffset;
+                case "getInferredMimeType":
+                case "getStatedMimeType":
+                    return "script";
+                default:
+                    return null;
+            }
+        });
+    }
+}
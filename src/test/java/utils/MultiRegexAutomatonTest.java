@@ -0,0 +1,68 @@
+package utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 合并扫描的结果必须是原引擎命中结果的超集 重点覆盖包含增补字符的文本
+ */
+public class MultiRegexAutomatonTest {
+    private static final List<String> REGEXES = Arrays.asList(
+            "a.b",
+            "a\\x{1F600}b",
+            "a[\\x{1F600}]b",
+            "a[^x]b",
+            "a[^x]{2}b",
+            "a\\Wb",
+            "a\\Sb",
+            "a\\Db",
+            "a\\p{So}b",
+            "a😀b",
+            "a[😀]b",
+            "x😀*y",
+            "x\\uD83D\\uDE00+y",
+            "a.+?b",
+            "(?x) a b  # comment",
+            "(?x:a\\ b)",
+            "key=[\"']?\\w{4,}"
+    );
+
+    private static final String[] PARTS = {"a", "b", "x", "y", "A", "B", " ", "#", "中", "😀", "🎉", "key=", "'", "abcd"};
+
+    @Test
+    public void scanIsSupersetOfJdkOnSupplementaryText() {
+        MultiRegexAutomaton automaton = new MultiRegexAutomaton(REGEXES);
+        Random random = new Random(20240601L);
+        for (int round = 0; round < 20000; round++) {
+            StringBuilder text = new StringBuilder();
+            int count = 1 + random.nextInt(8);
+            for (int i = 0; i < count; i++) text.append(PARTS[random.nextInt(PARTS.length)]);
+            assertSuperset(automaton, text.toString());
+        }
+    }
+
+    @Test
+    public void dotAndCodePointEscapeMatchSurrogatePair() {
+        MultiRegexAutomaton automaton = new MultiRegexAutomaton(REGEXES);
+        assertSuperset(automaton, "a😀b");
+        assertSuperset(automaton, "x😀😀y");
+        assertSuperset(automaton, "ab");
+    }
+
+    private static void assertSuperset(MultiRegexAutomaton automaton, String text) {
+        BitSet hits = automaton.scan(text);
+        for (String regex : REGEXES) {
+            boolean jdkHit = Pattern.compile(regex, Pattern.CASE_INSENSITIVE).matcher(text).find();
+            if (jdkHit) {
+                assertTrue(String.format("missed %s on %s", regex, text), automaton.isHit(hits, regex));
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package utils;
+
+import burp.IProxyScanner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 记录的是过滤后格式化的URL 未格式化的原始URL查询时必须命中相同的记录
+ */
+public class SeenUriUtilsTest {
+    private int seenUriHostSize;
+
+    @Before
+    public void enable() {
+        seenUriHostSize = IProxyScanner.seenUriHostSize;
+        IProxyScanner.seenUriHostSize = 16;
+    }
+
+    @After
+    public void restore() {
+        SeenUriUtils.clear();
+        IProxyScanner.seenUriHostSize = seenUriHostSize;
+    }
+
+    @Test
+    public void rawUrlMatchesFormattedRecord() {
+        List<String> rawUrls = Arrays.asList("http://a.com:80/x", "https://a.com", "https://a.com:443/api/list?id=1");
+        LongHashSet seenSet = SeenUriUtils.getHostSeenSet("http://a.com/");
+
+        //与分析流程一致 记录过滤后的URL
+        List<String> filteredUrls = Arrays.asList(
+                UriFilterChain.formatUrl(rawUrls.get(0)),
+                UriFilterChain.formatUrl(rawUrls.get(1)),
+                UriFilterChain.formatUrl(rawUrls.get(2)));
+        assertEquals(Arrays.asList("http://a.com/x", "https://a.com/", "https://a.com/api/list?id=1"), filteredUrls);
+        SeenUriUtils.addSeenUris(seenSet, filteredUrls, null);
+
+        assertEquals(Collections.emptyList(), SeenUriUtils.removeSeenUris(seenSet, rawUrls, null));
+    }
+
+    @Test
+    public void nonDefaultPortIsNotSeen() {
+        LongHashSet seenSet = SeenUriUtils.getHostSeenSet("http://a.com/");
+        SeenUriUtils.addSeenUris(seenSet, Collections.singletonList("http://a.com/x"), null);
+
+        List<String> rawUrls = Arrays.asList("http://a.com:8080/x", "https://a.com:80/x");
+        assertEquals(rawUrls, SeenUriUtils.removeSeenUris(seenSet, rawUrls, null));
+    }
+}